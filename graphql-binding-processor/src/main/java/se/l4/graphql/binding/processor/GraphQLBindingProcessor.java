@@ -0,0 +1,791 @@
+package se.l4.graphql.binding.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates a binding for every type that has
+ * members annotated with GraphQL binding annotations. The binding gives
+ * the runtime direct access to the annotated methods, constructors and
+ * fields, see {@code se.l4.graphql.binding.generated.GeneratedBinding}.
+ *
+ * <p>
+ * Members that can not be called from generated code in the same package,
+ * such as private members or members of private types, are skipped and
+ * accessed the same way as without the processor.
+ *
+ * <p>
+ * The processor also writes a {@code reflect-config.json} for GraalVM
+ * native images, registering the bound types, classes referenced from
+ * binding annotations and the generated bindings. The file is written to
+ * {@code META-INF/native-image/graphql-binding/<name>/} where the name
+ * defaults to {@code generated} and can be changed with the option
+ * {@code -Agraphql.binding.nativeImage=<name>}. Use {@code false} as the
+ * name to not write the file.
+ *
+ * <p>
+ * Types annotated with {@code GraphQLObject}, {@code GraphQLRoot} or any
+ * of the other type level annotations are written to the index at
+ * {@code META-INF/graphql-binding/index}, which lets the binder discover
+ * them without scanning the class path. The index can be turned off with
+ * {@code -Agraphql.binding.index=false}.
+ *
+ * <p>
+ * Both of these files aggregate all types in the output directory. When
+ * only some sources are compiled, such as during an incremental build, the
+ * entries of the existing files are kept for types that were not compiled
+ * again and that can still be found. The processor is registered as
+ * aggregating for incremental compilation in Gradle.
+ */
+@SupportedAnnotationTypes("se.l4.graphql.binding.annotations.*")
+@SupportedOptions({ GraphQLBindingProcessor.NATIVE_IMAGE_OPTION, GraphQLBindingProcessor.INDEX_OPTION })
+public class GraphQLBindingProcessor
+	extends AbstractProcessor
+{
+	/**
+	 * Suffix of generated bindings, must match {@code GeneratedBinding.SUFFIX}.
+	 */
+	static final String SUFFIX = "_GraphQLBinding";
+
+	/**
+	 * Option used to set the name of the native image configuration.
+	 */
+	static final String NATIVE_IMAGE_OPTION = "graphql.binding.nativeImage";
+
+	/**
+	 * Option used to turn off the index of annotated types.
+	 */
+	static final String INDEX_OPTION = "graphql.binding.index";
+
+	/**
+	 * Location of the index, must match the location read by the binder.
+	 */
+	static final String INDEX = "META-INF/graphql-binding/index";
+
+	/**
+	 * Annotations that mark types discovered by the binder.
+	 */
+	private static final Set<String> INDEXED_ANNOTATIONS = Set.of(
+		"se.l4.graphql.binding.annotations.GraphQLObject",
+		"se.l4.graphql.binding.annotations.GraphQLInputObject",
+		"se.l4.graphql.binding.annotations.GraphQLEnum",
+		"se.l4.graphql.binding.annotations.GraphQLInterface",
+		"se.l4.graphql.binding.annotations.GraphQLUnion",
+		"se.l4.graphql.binding.annotations.GraphQLRoot",
+		"se.l4.graphql.binding.annotations.GraphQLAutoRegister"
+	);
+
+	private static final String BINDING = "se.l4.graphql.binding.generated.GeneratedBinding";
+	private static final String MEMBERS = "se.l4.graphql.binding.generated.GeneratedMembers";
+	private static final String GENERATED_INVOKER = "se.l4.graphql.binding.generated.GeneratedInvoker";
+
+	/**
+	 * Members with up to this many parameters get invokers that can be called
+	 * without an argument array, matches the invoke methods of
+	 * {@code GeneratedInvoker}.
+	 */
+	private static final int MAX_FIXED_ARITY = 4;
+
+	/**
+	 * Entry in an existing {@code reflect-config.json}, captures the name of
+	 * the type and the first key after it.
+	 */
+	private static final Pattern CONFIG_ENTRY = Pattern.compile("\"name\": \"([^\"]+)\",\\s*\"(\\w+)\"");
+
+	private final Set<String> generated;
+	private final Set<String> writtenBindings;
+	private final Map<String, TypeElement> reflectedTypes;
+	private final Map<String, TypeElement> indexedTypes;
+	private final Set<String> index;
+
+	/*
+	 * Binary names of all types in the sources being compiled, used to know
+	 * which entries of existing aggregate files are replaced.
+	 */
+	private final Set<String> compiledTypes;
+
+	public GraphQLBindingProcessor()
+	{
+		compiledTypes = new HashSet<>();
+		generated = new HashSet<>();
+		writtenBindings = new TreeSet<>();
+		reflectedTypes = new TreeMap<>();
+		indexedTypes = new TreeMap<>();
+		index = new TreeSet<>();
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for(Element root : roundEnv.getRootElements())
+		{
+			collectCompiled(root);
+		}
+
+		Map<TypeElement, Set<Element>> members = new LinkedHashMap<>();
+		for(TypeElement annotation : annotations)
+		{
+			for(Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				collectReflected(element, annotation);
+				collectIndexed(element, annotation);
+
+				Element member = element.getKind() == ElementKind.PARAMETER
+					? element.getEnclosingElement()
+					: element;
+
+				switch(member.getKind())
+				{
+					case METHOD:
+					case CONSTRUCTOR:
+					case FIELD:
+						members.computeIfAbsent(
+							(TypeElement) member.getEnclosingElement(),
+							k -> new LinkedHashSet<>()
+						).add(member);
+						break;
+					default:
+						// Types and other elements do not need direct access
+				}
+			}
+		}
+
+		for(Map.Entry<TypeElement, Set<Element>> e : members.entrySet())
+		{
+			generate(e.getKey(), e.getValue());
+		}
+
+		if(roundEnv.processingOver())
+		{
+			writeNativeImageConfig();
+			writeIndex();
+		}
+
+		// Other processors may also want to see the binding annotations
+		return false;
+	}
+
+	private void generate(TypeElement type, Set<Element> members)
+	{
+		Elements elements = processingEnv.getElementUtils();
+		PackageElement pkg = elements.getPackageOf(type);
+
+		if(! isAccessible(type, pkg))
+		{
+			return;
+		}
+
+		String binaryName = elements.getBinaryName(type).toString();
+		if(! generated.add(binaryName))
+		{
+			return;
+		}
+
+		List<String> registrations = new ArrayList<>();
+		for(Element member : members)
+		{
+			String registration = register(type, pkg, member);
+			if(registration != null)
+			{
+				registrations.add(registration);
+			}
+		}
+
+		if(registrations.isEmpty())
+		{
+			return;
+		}
+
+		String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+		String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+			+ SUFFIX;
+
+		StringBuilder source = new StringBuilder();
+		if(! packageName.isEmpty())
+		{
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source
+			.append("/**\n")
+			.append(" * Binding for {@link ").append(type.getQualifiedName()).append("}, generated by\n")
+			.append(" * graphql-binding-processor.\n")
+			.append(" */\n")
+			.append("public final class ").append(simpleName).append("\n")
+			.append("\timplements ").append(BINDING).append("\n")
+			.append("{\n")
+			.append("\t@Override\n")
+			.append("\t@SuppressWarnings({ \"unchecked\", \"rawtypes\", \"deprecation\" })\n")
+			.append("\tpublic void register(").append(MEMBERS).append(" members)\n")
+			.append("\t{\n");
+
+		for(String registration : registrations)
+		{
+			source.append("\t\t").append(registration).append("\n");
+		}
+
+		source
+			.append("\t}\n")
+			.append("}\n");
+
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+		Filer filer = processingEnv.getFiler();
+		try(Writer writer = filer.createSourceFile(qualifiedName, type).openWriter())
+		{
+			writer.write(source.toString());
+			writtenBindings.add(binaryName + SUFFIX);
+		}
+		catch(IOException e)
+		{
+			processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.ERROR,
+				"Unable to write GraphQL binding " + qualifiedName + "; " + e.getMessage(),
+				type
+			);
+		}
+	}
+
+	/**
+	 * Collect the types that need to be registered for reflection in a
+	 * native image, based on an annotated element.
+	 */
+	private void collectReflected(Element element, TypeElement annotation)
+	{
+		Element type = element;
+		while(type != null && ! (type instanceof TypeElement))
+		{
+			type = type.getEnclosingElement();
+		}
+
+		if(type != null)
+		{
+			addReflected((TypeElement) type);
+		}
+
+		// Classes referenced from the annotation may be created via an instance factory
+		for(AnnotationMirror mirror : element.getAnnotationMirrors())
+		{
+			if(! mirror.getAnnotationType().asElement().equals(annotation))
+			{
+				continue;
+			}
+
+			for(AnnotationValue value : mirror.getElementValues().values())
+			{
+				collectReferenced(value.getValue());
+			}
+		}
+	}
+
+	private void collectReferenced(Object value)
+	{
+		if(value instanceof DeclaredType)
+		{
+			addReflected((TypeElement) ((DeclaredType) value).asElement());
+		}
+		else if(value instanceof List)
+		{
+			for(Object item : (List<?>) value)
+			{
+				collectReferenced(((AnnotationValue) item).getValue());
+			}
+		}
+	}
+
+	private void addReflected(TypeElement type)
+	{
+		if(type.getNestingKind() == NestingKind.LOCAL
+			|| type.getNestingKind() == NestingKind.ANONYMOUS)
+		{
+			return;
+		}
+
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		reflectedTypes.putIfAbsent(binaryName, type);
+	}
+
+	/**
+	 * Add a type to the index if it is annotated with one of the type level
+	 * annotations.
+	 */
+	private void collectIndexed(Element element, TypeElement annotation)
+	{
+		String annotationName = annotation.getQualifiedName().toString();
+		if(! (element instanceof TypeElement) || ! INDEXED_ANNOTATIONS.contains(annotationName))
+		{
+			return;
+		}
+
+		TypeElement type = (TypeElement) element;
+		if(type.getNestingKind() == NestingKind.LOCAL
+			|| type.getNestingKind() == NestingKind.ANONYMOUS)
+		{
+			return;
+		}
+
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		indexedTypes.putIfAbsent(binaryName, type);
+		index.add(annotationName + " " + binaryName);
+	}
+
+	private void collectCompiled(Element element)
+	{
+		if(! (element instanceof TypeElement))
+		{
+			return;
+		}
+
+		compiledTypes.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+		for(Element enclosed : element.getEnclosedElements())
+		{
+			collectCompiled(enclosed);
+		}
+	}
+
+	/**
+	 * Get if an entry of an existing aggregate file for the given type should
+	 * be kept. Entries are kept if the type was not compiled in this
+	 * compilation and can still be found.
+	 */
+	private boolean isKept(String binaryName)
+	{
+		return ! compiledTypes.contains(binaryName)
+			&& processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+	}
+
+	/**
+	 * Read the lines of a resource written by an earlier compilation, empty
+	 * if there is no such resource.
+	 */
+	private List<String> readExisting(String path)
+	{
+		try
+		{
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+			try(BufferedReader reader = new BufferedReader(file.openReader(true)))
+			{
+				List<String> lines = new ArrayList<>();
+				String line;
+				while((line = reader.readLine()) != null)
+				{
+					lines.add(line);
+				}
+				return lines;
+			}
+		}
+		catch(IOException | IllegalArgumentException e)
+		{
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Write the index of annotated types, one line per annotation and type.
+	 */
+	private void writeIndex()
+	{
+		if("false".equals(processingEnv.getOptions().get(INDEX_OPTION)))
+		{
+			return;
+		}
+
+		List<String> existing = readExisting(INDEX);
+		for(String line : existing)
+		{
+			int idx = line.indexOf(' ');
+			if(idx > 0 && isKept(line.substring(idx + 1)))
+			{
+				index.add(line);
+			}
+		}
+
+		if(index.isEmpty() && existing.isEmpty())
+		{
+			return;
+		}
+
+		try(Writer writer = processingEnv.getFiler()
+			.createResource(
+				StandardLocation.CLASS_OUTPUT,
+				"",
+				INDEX,
+				indexedTypes.values().toArray(new Element[0])
+			)
+			.openWriter())
+		{
+			for(String line : index)
+			{
+				writer.write(line);
+				writer.write('\n');
+			}
+		}
+		catch(IOException e)
+		{
+			processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.ERROR,
+				"Unable to write " + INDEX + "; " + e.getMessage()
+			);
+		}
+	}
+
+	/**
+	 * Write the reflection configuration used by GraalVM native images.
+	 */
+	private void writeNativeImageConfig()
+	{
+		String name = processingEnv.getOptions().getOrDefault(NATIVE_IMAGE_OPTION, "generated");
+		if("false".equals(name))
+		{
+			return;
+		}
+
+		String path = "META-INF/native-image/graphql-binding/" + name + "/reflect-config.json";
+
+		// Keep the entries written by earlier compilations
+		Set<String> types = new TreeSet<>(reflectedTypes.keySet());
+		Set<String> bindings = new TreeSet<>(writtenBindings);
+		List<String> existing = readExisting(path);
+		Matcher matcher = CONFIG_ENTRY.matcher(String.join("\n", existing));
+		while(matcher.find())
+		{
+			String type = matcher.group(1);
+			if("methods".equals(matcher.group(2)))
+			{
+				if(type.endsWith(SUFFIX)
+					&& isKept(type.substring(0, type.length() - SUFFIX.length()))
+					&& isKept(type))
+				{
+					bindings.add(type);
+				}
+			}
+			else if(isKept(type))
+			{
+				types.add(type);
+			}
+		}
+
+		if(types.isEmpty() && bindings.isEmpty() && existing.isEmpty())
+		{
+			return;
+		}
+
+		StringBuilder json = new StringBuilder("[\n");
+		boolean first = true;
+		for(String type : types)
+		{
+			if(! first) json.append(",\n");
+			first = false;
+
+			json.append("  {\n")
+				.append("    \"name\": \"").append(type).append("\",\n")
+				.append("    \"allDeclaredConstructors\": true,\n")
+				.append("    \"allPublicConstructors\": true,\n")
+				.append("    \"allDeclaredMethods\": true,\n")
+				.append("    \"allPublicMethods\": true,\n")
+				.append("    \"allDeclaredFields\": true,\n")
+				.append("    \"allPublicFields\": true\n")
+				.append("  }");
+		}
+
+		for(String binding : bindings)
+		{
+			if(! first) json.append(",\n");
+			first = false;
+
+			json.append("  {\n")
+				.append("    \"name\": \"").append(binding).append("\",\n")
+				.append("    \"methods\": [ { \"name\": \"<init>\", \"parameterTypes\": [] } ]\n")
+				.append("  }");
+		}
+
+		json.append("\n]\n");
+		try(Writer writer = processingEnv.getFiler()
+			.createResource(
+				StandardLocation.CLASS_OUTPUT,
+				"",
+				path,
+				reflectedTypes.values().toArray(new Element[0])
+			)
+			.openWriter())
+		{
+			writer.write(json.toString());
+		}
+		catch(IOException e)
+		{
+			processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.ERROR,
+				"Unable to write " + path + "; " + e.getMessage()
+			);
+		}
+	}
+
+	/**
+	 * Create the statement that registers a member, or {@code null} if the
+	 * member can not be accessed directly.
+	 */
+	private String register(TypeElement type, PackageElement pkg, Element member)
+	{
+		if(member.getModifiers().contains(Modifier.PRIVATE))
+		{
+			return null;
+		}
+
+		boolean isStatic = member.getModifiers().contains(Modifier.STATIC);
+		String typeName = type.getQualifiedName().toString();
+		String receiver = isStatic ? typeName : "((" + typeName + ") instance)";
+
+		if(member.getKind() == ElementKind.FIELD)
+		{
+			VariableElement field = (VariableElement) member;
+			if(! isAccessible(field.asType(), pkg))
+			{
+				return null;
+			}
+
+			String name = field.getSimpleName().toString();
+			String setter = field.getModifiers().contains(Modifier.FINAL)
+				? "null"
+				: "(instance, value) -> " + receiver + "." + name + " = (" + castName(field.asType()) + ") value";
+
+			return "members.field(\"" + name + "\", instance -> " + receiver + "." + name + ", " + setter + ");";
+		}
+
+		ExecutableElement executable = (ExecutableElement) member;
+
+		StringBuilder parameterTypes = new StringBuilder("new Class<?>[] { ");
+		StringBuilder arguments = new StringBuilder();
+		StringBuilder fixedParameters = new StringBuilder("Object instance");
+		StringBuilder fixedArguments = new StringBuilder();
+		StringBuilder fixedFromArray = new StringBuilder("instance");
+		int i = 0;
+		for(VariableElement parameter : executable.getParameters())
+		{
+			TypeMirror parameterType = parameter.asType();
+			if(! isAccessible(parameterType, pkg))
+			{
+				return null;
+			}
+
+			if(i > 0)
+			{
+				parameterTypes.append(", ");
+				arguments.append(", ");
+				fixedArguments.append(", ");
+			}
+
+			parameterTypes.append(erasedName(parameterType)).append(".class");
+			arguments.append("(").append(castName(parameterType)).append(") args[").append(i).append("]");
+
+			fixedParameters.append(", Object a").append(i);
+			fixedArguments.append("(").append(castName(parameterType)).append(") a").append(i);
+			fixedFromArray.append(", args[").append(i).append("]");
+			i++;
+		}
+		parameterTypes.append(" }");
+
+		boolean fixedArity = i <= MAX_FIXED_ARITY;
+
+		if(executable.getKind() == ElementKind.CONSTRUCTOR)
+		{
+			if(type.getModifiers().contains(Modifier.ABSTRACT)
+				|| type.getKind() != ElementKind.CLASS
+				|| isInner(type))
+			{
+				return null;
+			}
+
+			if(fixedArity)
+			{
+				return "members.constructor(" + parameterTypes + ", "
+					+ invoker(fixedParameters, fixedFromArray, "return new " + typeName + "(" + fixedArguments + ");")
+					+ ");";
+			}
+
+			return "members.constructor(" + parameterTypes + ", (instance, args) -> new "
+				+ typeName + "(" + arguments + "));";
+		}
+
+		if(! isAccessible(executable.getReturnType(), pkg))
+		{
+			return null;
+		}
+
+		String name = executable.getSimpleName().toString();
+		boolean isVoid = executable.getReturnType().getKind() == TypeKind.VOID;
+
+		if(fixedArity)
+		{
+			String fixedCall = receiver + "." + name + "(" + fixedArguments + ");";
+			return "members.method(\"" + name + "\", " + parameterTypes + ", "
+				+ invoker(fixedParameters, fixedFromArray, isVoid ? fixedCall + " return null;" : "return " + fixedCall)
+				+ ");";
+		}
+
+		String call = receiver + "." + name + "(" + arguments + ")";
+		String body = isVoid
+			? "{ " + call + "; return null; }"
+			: call;
+
+		return "members.method(\"" + name + "\", " + parameterTypes + ", (instance, args) -> " + body + ");";
+	}
+
+	/**
+	 * Create an invoker that implements the fixed arity method matching the
+	 * member, with the array variant delegating to it.
+	 */
+	private String invoker(CharSequence parameters, CharSequence fromArray, String body)
+	{
+		return "new " + GENERATED_INVOKER + "() {"
+			+ " @Override public Object invoke(" + parameters + ") throws Throwable { " + body + " }"
+			+ " @Override public Object invoke(Object instance, Object[] args) throws Throwable { return invoke(" + fromArray + "); }"
+			+ " }";
+	}
+
+	private boolean isInner(TypeElement type)
+	{
+		return type.getNestingKind() == NestingKind.MEMBER
+			&& ! type.getModifiers().contains(Modifier.STATIC);
+	}
+
+	/**
+	 * Get if the given type, and all types it is nested in, can be used from
+	 * generated code in the given package.
+	 */
+	private boolean isAccessible(TypeElement type, PackageElement pkg)
+	{
+		Elements elements = processingEnv.getElementUtils();
+		boolean samePackage = elements.getPackageOf(type).equals(pkg);
+
+		Element current = type;
+		while(current instanceof TypeElement)
+		{
+			TypeElement t = (TypeElement) current;
+			if(t.getNestingKind() == NestingKind.LOCAL
+				|| t.getNestingKind() == NestingKind.ANONYMOUS
+				|| t.getModifiers().contains(Modifier.PRIVATE))
+			{
+				return false;
+			}
+
+			if(! samePackage && ! t.getModifiers().contains(Modifier.PUBLIC))
+			{
+				return false;
+			}
+
+			current = t.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	private boolean isAccessible(TypeMirror type, PackageElement pkg)
+	{
+		TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+		switch(erased.getKind())
+		{
+			case ARRAY:
+				return isAccessible(((ArrayType) erased).getComponentType(), pkg);
+			case DECLARED:
+				return isAccessible((TypeElement) ((DeclaredType) erased).asElement(), pkg);
+			case ERROR:
+				return false;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Get the name of the erasure of the given type, as used in a class
+	 * literal.
+	 */
+	private String erasedName(TypeMirror type)
+	{
+		TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+		switch(erased.getKind())
+		{
+			case BOOLEAN:
+				return "boolean";
+			case BYTE:
+				return "byte";
+			case SHORT:
+				return "short";
+			case INT:
+				return "int";
+			case LONG:
+				return "long";
+			case CHAR:
+				return "char";
+			case FLOAT:
+				return "float";
+			case DOUBLE:
+				return "double";
+			case ARRAY:
+				return erasedName(((ArrayType) erased).getComponentType()) + "[]";
+			case DECLARED:
+				return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+			default:
+				return "java.lang.Object";
+		}
+	}
+
+	/**
+	 * Get the name to cast an {@link Object} to before it is passed as the
+	 * given type, primitives are cast to their boxed type.
+	 */
+	private String castName(TypeMirror type)
+	{
+		if(type.getKind().isPrimitive())
+		{
+			Types types = processingEnv.getTypeUtils();
+			return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+		}
+
+		return erasedName(type);
+	}
+}
@@ -0,0 +1,345 @@
+package se.l4.graphql.binding.processor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.generated.GeneratedBinding;
+import se.l4.graphql.binding.generated.GeneratedFieldGetter;
+import se.l4.graphql.binding.generated.GeneratedFieldSetter;
+import se.l4.graphql.binding.generated.GeneratedInvoker;
+import se.l4.graphql.binding.generated.GeneratedMembers;
+
+public class GraphQLBindingProcessorTest
+{
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testGeneratesMembers()
+		throws Exception
+	{
+		ClassLoader loader = compile(
+			"package sample;",
+			"import se.l4.graphql.binding.annotations.*;",
+			"@GraphQLObject",
+			"public class Item {",
+			"  @GraphQLField public String name;",
+			"  @GraphQLField public final int count = 1;",
+			"  @GraphQLField private String hidden;",
+			"  @GraphQLFactory public Item(@GraphQLSource String name) { this.name = name; }",
+			"  @GraphQLField public java.util.List<String> tags(@GraphQLName(\"n\") int n, String[] extra) { return null; }",
+			"  @GraphQLField public static void reset() { }",
+			"  @GraphQLField Secret secret() { return null; }",
+			"  private static class Secret { }",
+			"}"
+		);
+
+		Recorder recorder = record(loader, "sample.Item");
+		assertThat(recorder.names(), is(new TreeSet<>(List.of(
+			"<init>[class java.lang.String]",
+			"count",
+			"name",
+			"reset[]",
+			"tags[int, class [Ljava.lang.String;]"
+		))));
+
+		assertThat(recorder.setters.get("count"), is(false));
+		assertThat(recorder.setters.get("name"), is(true));
+	}
+
+	@Test
+	public void testNestedType()
+		throws Exception
+	{
+		ClassLoader loader = compile(
+			"package sample;",
+			"import se.l4.graphql.binding.annotations.*;",
+			"public class Outer {",
+			"  @GraphQLObject",
+			"  public static class Inner {",
+			"    @GraphQLField public String name() { return \"inner\"; }",
+			"  }",
+			"}"
+		);
+
+		Recorder recorder = record(loader, "sample.Outer$Inner");
+		assertThat(recorder.names(), is(new TreeSet<>(List.of("name[]"))));
+	}
+
+	@Test
+	public void testSchemaUsesBinding()
+		throws Exception
+	{
+		ClassLoader loader = compile(
+			"package sample;",
+			"import se.l4.graphql.binding.annotations.*;",
+			"public class Root {",
+			"  @GraphQLField public boolean direct() { return viaBinding(); }",
+			"  @GraphQLField public int sum(@GraphQLName(\"a\") int a, @GraphQLName(\"b\") int b) { return a + b; }",
+			"  static boolean viaBinding() {",
+			"    for(StackTraceElement e : new Throwable().getStackTrace()) {",
+			"      if(e.getClassName().contains(\"" + GeneratedBinding.SUFFIX + "\")) return true;",
+			"    }",
+			"    return false;",
+			"  }",
+			"}"
+		);
+
+		Object root = loader.loadClass("sample.Root").getConstructor().newInstance();
+		GraphQL ql = GraphQL.newGraphQL(GraphQLBinder.newBinder()
+			.withRoot(root)
+			.build()
+		).build();
+
+		ExecutionResult result = ql.execute("{ direct, sum(a: 1, b: 2) }");
+		assertThat(result.getErrors().isEmpty(), is(true));
+
+		Map<String, Object> data = result.getData();
+		assertThat(data.get("direct"), is(true));
+		assertThat(data.get("sum"), is(3));
+	}
+
+	@Test
+	public void testNativeImageConfig()
+		throws Exception
+	{
+		compile(
+			"package sample;",
+			"import se.l4.graphql.binding.annotations.*;",
+			"@GraphQLInterface",
+			"@GraphQLConvertFrom(Named.Source.class)",
+			"public interface Named {",
+			"  @GraphQLField String name();",
+			"  class Source { }",
+			"}"
+		);
+
+		String config = new String(
+			Files.readAllBytes(dir.resolve("out/META-INF/native-image/graphql-binding/generated/reflect-config.json")),
+			StandardCharsets.UTF_8
+		);
+
+		assertThat(config.contains("\"name\": \"sample.Named\""), is(true));
+		assertThat(config.contains("\"name\": \"sample.Named$Source\""), is(true));
+		assertThat(config.contains("\"name\": \"sample.Named_GraphQLBinding\""), is(true));
+	}
+
+	@Test
+	public void testIndex()
+		throws Exception
+	{
+		compile(
+			"package sample;",
+			"import se.l4.graphql.binding.annotations.*;",
+			"@GraphQLRoot",
+			"public class Query {",
+			"  @GraphQLField public Page page() { return null; }",
+			"  @GraphQLObject public static class Page { }",
+			"  @GraphQLEnum public enum Kind { A }",
+			"}"
+		);
+
+		List<String> index = Files.readAllLines(
+			dir.resolve("out/" + GraphQLBindingProcessor.INDEX),
+			StandardCharsets.UTF_8
+		);
+
+		assertThat(index, is(List.of(
+			"se.l4.graphql.binding.annotations.GraphQLEnum sample.Query$Kind",
+			"se.l4.graphql.binding.annotations.GraphQLObject sample.Query$Page",
+			"se.l4.graphql.binding.annotations.GraphQLRoot sample.Query"
+		)));
+	}
+
+	@Test
+	public void testIncrementalCompile()
+		throws Exception
+	{
+		compile(
+			"package sample;",
+			"import se.l4.graphql.binding.annotations.*;",
+			"@GraphQLObject",
+			"public class First {",
+			"  @GraphQLField public String name() { return null; }",
+			"}"
+		);
+
+		// Only the second type is compiled, the output of the first is kept
+		compile(
+			"package sample;",
+			"import se.l4.graphql.binding.annotations.*;",
+			"@GraphQLObject",
+			"public class Second {",
+			"  @GraphQLField public String name() { return null; }",
+			"}"
+		);
+
+		List<String> index = Files.readAllLines(
+			dir.resolve("out/" + GraphQLBindingProcessor.INDEX),
+			StandardCharsets.UTF_8
+		);
+
+		assertThat(index, is(List.of(
+			"se.l4.graphql.binding.annotations.GraphQLObject sample.First",
+			"se.l4.graphql.binding.annotations.GraphQLObject sample.Second"
+		)));
+
+		String config = new String(
+			Files.readAllBytes(dir.resolve("out/META-INF/native-image/graphql-binding/generated/reflect-config.json")),
+			StandardCharsets.UTF_8
+		);
+
+		assertThat(config.contains("\"name\": \"sample.First\""), is(true));
+		assertThat(config.contains("\"name\": \"sample.First_GraphQLBinding\""), is(true));
+		assertThat(config.contains("\"name\": \"sample.Second\""), is(true));
+
+		// Types that have been removed are dropped
+		Files.delete(dir.resolve("out/sample/First.class"));
+		Files.delete(dir.resolve("out/sample/First_GraphQLBinding.class"));
+		compile(
+			"package sample;",
+			"import se.l4.graphql.binding.annotations.*;",
+			"@GraphQLObject",
+			"public class Second {",
+			"  @GraphQLField public String name() { return null; }",
+			"}"
+		);
+
+		index = Files.readAllLines(
+			dir.resolve("out/" + GraphQLBindingProcessor.INDEX),
+			StandardCharsets.UTF_8
+		);
+
+		assertThat(index, is(List.of(
+			"se.l4.graphql.binding.annotations.GraphQLObject sample.Second"
+		)));
+	}
+
+	private ClassLoader compile(String... lines)
+		throws IOException
+	{
+		Path src = dir.resolve("src");
+		Path out = dir.resolve("out");
+		Files.createDirectories(out);
+
+		String source = String.join("\n", lines);
+		String pkg = lines[0].substring("package ".length(), lines[0].length() - 1);
+		String name = source.replaceAll("(?s).*?public (static )?(class|interface) (\\w+).*", "$3");
+
+		Path file = src.resolve(pkg).resolve(name + ".java");
+		Files.createDirectories(file.getParent());
+		Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try(StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8))
+		{
+			List<String> options = new ArrayList<>();
+			options.add("-d");
+			options.add(out.toString());
+			options.add("-classpath");
+			options.add(locationOf(GeneratedBinding.class) + File.pathSeparator + out);
+			options.add("-Xlint:all,-processing");
+			options.add("-Werror");
+
+			JavaCompiler.CompilationTask task = compiler.getTask(
+				null,
+				fileManager,
+				diagnostics,
+				options,
+				null,
+				fileManager.getJavaFileObjects(file.toFile())
+			);
+			task.setProcessors(List.of(new GraphQLBindingProcessor()));
+
+			boolean success = task.call();
+			assertThat(diagnostics.getDiagnostics().toString(), success, is(true));
+		}
+
+		return new URLClassLoader(
+			new URL[] { out.toUri().toURL() },
+			getClass().getClassLoader()
+		);
+	}
+
+	private String locationOf(Class<?> type)
+	{
+		try
+		{
+			return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+		}
+		catch(Exception e)
+		{
+			throw new AssertionError(e);
+		}
+	}
+
+	private Recorder record(ClassLoader loader, String type)
+		throws Exception
+	{
+		GeneratedBinding binding = (GeneratedBinding) loader.loadClass(type + GeneratedBinding.SUFFIX)
+			.getConstructor()
+			.newInstance();
+
+		Recorder recorder = new Recorder();
+		binding.register(recorder);
+		return recorder;
+	}
+
+	private static class Recorder
+		implements GeneratedMembers
+	{
+		private final List<String> executables = new ArrayList<>();
+		private final Map<String, Boolean> setters = new HashMap<>();
+
+		@Override
+		public void method(String name, Class<?>[] parameterTypes, GeneratedInvoker invoker)
+		{
+			executables.add(name + List.of(parameterTypes));
+		}
+
+		@Override
+		public void constructor(Class<?>[] parameterTypes, GeneratedInvoker invoker)
+		{
+			executables.add("<init>" + List.of(parameterTypes));
+		}
+
+		@Override
+		public void field(String name, GeneratedFieldGetter getter, GeneratedFieldSetter setter)
+		{
+			setters.put(name, setter != null);
+		}
+
+		public TreeSet<String> names()
+		{
+			TreeSet<String> result = new TreeSet<>(executables);
+			result.addAll(setters.keySet());
+			return result;
+		}
+	}
+}
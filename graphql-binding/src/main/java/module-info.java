@@ -2,9 +2,11 @@ module se.l4.graphql.binding {
 	requires com.github.spotbugs.annotations;
 
 	requires transitive com.graphqljava;
+	requires java.dataloader;
 	requires org.eclipse.collections.api;
 	requires se.l4.ylem.types.matching;
 	requires org.reactivestreams;
+	requires org.slf4j;
 
 	requires transitive se.l4.ylem.types.conversion;
 	requires transitive se.l4.ylem.types.discovery;
@@ -13,6 +15,7 @@ module se.l4.graphql.binding {
 
 	exports se.l4.graphql.binding;
 	exports se.l4.graphql.binding.annotations;
+	exports se.l4.graphql.binding.generated;
 	exports se.l4.graphql.binding.naming;
 	exports se.l4.graphql.binding.resolver;
 	exports se.l4.graphql.binding.resolver.directive;
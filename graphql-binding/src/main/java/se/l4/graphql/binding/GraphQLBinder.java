@@ -1,17 +1,29 @@
 package se.l4.graphql.binding;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.dataloader.DataLoaderRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import graphql.ExecutionInput;
 import graphql.schema.GraphQLSchema;
-import se.l4.graphql.binding.annotations.GraphQLAutoRegister;
-import se.l4.graphql.binding.annotations.GraphQLEnum;
-import se.l4.graphql.binding.annotations.GraphQLInputObject;
-import se.l4.graphql.binding.annotations.GraphQLInterface;
+import se.l4.graphql.binding.annotations.GraphQLAsync;
+import se.l4.graphql.binding.annotations.GraphQLBackpressure;
+import se.l4.graphql.binding.annotations.GraphQLBatched;
 import se.l4.graphql.binding.annotations.GraphQLObject;
 import se.l4.graphql.binding.annotations.GraphQLRoot;
-import se.l4.graphql.binding.annotations.GraphQLUnion;
+import se.l4.graphql.binding.internal.DiscoveredTypes;
+import se.l4.graphql.binding.internal.DiscoveryCache;
 import se.l4.graphql.binding.internal.InternalGraphQLSchemaBuilder;
 import se.l4.graphql.binding.resolver.GraphQLResolver;
 import se.l4.graphql.binding.resolver.directive.GraphQLDirectiveResolver;
@@ -24,9 +36,16 @@ import se.l4.ylem.types.instances.InstanceFactory;
  */
 public class GraphQLBinder
 {
+	private static final Logger logger = LoggerFactory.getLogger(GraphQLBinder.class);
+
 	private final InternalGraphQLSchemaBuilder builder;
 
 	private TypeDiscovery typeDiscovery;
+	private Path discoveryCacheFile;
+	private boolean useGeneratedIndex;
+
+	private boolean discoveryDone;
+	private DiscoveredTypes discovered;
 
 	private GraphQLBinder()
 	{
@@ -39,6 +58,22 @@ public class GraphQLBinder
 		return new GraphQLBinder();
 	}
 
+	/**
+	 * Start building the input for a single execution of a schema built by a
+	 * binder. The input has a new {@link DataLoaderRegistry}, which fields
+	 * annotated with {@link GraphQLBatched} require. Create a new input for
+	 * every execution as loaded values are kept in the registry.
+	 *
+	 * @param query
+	 * @return
+	 */
+	@NonNull
+	public static ExecutionInput.Builder newExecutionInput(@NonNull String query)
+	{
+		return ExecutionInput.newExecutionInput(query)
+			.dataLoaderRegistry(new DataLoaderRegistry());
+	}
+
 	@NonNull
 	public GraphQLBinder setInstanceFactory(@NonNull InstanceFactory factory)
 	{
@@ -48,6 +83,57 @@ public class GraphQLBinder
 		return this;
 	}
 
+	/**
+	 * Set the executor used to invoke field methods asynchronously. Fields
+	 * are invoked via the executor if they are annotated with
+	 * {@link GraphQLAsync} or if {@link #setAsyncByDefault(boolean)} is
+	 * active.
+	 *
+	 * @param executor
+	 * @return
+	 */
+	@NonNull
+	public GraphQLBinder setExecutor(@NonNull Executor executor)
+	{
+		Objects.requireNonNull(executor);
+
+		builder.setExecutor(executor);
+		return this;
+	}
+
+	/**
+	 * Set if all field methods should be invoked via the executor, unless
+	 * they are annotated with {@code @GraphQLAsync(false)}. Public fields and
+	 * simple getters are always read directly.
+	 *
+	 * @param asyncByDefault
+	 * @return
+	 */
+	@NonNull
+	public GraphQLBinder setAsyncByDefault(boolean asyncByDefault)
+	{
+		builder.setAsyncByDefault(asyncByDefault);
+		return this;
+	}
+
+	/**
+	 * Set if the types of the schema should be scanned in parallel on the
+	 * common fork-join pool when the schema is built. Only the reflective
+	 * part of the scan runs in parallel and only when more than a hundred or
+	 * so types are added. GraphQL types are still created on the calling
+	 * thread in the order they were added, so names and errors are the same
+	 * as when building on a single thread.
+	 *
+	 * @param parallelBuild
+	 * @return
+	 */
+	@NonNull
+	public GraphQLBinder setParallelBuild(boolean parallelBuild)
+	{
+		builder.setParallelBuild(parallelBuild, InternalGraphQLSchemaBuilder.DEFAULT_PARALLEL_THRESHOLD);
+		return this;
+	}
+
 	@NonNull
 	public GraphQLBinder setTypeDiscovery(@NonNull TypeDiscovery discovery)
 	{
@@ -57,6 +143,25 @@ public class GraphQLBinder
 		return this;
 	}
 
+	/**
+	 * Set if types, roots and resolvers should be discovered by reading the
+	 * index generated by {@code graphql-binding-processor} instead of
+	 * scanning the class path. The index lists every type annotated with
+	 * one of the type level annotations, such as {@link GraphQLObject} and
+	 * {@link GraphQLRoot}, and replaces the type discovery if one is set.
+	 * Root objects and resolvers are created via the instance factory of
+	 * this binder.
+	 *
+	 * @param useGeneratedIndex
+	 * @return
+	 */
+	@NonNull
+	public GraphQLBinder setUseGeneratedIndex(boolean useGeneratedIndex)
+	{
+		this.useGeneratedIndex = useGeneratedIndex;
+		return this;
+	}
+
 	@NonNull
 	public GraphQLBinder withType(@NonNull Class<?> type)
 	{
@@ -93,6 +198,42 @@ public class GraphQLBinder
 		return this;
 	}
 
+	/**
+	 * Get statistics about the delivery of events for subscriptions annotated
+	 * with {@link GraphQLBackpressure}.
+	 *
+	 * @return
+	 */
+	@NonNull
+	public GraphQLSubscriptionStats getSubscriptionStats()
+	{
+		return builder.getSubscriptionStats();
+	}
+
+	/**
+	 * Set a file used to cache the results of type discovery between
+	 * restarts. The first build writes the cache, later builds read it if
+	 * none of the classes it references or the class path has changed. A
+	 * valid cache replaces type discovery and skips looking for factories in
+	 * types that did not have any. Types are still resolved on every build.
+	 *
+	 * <p>
+	 * Root types and resolvers from the cache are created via the instance
+	 * factory of this binder. Failing to write the cache is logged and does
+	 * not fail the build.
+	 *
+	 * @param file
+	 * @return
+	 */
+	@NonNull
+	public GraphQLBinder setDiscoveryCacheFile(@NonNull Path file)
+	{
+		Objects.requireNonNull(file);
+
+		this.discoveryCacheFile = file;
+		return this;
+	}
+
 	/**
 	 * Build a complete schema from the types.
 	 *
@@ -101,47 +242,106 @@ public class GraphQLBinder
 	@NonNull
 	public GraphQLSchema build()
 	{
-		if(typeDiscovery != null)
+		return buildSnapshot().build();
+	}
+
+	/**
+	 * Resolve all of the types and roots into an immutable snapshot. The
+	 * snapshot can build the complete schema or variants that only contain
+	 * some of the roots and types, without resolving any type again.
+	 *
+	 * <p>
+	 * Types are discovered on the first build, later builds reuse the
+	 * discovered types.
+	 *
+	 * @return
+	 */
+	@NonNull
+	public GraphQLBinderSnapshot buildSnapshot()
+	{
+		DiscoveryCache cache = discoveryCacheFile == null
+			? null
+			: DiscoveryCache.read(discoveryCacheFile, getClassLoader()).orElse(null);
+
+		if(! discoveryDone)
 		{
-			for(Class<?> c : typeDiscovery.getTypesAnnotatedWith(GraphQLObject.class))
-			{
-				builder.addType(c);
-			}
+			discover(cache);
+		}
 
-			for(Class<?> c : typeDiscovery.getTypesAnnotatedWith(GraphQLInputObject.class))
-			{
-				builder.addType(c);
-			}
+		if(cache != null)
+		{
+			Set<Class<?>> withoutFactories = new HashSet<>(cache.getScannedTypes());
+			withoutFactories.removeAll(cache.getTypesWithFactories());
+			builder.setTypesWithoutFactories(withoutFactories);
+		}
 
-			for(Class<?> c : typeDiscovery.getTypesAnnotatedWith(GraphQLEnum.class))
-			{
-				builder.addType(c);
-			}
+		GraphQLBinderSnapshot result = builder.build();
 
-			for(Class<?> c : typeDiscovery.getTypesAnnotatedWith(GraphQLInterface.class))
+		if(discoveryCacheFile != null && cache == null)
+		{
+			try
 			{
-				builder.addType(c);
+				DiscoveryCache.create(
+					discovered == null ? List.of() : discovered.getTypes(),
+					discovered == null ? List.of() : discovered.getRootTypes(),
+					discovered == null ? List.of() : discovered.getResolverTypes(),
+					new ArrayList<>(builder.getTypes()),
+					new ArrayList<>(builder.getTypesWithFactories())
+				).write(discoveryCacheFile);
 			}
-
-			for(Class<?> c : typeDiscovery.getTypesAnnotatedWith(GraphQLUnion.class))
+			catch(IOException e)
 			{
-				builder.addType(c);
+				// The cache only speeds up later builds, so keep the schema
+				logger.warn("Could not write discovery cache to {}", discoveryCacheFile, e);
 			}
+		}
 
-			for(Object instance : typeDiscovery.getTypesAnnotatedWithAsInstances(GraphQLRoot.class))
-			{
-				builder.addRootType(instance.getClass(), env -> instance);
-			}
+		return result;
+	}
 
-			for(Object instance : typeDiscovery.getTypesAnnotatedWithAsInstances(GraphQLAutoRegister.class))
-			{
-				if(instance instanceof GraphQLResolver)
-				{
-					builder.addResolver((GraphQLResolver) instance);
-				}
-			}
+	/**
+	 * Discover types, roots and resolvers and add them to the builder.
+	 */
+	private void discover(DiscoveryCache cache)
+	{
+		if(cache != null && (typeDiscovery != null || useGeneratedIndex))
+		{
+			discovered = DiscoveredTypes.fromCache(cache, builder.getInstanceFactory());
+		}
+		else if(useGeneratedIndex)
+		{
+			discovered = DiscoveredTypes.fromIndex(getClassLoader(), builder.getInstanceFactory());
+		}
+		else if(typeDiscovery != null)
+		{
+			discovered = DiscoveredTypes.discover(typeDiscovery);
 		}
 
-		return builder.build();
+		discoveryDone = true;
+		if(discovered == null)
+		{
+			return;
+		}
+
+		for(Class<?> c : discovered.getTypes())
+		{
+			builder.addType(c);
+		}
+
+		for(Object instance : discovered.getRoots())
+		{
+			builder.addRootType(instance.getClass(), env -> instance);
+		}
+
+		for(GraphQLResolver resolver : discovered.getResolvers())
+		{
+			builder.addResolver(resolver);
+		}
+	}
+
+	private ClassLoader getClassLoader()
+	{
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		return loader == null ? GraphQLBinder.class.getClassLoader() : loader;
 	}
 }
@@ -0,0 +1,159 @@
+package se.l4.graphql.binding;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import graphql.schema.GraphQLSchema;
+import se.l4.graphql.binding.resolver.GraphQLResolver;
+
+/**
+ * Immutable result of resolving all of the types and roots of a
+ * {@link GraphQLBinder}. A snapshot can be shared between threads and is
+ * used to create schemas that contain all or only some of the roots and
+ * types, without resolving any type again.
+ *
+ * <p>
+ * Types are resolved once for all variants, so fields added to a type via
+ * a mixin on a root are present in every variant.
+ *
+ * <p>
+ * Roots, types and resolvers can be added or removed via {@link #update()},
+ * which creates a new snapshot where only the types affected by the change
+ * are resolved again.
+ */
+public interface GraphQLBinderSnapshot
+{
+	/**
+	 * Get the schema containing all of the roots and types.
+	 *
+	 * @return
+	 */
+	@NonNull
+	GraphQLSchema build();
+
+	/**
+	 * Start creating a schema that only contains some of the roots and
+	 * types of this snapshot.
+	 *
+	 * @return
+	 */
+	@NonNull
+	VariantBuilder newVariant();
+
+	/**
+	 * Start creating a new snapshot with some roots, types or resolvers
+	 * added or removed. This snapshot is not modified.
+	 *
+	 * @return
+	 */
+	@NonNull
+	UpdateBuilder update();
+
+	/**
+	 * Builder for a schema containing a subset of a snapshot. Types that are
+	 * used by the selected roots or types are always included, as are the
+	 * implementations of included interfaces.
+	 */
+	interface VariantBuilder
+	{
+		/**
+		 * Include the fields of the given root type.
+		 *
+		 * @param type
+		 * @return
+		 */
+		@NonNull
+		VariantBuilder withRoot(@NonNull Class<?> type);
+
+		/**
+		 * Include a type even if it is not used by any of the roots.
+		 *
+		 * @param type
+		 * @return
+		 */
+		@NonNull
+		VariantBuilder withType(@NonNull Class<?> type);
+
+		/**
+		 * Create the schema.
+		 *
+		 * @return
+		 * @throws GraphQLMappingException
+		 *   if a root or type is not part of the snapshot or if the roots
+		 *   do not have any query fields
+		 */
+		@NonNull
+		GraphQLSchema build();
+	}
+
+	/**
+	 * Builder for an updated snapshot. Types of this snapshot that are not
+	 * affected by the changes are reused as is, including their data
+	 * fetchers.
+	 */
+	interface UpdateBuilder
+	{
+		/**
+		 * Add a root object.
+		 *
+		 * @param root
+		 * @return
+		 */
+		@NonNull
+		UpdateBuilder withRoot(@NonNull Object root);
+
+		/**
+		 * Remove the root of the given type.
+		 *
+		 * @param type
+		 * @return
+		 */
+		@NonNull
+		UpdateBuilder withoutRoot(@NonNull Class<?> type);
+
+		/**
+		 * Add a type.
+		 *
+		 * @param type
+		 * @return
+		 */
+		@NonNull
+		UpdateBuilder withType(@NonNull Class<?> type);
+
+		/**
+		 * Remove a type.
+		 *
+		 * @param type
+		 * @return
+		 */
+		@NonNull
+		UpdateBuilder withoutType(@NonNull Class<?> type);
+
+		/**
+		 * Add a resolver.
+		 *
+		 * @param resolver
+		 * @return
+		 */
+		@NonNull
+		UpdateBuilder withResolver(@NonNull GraphQLResolver resolver);
+
+		/**
+		 * Remove a resolver that has been added previously.
+		 *
+		 * @param resolver
+		 * @return
+		 */
+		@NonNull
+		UpdateBuilder withoutResolver(@NonNull GraphQLResolver resolver);
+
+		/**
+		 * Create the updated snapshot.
+		 *
+		 * @return
+		 * @throws GraphQLMappingException
+		 *   if a root is removed that is not part of the snapshot or if the
+		 *   schema can not be built
+		 */
+		@NonNull
+		GraphQLBinderSnapshot build();
+	}
+}
@@ -0,0 +1,35 @@
+package se.l4.graphql.binding;
+
+import se.l4.graphql.binding.annotations.GraphQLBackpressure;
+import se.l4.graphql.binding.annotations.GraphQLShared;
+
+/**
+ * Statistics about the delivery of subscription events to clients. Only
+ * subscriptions annotated with {@link GraphQLBackpressure} or
+ * {@link GraphQLShared} are tracked.
+ */
+public interface GraphQLSubscriptionStats
+{
+	/**
+	 * Get the total number of events that have been dropped or conflated
+	 * because a client could not keep up.
+	 *
+	 * @return
+	 */
+	long getDroppedEvents();
+
+	/**
+	 * Get the total number of clients that have been cancelled because they
+	 * could not keep up.
+	 *
+	 * @return
+	 */
+	long getCancelledSubscribers();
+
+	/**
+	 * Get the number of clients that currently have a full buffer.
+	 *
+	 * @return
+	 */
+	int getLaggingSubscribers();
+}
@@ -0,0 +1,46 @@
+package se.l4.graphql.binding.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark that field methods should be invoked on the executor set via
+ * {@link se.l4.graphql.binding.GraphQLBinder#setExecutor(java.util.concurrent.Executor)}
+ * instead of on the thread executing the query. This allows blocking
+ * methods of sibling fields to run at the same time.
+ *
+ * <p>
+ * Can be placed on a type to apply to all of its field methods, including
+ * methods inherited from a superclass, or on a single method. Use {@code @GraphQLAsync(false)} to keep a method on the
+ * executing thread when its type, or the binder, runs methods
+ * asynchronously.
+ *
+ * <p>
+ * <pre>
+ * {@code @}GraphQLField
+ * {@code @}GraphQLAsync
+ * public List<Order> orders() {
+ *   return jdbc.query(...);
+ * }
+ * </pre>
+ *
+ * <p>
+ * Fields that are read directly, such as public fields and getters without
+ * arguments or conversions, and methods that already return a
+ * {@code CompletionStage} are always invoked on the executing thread.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface GraphQLAsync
+{
+	/**
+	 * Get if the methods should be invoked asynchronously.
+	 *
+	 * @return
+	 */
+	boolean value() default true;
+}
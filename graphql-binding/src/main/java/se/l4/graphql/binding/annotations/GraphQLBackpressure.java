@@ -0,0 +1,91 @@
+package se.l4.graphql.binding.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.function.Function;
+
+/**
+ * Control how events from a subscription are delivered to clients that can
+ * not keep up. Every client gets a buffer of {@link #bufferSize()} events and
+ * {@link #overflow()} decides what happens when the buffer is full.
+ *
+ * <pre>
+ * {@code @}GraphQLSubscription
+ * {@code @}GraphQLBackpressure(bufferSize = 16, overflow = Overflow.DROP_OLDEST)
+ * public Publisher<Price> prices() {
+ *   ...
+ * }
+ * </pre>
+ *
+ * <p>
+ * Statistics about dropped events and lagging clients are available via
+ * {@link se.l4.graphql.binding.GraphQLBinder#getSubscriptionStats()}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.TYPE_USE })
+public @interface GraphQLBackpressure
+{
+	/**
+	 * The number of events that can be buffered for every client.
+	 *
+	 * @return
+	 */
+	int bufferSize() default 256;
+
+	/**
+	 * What to do when the buffer of a client is full.
+	 *
+	 * @return
+	 */
+	Overflow overflow() default Overflow.DROP_OLDEST;
+
+	/**
+	 * Function used to extract the key of an event when {@link #overflow()}
+	 * is {@link Overflow#CONFLATE}. The function is created via the instance
+	 * factory and receives the converted event. Events the function returns
+	 * {@code null} for share the same key. If not set all buffered events
+	 * share the same key.
+	 *
+	 * @return
+	 */
+	@SuppressWarnings("rawtypes")
+	Class<? extends Function> conflateBy() default Function.class;
+
+	/**
+	 * If events should be converted via the executor set on the binder
+	 * instead of on the thread emitting them. Events are still delivered in
+	 * the order they are emitted.
+	 *
+	 * @return
+	 */
+	boolean convertAsync() default false;
+
+	enum Overflow
+	{
+		/**
+		 * Drop the oldest buffered event to make room for the new one.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Drop the new event, keeping the buffered ones.
+		 */
+		DROP_LATEST,
+
+		/**
+		 * Replace buffered events that have the same key as the new event,
+		 * see {@link GraphQLBackpressure#conflateBy()}. If the buffer is
+		 * still full the oldest event is dropped.
+		 */
+		CONFLATE,
+
+		/**
+		 * Cancel the subscription of the client with an error.
+		 */
+		CANCEL
+	}
+}
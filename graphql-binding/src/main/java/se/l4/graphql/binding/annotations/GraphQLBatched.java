@@ -0,0 +1,48 @@
+package se.l4.graphql.binding.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark that a field method loads its values for several sources at once.
+ * The method takes a {@code List}, {@code Set} or {@code Collection} of
+ * sources annotated with {@link GraphQLSource} and returns either a
+ * {@code List} with a value for every source in the same order or a
+ * {@code Map} from source to value. The result may also be wrapped in a
+ * {@code CompletionStage}.
+ *
+ * <p>
+ * Batched methods are invoked via a {@code DataLoader}, which requires that
+ * every execution is given a new {@code DataLoaderRegistry}.
+ *
+ * <p>
+ * Can be used on mixin fields in root objects:
+ *
+ * <pre>
+ * {@code @}GraphQLMixinField
+ * {@code @}GraphQLBatched
+ * public Map<Customer, List<Order>> getOrders({@code @}GraphQLSource Set<Customer> customers) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * <p>
+ * Or on static field methods of an object type:
+ *
+ * <pre>
+ * {@code @}GraphQLField
+ * {@code @}GraphQLBatched
+ * public static List<Author> author({@code @}GraphQLSource List<Book> books) {
+ *   ...
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+public @interface GraphQLBatched
+{
+}
@@ -0,0 +1,37 @@
+package se.l4.graphql.binding.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark the constructor that should be used to create a type annotated with
+ * {@link GraphQLInputObject}. The parameters of the constructor become the
+ * fields of the input type and the instance is created with all of them in
+ * a single call, which allows input objects to be immutable.
+ *
+ * <p>
+ * <pre>
+ * {@code @}GraphQLInputObject
+ * public class PetInput {
+ *   private final String name;
+ *
+ *   {@code @}GraphQLConstructor
+ *   public PetInput({@code @}GraphQLName("name") String name) {
+ *     this.name = name;
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>
+ * Records annotated with {@link GraphQLInputObject} do not need this
+ * annotation, their canonical constructor is used automatically.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.CONSTRUCTOR })
+public @interface GraphQLConstructor
+{
+}
@@ -0,0 +1,42 @@
+package se.l4.graphql.binding.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark that values of an input type, or the value of a single argument, may
+ * be modified by the method they are passed to.
+ *
+ * <p>
+ * Converted arguments can be reused when the same field is fetched several
+ * times within an execution, such as a field within a list. This is only done
+ * for input objects created via a {@link GraphQLConstructor} or a record whose
+ * constructor parameters are themselves reusable. Arrays, collections, maps
+ * and input objects created via field injection are always converted for
+ * every invocation.
+ *
+ * <p>
+ * Use this annotation for input types that are created via a constructor but
+ * can still be modified, such as via a setter, or on a single argument to
+ * never reuse its value.
+ *
+ * <pre>
+ * {@code @}GraphQLInputObject
+ * {@code @}GraphQLMutable
+ * public class Filter {
+ *   {@code @}GraphQLConstructor
+ *   public Filter(...) {
+ *   }
+ *   ...
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.PARAMETER })
+public @interface GraphQLMutable
+{
+}
@@ -0,0 +1,47 @@
+package se.l4.graphql.binding.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark that a subscription should share its upstream
+ * {@link org.reactivestreams.Publisher} between all clients subscribing with
+ * the same arguments.
+ *
+ * <p>
+ * The method is only invoked for the first client to subscribe with a certain
+ * set of arguments, later clients receive the same events without invoking
+ * it again. Events are converted once and the result is delivered to every
+ * client. The upstream subscription is cancelled when the last client leaves.
+ *
+ * <p>
+ * As conversions are shared they do not have access to the context of any
+ * client, {@link GraphQLContext} parameters of factories used to convert
+ * events see an empty context. Fields of the converted objects are still
+ * fetched for every client.
+ *
+ * <p>
+ * Without {@link GraphQLBackpressure} every client gets a buffer of 256
+ * events and a client that can not keep up is cancelled with an error.
+ * Events are only dropped if an overflow that drops is set via
+ * {@link GraphQLBackpressure}.
+ *
+ * <pre>
+ * {@code @}GraphQLSubscription
+ * {@code @}GraphQLShared
+ * public Publisher<Price> prices(
+ *   {@code @}GraphQLName("symbol") String symbol
+ * ) {
+ *   ...
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.TYPE_USE })
+public @interface GraphQLShared
+{
+}
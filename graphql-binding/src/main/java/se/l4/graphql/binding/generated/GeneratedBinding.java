@@ -0,0 +1,29 @@
+package se.l4.graphql.binding.generated;
+
+/**
+ * Direct access to the members of a type, generated at compile time by
+ * {@code graphql-binding-processor}. When a binding exists for a type it is
+ * used to invoke fields, factories and constructors without reflection or
+ * method handles.
+ *
+ * <p>
+ * Bindings are found by name, the binding for {@code com.example.Type} is
+ * the public class {@code com.example.Type_GraphQLBinding} and the binding
+ * for the nested type {@code com.example.Outer.Inner} is named
+ * {@code com.example.Outer$Inner_GraphQLBinding}.
+ */
+public interface GeneratedBinding
+{
+	/**
+	 * The suffix added to the binary name of a type to get the name of its
+	 * binding.
+	 */
+	String SUFFIX = "_GraphQLBinding";
+
+	/**
+	 * Register the members that can be accessed directly.
+	 *
+	 * @param members
+	 */
+	void register(GeneratedMembers members);
+}
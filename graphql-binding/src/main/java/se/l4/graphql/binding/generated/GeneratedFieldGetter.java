@@ -0,0 +1,10 @@
+package se.l4.graphql.binding.generated;
+
+/**
+ * Direct read of a field.
+ */
+@FunctionalInterface
+public interface GeneratedFieldGetter
+{
+	Object get(Object instance);
+}
@@ -0,0 +1,10 @@
+package se.l4.graphql.binding.generated;
+
+/**
+ * Direct write of a field.
+ */
+@FunctionalInterface
+public interface GeneratedFieldSetter
+{
+	void set(Object instance, Object value);
+}
@@ -0,0 +1,75 @@
+package se.l4.graphql.binding.generated;
+
+/**
+ * Direct call of a method or constructor. Generated invokers also implement
+ * the variant taking the same number of arguments as the member, so members
+ * with up to four parameters can be invoked without creating an array.
+ */
+@FunctionalInterface
+public interface GeneratedInvoker
+{
+	/**
+	 * Invoke the member.
+	 *
+	 * @param instance
+	 *   the instance to invoke the member on, ignored for static methods and
+	 *   constructors
+	 * @param args
+	 *   the arguments, the length always matches the parameters of the member
+	 * @return
+	 *   the result of the invocation, {@code null} for void methods
+	 * @throws Throwable
+	 *   anything thrown by the member
+	 */
+	Object invoke(Object instance, Object[] args)
+		throws Throwable;
+
+	/**
+	 * Invoke a member without parameters.
+	 *
+	 * @param instance
+	 * @return
+	 * @throws Throwable
+	 */
+	default Object invoke(Object instance)
+		throws Throwable
+	{
+		return invoke(instance, new Object[0]);
+	}
+
+	/**
+	 * Invoke a member with one parameter.
+	 */
+	default Object invoke(Object instance, Object a0)
+		throws Throwable
+	{
+		return invoke(instance, new Object[] { a0 });
+	}
+
+	/**
+	 * Invoke a member with two parameters.
+	 */
+	default Object invoke(Object instance, Object a0, Object a1)
+		throws Throwable
+	{
+		return invoke(instance, new Object[] { a0, a1 });
+	}
+
+	/**
+	 * Invoke a member with three parameters.
+	 */
+	default Object invoke(Object instance, Object a0, Object a1, Object a2)
+		throws Throwable
+	{
+		return invoke(instance, new Object[] { a0, a1, a2 });
+	}
+
+	/**
+	 * Invoke a member with four parameters.
+	 */
+	default Object invoke(Object instance, Object a0, Object a1, Object a2, Object a3)
+		throws Throwable
+	{
+		return invoke(instance, new Object[] { a0, a1, a2, a3 });
+	}
+}
@@ -0,0 +1,37 @@
+package se.l4.graphql.binding.generated;
+
+/**
+ * Receiver of the members of a {@link GeneratedBinding}. Members are
+ * identified in the same way as in {@link Class#getDeclaredMethod(String, Class...)},
+ * by their name and erased parameter types.
+ */
+public interface GeneratedMembers
+{
+	/**
+	 * Register a method, static or not.
+	 *
+	 * @param name
+	 * @param parameterTypes
+	 * @param invoker
+	 */
+	void method(String name, Class<?>[] parameterTypes, GeneratedInvoker invoker);
+
+	/**
+	 * Register a constructor. The instance passed to the invoker is always
+	 * {@code null}.
+	 *
+	 * @param parameterTypes
+	 * @param invoker
+	 */
+	void constructor(Class<?>[] parameterTypes, GeneratedInvoker invoker);
+
+	/**
+	 * Register a field.
+	 *
+	 * @param name
+	 * @param getter
+	 * @param setter
+	 *   setter for the field, {@code null} if the field is final
+	 */
+	void field(String name, GeneratedFieldGetter getter, GeneratedFieldSetter setter);
+}
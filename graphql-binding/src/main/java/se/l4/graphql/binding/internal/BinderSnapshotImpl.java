@@ -0,0 +1,305 @@
+package se.l4.graphql.binding.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import graphql.schema.GraphQLDirective;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import se.l4.graphql.binding.GraphQLBinderSnapshot;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.resolver.GraphQLResolver;
+
+/**
+ * Implementation of {@link GraphQLBinderSnapshot}. Keeps the complete schema
+ * together with the fields contributed by every root and the GraphQL types
+ * of every added type. Variants reuse the types and the code registry of
+ * the complete schema, so data fetchers are shared between all schemas.
+ *
+ * <p>
+ * Updates copy the builder that created the snapshot and build again with
+ * the state of this build, see {@link InternalGraphQLSchemaBuilder.BuildState}.
+ */
+public class BinderSnapshotImpl
+	implements GraphQLBinderSnapshot
+{
+	private final InternalGraphQLSchemaBuilder source;
+	private final InternalGraphQLSchemaBuilder.BuildState state;
+
+	private final GraphQLSchema schema;
+	private final List<Class<?>> roots;
+
+	private final Map<Class<?>, Set<String>> queryFields;
+	private final Map<Class<?>, Set<String>> mutationFields;
+	private final Map<Class<?>, Set<String>> subscriptionFields;
+
+	private final Map<Class<?>, List<GraphQLType>> types;
+	private final List<GraphQLDirective> directives;
+
+	public BinderSnapshotImpl(
+		InternalGraphQLSchemaBuilder source,
+		InternalGraphQLSchemaBuilder.BuildState state,
+		GraphQLSchema schema,
+		List<Class<?>> roots,
+		Map<Class<?>, Set<String>> queryFields,
+		Map<Class<?>, Set<String>> mutationFields,
+		Map<Class<?>, Set<String>> subscriptionFields,
+		Map<Class<?>, List<GraphQLType>> types,
+		List<GraphQLDirective> directives
+	)
+	{
+		this.source = source;
+		this.state = state;
+		this.schema = schema;
+		this.roots = roots;
+		this.queryFields = queryFields;
+		this.mutationFields = mutationFields;
+		this.subscriptionFields = subscriptionFields;
+		this.types = types;
+		this.directives = directives;
+	}
+
+	@Override
+	public GraphQLSchema build()
+	{
+		return schema;
+	}
+
+	@Override
+	public VariantBuilder newVariant()
+	{
+		return new VariantBuilderImpl();
+	}
+
+	@Override
+	public UpdateBuilder update()
+	{
+		return new UpdateBuilderImpl();
+	}
+
+	/**
+	 * Create a copy of a root operation type with only the fields of the
+	 * given roots.
+	 */
+	private static GraphQLObjectType filter(
+		GraphQLObjectType type,
+		Map<Class<?>, Set<String>> fields,
+		Set<Class<?>> roots
+	)
+	{
+		if(type == null)
+		{
+			return null;
+		}
+
+		Set<String> names = new HashSet<>();
+		for(Class<?> root : roots)
+		{
+			names.addAll(fields.getOrDefault(root, Set.of()));
+		}
+
+		List<GraphQLFieldDefinition> definitions = new ArrayList<>();
+		for(GraphQLFieldDefinition definition : type.getFieldDefinitions())
+		{
+			if(names.contains(definition.getName()))
+			{
+				definitions.add(definition);
+			}
+		}
+
+		if(definitions.isEmpty())
+		{
+			return null;
+		}
+
+		return type.transform(builder -> builder.replaceFields(definitions));
+	}
+
+	private class VariantBuilderImpl
+		implements VariantBuilder
+	{
+		private final Set<Class<?>> selectedRoots;
+		private final Set<Class<?>> selectedTypes;
+
+		public VariantBuilderImpl()
+		{
+			selectedRoots = new LinkedHashSet<>();
+			selectedTypes = new LinkedHashSet<>();
+		}
+
+		@Override
+		public VariantBuilder withRoot(Class<?> type)
+		{
+			Objects.requireNonNull(type);
+
+			if(! roots.contains(type))
+			{
+				throw new GraphQLMappingException("Root " + type.getName() + " is not part of the snapshot");
+			}
+
+			selectedRoots.add(type);
+			return this;
+		}
+
+		@Override
+		public VariantBuilder withType(Class<?> type)
+		{
+			Objects.requireNonNull(type);
+
+			if(! types.containsKey(type))
+			{
+				throw new GraphQLMappingException("Type " + type.getName() + " is not part of the snapshot");
+			}
+
+			selectedTypes.add(type);
+			return this;
+		}
+
+		@Override
+		public GraphQLSchema build()
+		{
+			GraphQLObjectType query = filter(schema.getQueryType(), queryFields, selectedRoots);
+			if(query == null)
+			{
+				throw new GraphQLMappingException("At least one field is required for the root query");
+			}
+
+			GraphQLObjectType mutation = filter(schema.getMutationType(), mutationFields, selectedRoots);
+			GraphQLObjectType subscription = filter(schema.getSubscriptionType(), subscriptionFields, selectedRoots);
+
+			Set<GraphQLType> additionalTypes = new LinkedHashSet<>();
+			for(Class<?> type : selectedTypes)
+			{
+				additionalTypes.addAll(types.get(type));
+			}
+
+			while(true)
+			{
+				GraphQLSchema.Builder builder = GraphQLSchema.newSchema()
+					.query(query)
+					.mutation(mutation)
+					.subscription(subscription)
+					.codeRegistry(schema.getCodeRegistry())
+					.additionalTypes(additionalTypes);
+
+				for(GraphQLDirective directive : directives)
+				{
+					builder.additionalDirective(directive);
+				}
+
+				GraphQLSchema variant = builder.build();
+
+				/*
+				 * Implementations of interfaces are not reachable from the
+				 * interface, add them and build again if any are missing.
+				 */
+				boolean missing = false;
+				for(GraphQLNamedType type : variant.getAllTypesAsList())
+				{
+					if(! (type instanceof GraphQLInterfaceType))
+					{
+						continue;
+					}
+
+					for(GraphQLObjectType impl : schema.getImplementations((GraphQLInterfaceType) type))
+					{
+						if(variant.getType(impl.getName()) == null)
+						{
+							missing |= additionalTypes.add(impl);
+						}
+					}
+				}
+
+				if(! missing)
+				{
+					return variant;
+				}
+			}
+		}
+	}
+
+	private class UpdateBuilderImpl
+		implements UpdateBuilder
+	{
+		private final InternalGraphQLSchemaBuilder builder;
+
+		public UpdateBuilderImpl()
+		{
+			builder = new InternalGraphQLSchemaBuilder(source, state);
+		}
+
+		@Override
+		public UpdateBuilder withRoot(Object root)
+		{
+			Objects.requireNonNull(root);
+
+			builder.addRootType(root.getClass(), env -> root);
+			return this;
+		}
+
+		@Override
+		public UpdateBuilder withoutRoot(Class<?> type)
+		{
+			Objects.requireNonNull(type);
+
+			if(! builder.hasRootType(type))
+			{
+				throw new GraphQLMappingException("Root " + type.getName() + " is not part of the snapshot");
+			}
+
+			builder.removeRootType(type);
+			return this;
+		}
+
+		@Override
+		public UpdateBuilder withType(Class<?> type)
+		{
+			Objects.requireNonNull(type);
+
+			builder.addType(type);
+			return this;
+		}
+
+		@Override
+		public UpdateBuilder withoutType(Class<?> type)
+		{
+			Objects.requireNonNull(type);
+
+			builder.removeType(type);
+			return this;
+		}
+
+		@Override
+		public UpdateBuilder withResolver(GraphQLResolver resolver)
+		{
+			Objects.requireNonNull(resolver);
+
+			builder.addResolver(resolver);
+			return this;
+		}
+
+		@Override
+		public UpdateBuilder withoutResolver(GraphQLResolver resolver)
+		{
+			Objects.requireNonNull(resolver);
+
+			builder.removeResolver(resolver);
+			return this;
+		}
+
+		@Override
+		public GraphQLBinderSnapshot build()
+		{
+			return builder.build();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package se.l4.graphql.binding.internal;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import se.l4.graphql.binding.resolver.DataFetchingConversion;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+
+/**
+ * Replaces {@link PendingDataFetchingConversion}s with the conversions they
+ * resolved to. Objects implementing {@link Linkable} are linked recursively
+ * and every object is only linked once. A pending conversion that resolves
+ * to a conversion that is currently being linked is a true cycle, such as an
+ * input type that contains itself, and is kept as is.
+ */
+public class ConversionLinker
+{
+	private final Map<Object, Object> linked;
+	private final Set<Object> linking;
+
+	public ConversionLinker()
+	{
+		linked = new IdentityHashMap<>();
+		linking = Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	/**
+	 * Link a conversion.
+	 *
+	 * @param conversion
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public <I, O> DataFetchingConversion<I, O> link(DataFetchingConversion<I, O> conversion)
+	{
+		DataFetchingConversion<?, ?> current = conversion;
+		while(current instanceof PendingDataFetchingConversion)
+		{
+			DataFetchingConversion<?, ?> actual = ((PendingDataFetchingConversion<?, ?>) current).getActual();
+			if(actual == null || linking.contains(actual))
+			{
+				return (DataFetchingConversion) current;
+			}
+
+			current = actual;
+		}
+
+		return (DataFetchingConversion) linkObject(current);
+	}
+
+	/**
+	 * Link a supplier, such as a data fetcher or an argument.
+	 *
+	 * @param supplier
+	 * @return
+	 */
+	public <T> DataFetchingSupplier<T> link(DataFetchingSupplier<T> supplier)
+	{
+		return linkObject(supplier);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T linkObject(T object)
+	{
+		if(! (object instanceof Linkable))
+		{
+			return object;
+		}
+
+		Object result = linked.get(object);
+		if(result != null)
+		{
+			return (T) result;
+		}
+
+		if(! linking.add(object))
+		{
+			return object;
+		}
+
+		try
+		{
+			result = ((Linkable<?>) object).link(this);
+		}
+		finally
+		{
+			linking.remove(object);
+		}
+
+		linked.put(object, result);
+		return (T) result;
+	}
+}
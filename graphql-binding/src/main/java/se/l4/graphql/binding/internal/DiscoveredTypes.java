@@ -0,0 +1,274 @@
+package se.l4.graphql.binding.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.annotations.GraphQLAutoRegister;
+import se.l4.graphql.binding.annotations.GraphQLEnum;
+import se.l4.graphql.binding.annotations.GraphQLInputObject;
+import se.l4.graphql.binding.annotations.GraphQLInterface;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.annotations.GraphQLRoot;
+import se.l4.graphql.binding.annotations.GraphQLUnion;
+import se.l4.graphql.binding.resolver.GraphQLResolver;
+import se.l4.ylem.types.discovery.TypeDiscovery;
+import se.l4.ylem.types.instances.InstanceFactory;
+
+/**
+ * Types, root objects and resolvers that have been discovered, either via
+ * a {@link TypeDiscovery}, the index generated by the annotation processor
+ * or a {@link DiscoveryCache}.
+ */
+public class DiscoveredTypes
+{
+	/**
+	 * Location of the index written by the annotation processor.
+	 */
+	public static final String INDEX = "META-INF/graphql-binding/index";
+
+	/**
+	 * Annotations that mark types that should be added to the schema.
+	 */
+	private static final List<Class<? extends Annotation>> TYPE_ANNOTATIONS = List.of(
+		GraphQLObject.class,
+		GraphQLInputObject.class,
+		GraphQLEnum.class,
+		GraphQLInterface.class,
+		GraphQLUnion.class
+	);
+
+	private final List<Class<?>> types;
+	private final List<Object> roots;
+	private final List<GraphQLResolver> resolvers;
+
+	private DiscoveredTypes(
+		List<Class<?>> types,
+		List<Object> roots,
+		List<GraphQLResolver> resolvers
+	)
+	{
+		this.types = types;
+		this.roots = roots;
+		this.resolvers = resolvers;
+	}
+
+	public List<Class<?>> getTypes()
+	{
+		return types;
+	}
+
+	public List<Object> getRoots()
+	{
+		return roots;
+	}
+
+	public List<GraphQLResolver> getResolvers()
+	{
+		return resolvers;
+	}
+
+	public List<Class<?>> getRootTypes()
+	{
+		return classesOf(roots);
+	}
+
+	public List<Class<?>> getResolverTypes()
+	{
+		return classesOf(resolvers);
+	}
+
+	/**
+	 * Discover types via the given {@link TypeDiscovery}. Types annotated
+	 * with more than one of the type annotations are only included once.
+	 *
+	 * @param discovery
+	 * @return
+	 */
+	public static DiscoveredTypes discover(TypeDiscovery discovery)
+	{
+		Set<Class<?>> types = new LinkedHashSet<>();
+		for(Class<? extends Annotation> annotation : TYPE_ANNOTATIONS)
+		{
+			for(Class<?> c : discovery.getTypesAnnotatedWith(annotation))
+			{
+				types.add(c);
+			}
+		}
+
+		List<Object> roots = new ArrayList<>();
+		for(Object instance : discovery.getTypesAnnotatedWithAsInstances(GraphQLRoot.class))
+		{
+			roots.add(instance);
+		}
+
+		List<GraphQLResolver> resolvers = new ArrayList<>();
+		for(Object instance : discovery.getTypesAnnotatedWithAsInstances(GraphQLAutoRegister.class))
+		{
+			if(instance instanceof GraphQLResolver)
+			{
+				resolvers.add((GraphQLResolver) instance);
+			}
+		}
+
+		return new DiscoveredTypes(new ArrayList<>(types), roots, resolvers);
+	}
+
+	/**
+	 * Discover types by reading the index generated by the annotation
+	 * processor. All copies of the index visible to the class loader are
+	 * read, so types from several JARs are found.
+	 *
+	 * @param loader
+	 * @param instanceFactory
+	 *   factory used to create root objects and resolvers
+	 * @return
+	 */
+	public static DiscoveredTypes fromIndex(ClassLoader loader, InstanceFactory instanceFactory)
+	{
+		Map<String, Set<String>> index = new HashMap<>();
+		try
+		{
+			Enumeration<URL> urls = loader.getResources(INDEX);
+			while(urls.hasMoreElements())
+			{
+				readIndex(urls.nextElement(), index);
+			}
+		}
+		catch(IOException e)
+		{
+			throw new GraphQLMappingException("Could not read " + INDEX + "; " + e.getMessage(), e);
+		}
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+		for(Class<? extends Annotation> annotation : TYPE_ANNOTATIONS)
+		{
+			types.addAll(load(index, annotation, loader));
+		}
+
+		List<Object> roots = new ArrayList<>();
+		for(Class<?> c : load(index, GraphQLRoot.class, loader))
+		{
+			if(isInstantiable(c))
+			{
+				roots.add(instanceFactory.create(c));
+			}
+		}
+
+		List<GraphQLResolver> resolvers = new ArrayList<>();
+		for(Class<?> c : load(index, GraphQLAutoRegister.class, loader))
+		{
+			if(isInstantiable(c) && GraphQLResolver.class.isAssignableFrom(c))
+			{
+				resolvers.add((GraphQLResolver) instanceFactory.create(c));
+			}
+		}
+
+		return new DiscoveredTypes(new ArrayList<>(types), roots, resolvers);
+	}
+
+	/**
+	 * Recreate the discovered types of a cache.
+	 *
+	 * @param cache
+	 * @param instanceFactory
+	 *   factory used to create root objects and resolvers
+	 * @return
+	 */
+	public static DiscoveredTypes fromCache(DiscoveryCache cache, InstanceFactory instanceFactory)
+	{
+		List<Object> roots = new ArrayList<>();
+		for(Class<?> c : cache.getDiscoveredRoots())
+		{
+			roots.add(instanceFactory.create(c));
+		}
+
+		List<GraphQLResolver> resolvers = new ArrayList<>();
+		for(Class<?> c : cache.getDiscoveredResolvers())
+		{
+			resolvers.add((GraphQLResolver) instanceFactory.create(c));
+		}
+
+		return new DiscoveredTypes(cache.getDiscoveredTypes(), roots, resolvers);
+	}
+
+	private static void readIndex(URL url, Map<String, Set<String>> index)
+		throws IOException
+	{
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)))
+		{
+			String line;
+			while((line = reader.readLine()) != null)
+			{
+				line = line.trim();
+				int idx = line.indexOf(' ');
+				if(line.isEmpty() || line.startsWith("#") || idx < 0)
+				{
+					continue;
+				}
+
+				index.computeIfAbsent(line.substring(0, idx), k -> new LinkedHashSet<>())
+					.add(line.substring(idx + 1).trim());
+			}
+		}
+	}
+
+	private static List<Class<?>> load(
+		Map<String, Set<String>> index,
+		Class<? extends Annotation> annotation,
+		ClassLoader loader
+	)
+	{
+		Set<String> names = index.get(annotation.getName());
+		if(names == null)
+		{
+			return Collections.emptyList();
+		}
+
+		List<Class<?>> result = new ArrayList<>(names.size());
+		for(String name : names)
+		{
+			try
+			{
+				result.add(Class.forName(name, false, loader));
+			}
+			catch(ClassNotFoundException | LinkageError e)
+			{
+				throw new GraphQLMappingException(
+					"Type " + name + " from " + INDEX + " could not be loaded; " + e.getMessage(),
+					e
+				);
+			}
+		}
+
+		return result;
+	}
+
+	private static boolean isInstantiable(Class<?> type)
+	{
+		return ! type.isInterface() && ! Modifier.isAbstract(type.getModifiers());
+	}
+
+	private static List<Class<?>> classesOf(List<?> instances)
+	{
+		List<Class<?>> result = new ArrayList<>(instances.size());
+		for(Object instance : instances)
+		{
+			result.add(instance.getClass());
+		}
+		return result;
+	}
+}
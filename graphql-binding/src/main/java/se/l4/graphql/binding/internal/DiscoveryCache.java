@@ -0,0 +1,359 @@
+package se.l4.graphql.binding.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Cache of the results of type discovery, persisted between builds of a
+ * schema. Contains the types found via type discovery and the types that
+ * were scanned for factories together with those that had factories. Types
+ * are still resolved on every build.
+ *
+ * <p>
+ * A cache is keyed by a hash of the class files of all the classes it
+ * mentions and the entries of the class and module path. A cache is
+ * only read if the hash still matches, so changing any of the classes,
+ * replacing a JAR or adding, removing or changing a file in a directory on
+ * the class path invalidates it.
+ */
+public class DiscoveryCache
+{
+	private static final int MAGIC = 0x47514c53;
+	private static final int VERSION = 1;
+
+	private final byte[] hash;
+
+	private final List<Class<?>> discoveredTypes;
+	private final List<Class<?>> discoveredRoots;
+	private final List<Class<?>> discoveredResolvers;
+
+	private final List<Class<?>> scannedTypes;
+	private final List<Class<?>> typesWithFactories;
+
+	private DiscoveryCache(
+		byte[] hash,
+		List<Class<?>> discoveredTypes,
+		List<Class<?>> discoveredRoots,
+		List<Class<?>> discoveredResolvers,
+		List<Class<?>> scannedTypes,
+		List<Class<?>> typesWithFactories
+	)
+	{
+		this.hash = hash;
+		this.discoveredTypes = discoveredTypes;
+		this.discoveredRoots = discoveredRoots;
+		this.discoveredResolvers = discoveredResolvers;
+		this.scannedTypes = scannedTypes;
+		this.typesWithFactories = typesWithFactories;
+	}
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param discoveredTypes
+	 *   types found via type discovery
+	 * @param discoveredRoots
+	 *   root types found via type discovery
+	 * @param discoveredResolvers
+	 *   resolvers found via type discovery
+	 * @param scannedTypes
+	 *   all types that were scanned for factories
+	 * @param typesWithFactories
+	 *   the scanned types that had factories
+	 * @return
+	 */
+	public static DiscoveryCache create(
+		List<Class<?>> discoveredTypes,
+		List<Class<?>> discoveredRoots,
+		List<Class<?>> discoveredResolvers,
+		List<Class<?>> scannedTypes,
+		List<Class<?>> typesWithFactories
+	)
+	{
+		List<Class<?>> all = new ArrayList<>();
+		all.addAll(discoveredTypes);
+		all.addAll(discoveredRoots);
+		all.addAll(discoveredResolvers);
+		all.addAll(scannedTypes);
+
+		return new DiscoveryCache(
+			hash(all),
+			discoveredTypes,
+			discoveredRoots,
+			discoveredResolvers,
+			scannedTypes,
+			typesWithFactories
+		);
+	}
+
+	public List<Class<?>> getDiscoveredTypes()
+	{
+		return discoveredTypes;
+	}
+
+	public List<Class<?>> getDiscoveredRoots()
+	{
+		return discoveredRoots;
+	}
+
+	public List<Class<?>> getDiscoveredResolvers()
+	{
+		return discoveredResolvers;
+	}
+
+	public List<Class<?>> getScannedTypes()
+	{
+		return scannedTypes;
+	}
+
+	public List<Class<?>> getTypesWithFactories()
+	{
+		return typesWithFactories;
+	}
+
+	/**
+	 * Read a cache if the file exists and the cache is still valid.
+	 *
+	 * @param file
+	 * @param loader
+	 *   class loader used to load the classes of the cache
+	 * @return
+	 */
+	public static Optional<DiscoveryCache> read(Path file, ClassLoader loader)
+	{
+		if(! Files.isRegularFile(file))
+		{
+			return Optional.empty();
+		}
+
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+		{
+			if(in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				return Optional.empty();
+			}
+
+			byte[] hash = new byte[in.readUnsignedShort()];
+			in.readFully(hash);
+
+			List<Class<?>> discoveredTypes = readClasses(in, loader);
+			List<Class<?>> discoveredRoots = readClasses(in, loader);
+			List<Class<?>> discoveredResolvers = readClasses(in, loader);
+			List<Class<?>> scannedTypes = readClasses(in, loader);
+			List<Class<?>> typesWithFactories = readClasses(in, loader);
+
+			DiscoveryCache current = create(
+				discoveredTypes,
+				discoveredRoots,
+				discoveredResolvers,
+				scannedTypes,
+				typesWithFactories
+			);
+
+			if(! Arrays.equals(hash, current.hash))
+			{
+				// Something has changed since the cache was written
+				return Optional.empty();
+			}
+
+			return Optional.of(current);
+		}
+		catch(IOException | ClassNotFoundException | LinkageError e)
+		{
+			// Unreadable or referencing classes that no longer exist
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Write this cache to the given file. The file is replaced
+	 * atomically if the file system supports it.
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void write(Path file)
+		throws IOException
+	{
+		Path parent = file.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+
+		Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+		try
+		{
+			try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+
+				out.writeShort(hash.length);
+				out.write(hash);
+
+				writeClasses(out, discoveredTypes);
+				writeClasses(out, discoveredRoots);
+				writeClasses(out, discoveredResolvers);
+				writeClasses(out, scannedTypes);
+				writeClasses(out, typesWithFactories);
+			}
+
+			try
+			{
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch(IOException e)
+			{
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static List<Class<?>> readClasses(DataInputStream in, ClassLoader loader)
+		throws IOException, ClassNotFoundException
+	{
+		int count = in.readInt();
+		List<Class<?>> result = new ArrayList<>(count);
+		for(int i=0; i<count; i++)
+		{
+			result.add(Class.forName(in.readUTF(), false, loader));
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+	private static void writeClasses(DataOutputStream out, Collection<Class<?>> classes)
+		throws IOException
+	{
+		out.writeInt(classes.size());
+		for(Class<?> c : classes)
+		{
+			out.writeUTF(c.getName());
+		}
+	}
+
+	/**
+	 * Hash the given classes together with the class and module path.
+	 */
+	private static byte[] hash(Collection<Class<?>> classes)
+	{
+		MessageDigest digest;
+		try
+		{
+			digest = MessageDigest.getInstance("SHA-256");
+		}
+		catch(NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException(e);
+		}
+
+		hashPath(digest, System.getProperty("java.class.path"));
+		hashPath(digest, System.getProperty("jdk.module.path"));
+
+		TreeSet<String> seen = new TreeSet<>();
+		for(Class<?> c : classes)
+		{
+			seen.add(c.getName());
+		}
+
+		for(Class<?> c : classes)
+		{
+			if(! seen.remove(c.getName()))
+			{
+				// Already hashed
+				continue;
+			}
+
+			digest.update(c.getName().getBytes(StandardCharsets.UTF_8));
+
+			String resource = "/" + c.getName().replace('.', '/') + ".class";
+			try(InputStream in = c.getResourceAsStream(resource))
+			{
+				if(in == null) continue;
+
+				byte[] buffer = new byte[8192];
+				int read;
+				while((read = in.read(buffer)) != -1)
+				{
+					digest.update(buffer, 0, read);
+				}
+			}
+			catch(IOException e)
+			{
+				// Make sure the hash never matches
+				digest.update(Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		return digest.digest();
+	}
+
+	private static void hashPath(MessageDigest digest, String path)
+	{
+		if(path == null) return;
+
+		for(String entry : path.split(File.pathSeparator))
+		{
+			digest.update(entry.getBytes(StandardCharsets.UTF_8));
+
+			File file = new File(entry);
+			if(file.isFile())
+			{
+				hashFile(digest, file.toPath(), file);
+			}
+			else if(file.isDirectory())
+			{
+				hashDirectory(digest, file.toPath());
+			}
+		}
+	}
+
+	/**
+	 * Hash the listing of a directory, including the size and modification
+	 * time of every file within it so that new, removed and changed classes
+	 * are detected.
+	 */
+	private static void hashDirectory(MessageDigest digest, Path directory)
+	{
+		try(Stream<Path> files = Files.walk(directory))
+		{
+			files.filter(Files::isRegularFile)
+				.sorted()
+				.forEachOrdered(file -> hashFile(digest, directory.relativize(file), file.toFile()));
+		}
+		catch(IOException | UncheckedIOException e)
+		{
+			// Make sure the hash never matches
+			digest.update(Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private static void hashFile(MessageDigest digest, Path name, File file)
+	{
+		digest.update(name.toString().getBytes(StandardCharsets.UTF_8));
+		digest.update(Long.toString(file.length()).getBytes(StandardCharsets.UTF_8));
+		digest.update(Long.toString(file.lastModified()).getBytes(StandardCharsets.UTF_8));
+	}
+}
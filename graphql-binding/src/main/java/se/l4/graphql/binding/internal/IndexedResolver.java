@@ -0,0 +1,37 @@
+package se.l4.graphql.binding.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Optional;
+import java.util.Set;
+
+import se.l4.graphql.binding.resolver.GraphQLResolver;
+
+/**
+ * Resolver that can describe which types it supports, used by
+ * {@link TypeResolverRegistry} to only ask resolvers that might support a
+ * type. Resolvers still have their {@code supports} methods called for the
+ * types they are indexed under.
+ */
+public interface IndexedResolver
+	extends GraphQLResolver
+{
+	/**
+	 * Get the classes that all supported types are assignable to.
+	 *
+	 * @return
+	 */
+	default Set<Class<?>> getIndexedTypes()
+	{
+		return Set.of();
+	}
+
+	/**
+	 * Get the annotation that all supported types are annotated with.
+	 *
+	 * @return
+	 */
+	default Optional<Class<? extends Annotation>> getIndexedAnnotation()
+	{
+		return Optional.empty();
+	}
+}
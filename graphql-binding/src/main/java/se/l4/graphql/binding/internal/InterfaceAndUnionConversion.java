@@ -167,7 +167,7 @@ public class InterfaceAndUnionConversion
 	}
 
 	private static class Resolver
-		implements GraphQLOutputResolver
+		implements GraphQLOutputResolver, IndexedResolver
 	{
 		private final TypeRef interfaceType;
 		private final TypeRef graphQLType;
@@ -185,6 +185,12 @@ public class InterfaceAndUnionConversion
 			this.conversions = conversions.toArray(new TrackedConversion[conversions.size()]);
 		}
 
+		@Override
+		public Set<Class<?>> getIndexedTypes()
+		{
+			return Set.of(interfaceType.getErasedType());
+		}
+
 		@Override
 		public boolean supportsOutput(TypeRef type)
 		{
@@ -208,15 +214,36 @@ public class InterfaceAndUnionConversion
 		}
 	}
 
+	/**
+	 * Conversion that picks the conversion to use based on the runtime class
+	 * of the object. The conversion for a class is looked up the first time
+	 * it is seen and then cached.
+	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private static class FactoryConverter
 		implements DataFetchingConversion<Object, Object>
 	{
-		private final TrackedConversion[] conversions;
+		private final ClassValue<DataFetchingConversion<Object, Object>> dispatch;
 
 		public FactoryConverter(TrackedConversion[] conversions)
 		{
-			this.conversions = conversions;
+			this.dispatch = new ClassValue<>()
+			{
+				@Override
+				protected DataFetchingConversion<Object, Object> computeValue(Class<?> type)
+				{
+					TypeRef objectType = Types.reference(type);
+					for(TrackedConversion c : conversions)
+					{
+						if(c.input.isAssignableFrom(objectType))
+						{
+							return (DataFetchingConversion) c.conversion;
+						}
+					}
+
+					return UnknownTypeConversion.INSTANCE;
+				}
+			};
 		}
 
 		@Override
@@ -224,15 +251,21 @@ public class InterfaceAndUnionConversion
 		{
 			if(object == null) return null;
 
-			TypeRef objectType = Types.reference(object.getClass());
-			for(TrackedConversion c : conversions)
-			{
-				if(c.input.isAssignableFrom(objectType))
-				{
-					return ((DataFetchingConversion) c.conversion).convert(environment, object);
-				}
-			}
+			return dispatch.get(object.getClass()).convert(environment, object);
+		}
+	}
 
+	/**
+	 * Conversion used for classes that do not have a registered conversion.
+	 */
+	private static class UnknownTypeConversion
+		implements DataFetchingConversion<Object, Object>
+	{
+		static final UnknownTypeConversion INSTANCE = new UnknownTypeConversion();
+
+		@Override
+		public Object convert(DataFetchingEnvironment environment, Object object)
+		{
 			throw new GraphQLMappingException("Unknown type encountered, register a GraphQL type for the type to support it: " + object.getClass());
 		}
 	}
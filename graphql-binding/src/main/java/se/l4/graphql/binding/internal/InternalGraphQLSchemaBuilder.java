@@ -3,22 +3,31 @@ package se.l4.graphql.binding.internal;
 import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.reactivestreams.Publisher;
 
 import graphql.Scalars;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLDirective;
 import graphql.schema.GraphQLFieldDefinition;
@@ -32,26 +41,35 @@ import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeReference;
+import graphql.schema.GraphQLTypeUtil;
+import se.l4.graphql.binding.GraphQLBinderSnapshot;
 import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.GraphQLSubscriptionStats;
+import se.l4.graphql.binding.annotations.GraphQLBackpressure;
 import se.l4.graphql.binding.annotations.GraphQLContext;
+import se.l4.graphql.binding.annotations.GraphQLConvertFrom;
 import se.l4.graphql.binding.annotations.GraphQLDescription;
 import se.l4.graphql.binding.annotations.GraphQLEnvironment;
 import se.l4.graphql.binding.annotations.GraphQLField;
 import se.l4.graphql.binding.annotations.GraphQLInterface;
 import se.l4.graphql.binding.annotations.GraphQLMutation;
 import se.l4.graphql.binding.annotations.GraphQLNonNull;
+import se.l4.graphql.binding.annotations.GraphQLShared;
 import se.l4.graphql.binding.annotations.GraphQLSubscription;
 import se.l4.graphql.binding.annotations.GraphQLUnion;
 import se.l4.graphql.binding.internal.builders.GraphQLInterfaceBuilderImpl;
 import se.l4.graphql.binding.internal.builders.GraphQLObjectBuilderImpl;
 import se.l4.graphql.binding.internal.builders.GraphQLUnionBuilderImpl;
+import se.l4.graphql.binding.internal.datafetchers.FetcherExecution;
 import se.l4.graphql.binding.internal.directive.GraphQLDirectiveCreationEncounterImpl;
 import se.l4.graphql.binding.internal.directive.GraphQLDirectiveFieldEncounterImpl;
 import se.l4.graphql.binding.internal.factory.Factory;
 import se.l4.graphql.binding.internal.factory.FactoryResolver;
+import se.l4.graphql.binding.internal.factory.FactoryResolver.FactoryCandidate;
 import se.l4.graphql.binding.internal.parameters.GraphQLContextParameterResolver;
 import se.l4.graphql.binding.internal.parameters.GraphQLEnvironmentParameterResolver;
 import se.l4.graphql.binding.internal.resolvers.ArrayResolver;
+import se.l4.graphql.binding.internal.resolvers.CompletionStageResolver;
 import se.l4.graphql.binding.internal.resolvers.ConvertingTypeResolver;
 import se.l4.graphql.binding.internal.resolvers.EnumResolver;
 import se.l4.graphql.binding.internal.resolvers.InputObjectTypeResolver;
@@ -62,9 +80,15 @@ import se.l4.graphql.binding.internal.resolvers.OptionalDoubleResolver;
 import se.l4.graphql.binding.internal.resolvers.OptionalIntResolver;
 import se.l4.graphql.binding.internal.resolvers.OptionalLongResolver;
 import se.l4.graphql.binding.internal.resolvers.OptionalResolver;
+import se.l4.graphql.binding.internal.resolvers.PrimitiveListResolver;
 import se.l4.graphql.binding.internal.resolvers.ScalarResolver;
 import se.l4.graphql.binding.internal.resolvers.SpecificScalarResolver;
+import se.l4.graphql.binding.internal.resolvers.StreamResolver;
 import se.l4.graphql.binding.internal.resolvers.UnionResolver;
+import se.l4.graphql.binding.internal.subscriptions.DeliveringPublisher;
+import se.l4.graphql.binding.internal.subscriptions.DeliveryPolicy;
+import se.l4.graphql.binding.internal.subscriptions.SubscriptionHub;
+import se.l4.graphql.binding.internal.subscriptions.SubscriptionStatsImpl;
 import se.l4.graphql.binding.naming.DefaultGraphQLNamingFunction;
 import se.l4.graphql.binding.naming.GraphQLNamingEncounter;
 import se.l4.graphql.binding.naming.GraphQLNamingFunction;
@@ -95,6 +119,7 @@ import se.l4.ylem.types.conversion.TypeConverter;
 import se.l4.ylem.types.instances.DefaultInstanceFactory;
 import se.l4.ylem.types.instances.InstanceFactory;
 import se.l4.ylem.types.reflect.Annotated;
+import se.l4.ylem.types.reflect.FieldRef;
 import se.l4.ylem.types.reflect.MemberRef;
 import se.l4.ylem.types.reflect.ParameterRef;
 import se.l4.ylem.types.reflect.TypeRef;
@@ -105,15 +130,15 @@ import se.l4.ylem.types.reflect.Types;
  */
 public class InternalGraphQLSchemaBuilder
 {
-	private final NameRegistry names;
-	private final TypeResolverRegistry typeResolvers;
+	private final NameRegistry builtinNames;
+	private final Map<GraphQLResolver, List<GraphQLResolver>> resolvers;
 
 	private final Map<Class<?>, DataFetchingSupplier<?>> rootTypes;
+	private final Map<Class<?>, GraphQLObjectMixin> rootMixins;
 	private final List<Class<?>> types;
 
-	private final Map<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> builtOutputTypes;
-	private final Map<TypeRef, ResolvedGraphQLType<? extends GraphQLInputType>> builtInputTypes;
-	private final Map<Class<?>, GraphQLDirective> builtDirectives;
+	private final Map<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> builtinOutputTypes;
+	private final Map<TypeRef, ResolvedGraphQLType<? extends GraphQLInputType>> builtinInputTypes;
 
 	private final TypeConverter typeConverter;
 	private final List<GraphQLObjectMixin> objectMixins;
@@ -124,26 +149,62 @@ public class InternalGraphQLSchemaBuilder
 	private InstanceFactory instanceFactory;
 	private GraphQLNamingFunction defaultNaming;
 
+	private Executor executor;
+	private boolean asyncByDefault;
+
+	/**
+	 * The number of types that need to be scanned before a parallel build
+	 * scans them on several threads.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 128;
+
+	private boolean parallelBuild;
+	private int parallelThreshold;
+
+	private Set<Class<?>> typesWithoutFactories;
+	private List<Class<?>> typesWithFactories;
+
+	private final SubscriptionStatsImpl subscriptionStats;
+
+	/*
+	 * The previous build when updating a snapshot together with what has
+	 * changed since it was built.
+	 */
+	private final BuildState previous;
+	private final Set<Class<?>> changedTypes;
+	private final List<GraphQLResolver> changedResolvers;
+	private final List<GraphQLObjectMixin> changedMixins;
+
 	public InternalGraphQLSchemaBuilder()
 	{
 		instanceFactory = new DefaultInstanceFactory();
 
-		names = new NameRegistry();
-		typeResolvers = new TypeResolverRegistry();
+		builtinNames = new NameRegistry();
+		resolvers = new LinkedHashMap<>();
 		defaultNaming = new DefaultGraphQLNamingFunction();
 
 		parameterResolvers = new HashMap<>();
 
+		previous = null;
+		changedTypes = new HashSet<>();
+		changedResolvers = new ArrayList<>();
+		changedMixins = new ArrayList<>();
+
 		rootTypes = new HashMap<>();
+		rootMixins = new HashMap<>();
 		types = new ArrayList<>();
+		parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+		typesWithoutFactories = Collections.emptySet();
+		typesWithFactories = Collections.emptyList();
 		objectMixins = new ArrayList<>();
 		directives = new HashMap<>();
 
-		builtInputTypes = new HashMap<>();
-		builtOutputTypes = new HashMap<>();
-		builtDirectives =new HashMap<>();
+		builtinInputTypes = new HashMap<>();
+		builtinOutputTypes = new HashMap<>();
 
 		typeConverter = new StandardTypeConverter();
+		subscriptionStats = new SubscriptionStatsImpl();
 
 		// Register the built-in scalars
 		registerBuiltin(Scalars.GraphQLString, String.class);
@@ -165,6 +226,50 @@ public class InternalGraphQLSchemaBuilder
 		parameterResolvers.put(GraphQLContext.class, new GraphQLContextParameterResolver());
 	}
 
+	/**
+	 * Create a copy of another builder. If a previous build is given the
+	 * copy tracks what is added and removed and the next build only
+	 * resolves the types affected by the changes again.
+	 *
+	 * @param other
+	 *   the builder to copy
+	 * @param previous
+	 *   the previous build, or {@code null}
+	 */
+	public InternalGraphQLSchemaBuilder(InternalGraphQLSchemaBuilder other, BuildState previous)
+	{
+		this.previous = previous;
+		changedTypes = new HashSet<>();
+		changedResolvers = new ArrayList<>();
+		changedMixins = new ArrayList<>();
+
+		instanceFactory = other.instanceFactory;
+		defaultNaming = other.defaultNaming;
+		executor = other.executor;
+		asyncByDefault = other.asyncByDefault;
+
+		builtinNames = other.builtinNames;
+		builtinOutputTypes = other.builtinOutputTypes;
+		builtinInputTypes = other.builtinInputTypes;
+		typeConverter = other.typeConverter;
+		subscriptionStats = other.subscriptionStats;
+
+		resolvers = new LinkedHashMap<>(other.resolvers);
+		parameterResolvers = new HashMap<>(other.parameterResolvers);
+		directives = new HashMap<>(other.directives);
+
+		rootTypes = new HashMap<>(other.rootTypes);
+		rootMixins = new HashMap<>(other.rootMixins);
+		objectMixins = new ArrayList<>(other.objectMixins);
+		types = new ArrayList<>(other.types);
+
+		parallelBuild = other.parallelBuild;
+		parallelThreshold = other.parallelThreshold;
+
+		typesWithoutFactories = other.typesWithoutFactories;
+		typesWithFactories = other.typesWithFactories;
+	}
+
 	/**
 	 * Register a built in scalar and bind it to the specified types.
 	 */
@@ -182,11 +287,11 @@ public class InternalGraphQLSchemaBuilder
 			Object defaultValue = Types.defaultValue(type.getErasedType());
 			ResolvedGraphQLType<?> withDefault = resolved.withDefaultValue(env -> defaultValue);
 
-			builtOutputTypes.put(type, (ResolvedGraphQLType) withDefault);
-			builtInputTypes.put(type, (ResolvedGraphQLType) withDefault);
+			builtinOutputTypes.put(type, (ResolvedGraphQLType) withDefault);
+			builtinInputTypes.put(type, (ResolvedGraphQLType) withDefault);
 		}
 
-		names.reserveName(
+		builtinNames.reserveName(
 			graphQLType.getName(),
 			Breadcrumb.custom("by built-in scalar " + graphQLType.getName()),
 			types
@@ -198,6 +303,74 @@ public class InternalGraphQLSchemaBuilder
 		this.instanceFactory = instanceFactory;
 	}
 
+	/**
+	 * Set the executor used for fields that are invoked asynchronously.
+	 */
+	public void setExecutor(Executor executor)
+	{
+		this.executor = executor;
+	}
+
+	/**
+	 * Get the statistics for subscriptions with backpressure.
+	 */
+	public GraphQLSubscriptionStats getSubscriptionStats()
+	{
+		return subscriptionStats;
+	}
+
+	/**
+	 * Set if field methods should be invoked asynchronously unless they
+	 * specify otherwise.
+	 */
+	public void setAsyncByDefault(boolean asyncByDefault)
+	{
+		this.asyncByDefault = asyncByDefault;
+	}
+
+	/**
+	 * Set if types should be scanned in parallel when the schema is built.
+	 * Types are only scanned in parallel if at least the threshold number of
+	 * types need to be scanned, as the overhead of using several threads is
+	 * larger than the gain for smaller schemas.
+	 */
+	public void setParallelBuild(boolean parallelBuild, int threshold)
+	{
+		this.parallelBuild = parallelBuild;
+		this.parallelThreshold = threshold;
+	}
+
+	public InstanceFactory getInstanceFactory()
+	{
+		return instanceFactory;
+	}
+
+	/**
+	 * Set types that are known to not have any factories, such as when
+	 * restoring a {@link DiscoveryCache}. These types are not scanned for
+	 * factories.
+	 */
+	public void setTypesWithoutFactories(Set<Class<?>> typesWithoutFactories)
+	{
+		this.typesWithoutFactories = typesWithoutFactories;
+	}
+
+	/**
+	 * Get the types added to this builder.
+	 */
+	public List<Class<?>> getTypes()
+	{
+		return types;
+	}
+
+	/**
+	 * Get the types that had factories in the last build.
+	 */
+	public List<Class<?>> getTypesWithFactories()
+	{
+		return typesWithFactories;
+	}
+
 	/**
 	 * Add a type that should be used to extract queries and mutations in the
 	 * root of the system.
@@ -207,11 +380,42 @@ public class InternalGraphQLSchemaBuilder
 	 */
 	public void addRootType(Class<?> type, DataFetchingSupplier<?> supplier)
 	{
-		this.rootTypes.put(type, supplier);
-		this.objectMixins.add(new RootObjectMixin(
+		removeRootType(type);
+
+		GraphQLObjectMixin mixin = new RootObjectMixin(
 			Types.reference(type),
 			supplier
-		));
+		);
+
+		this.rootTypes.put(type, supplier);
+		this.rootMixins.put(type, mixin);
+		this.objectMixins.add(mixin);
+		trackMixin(mixin);
+	}
+
+	/**
+	 * Remove a root type.
+	 *
+	 * @param type
+	 */
+	public void removeRootType(Class<?> type)
+	{
+		this.rootTypes.remove(type);
+
+		GraphQLObjectMixin mixin = this.rootMixins.remove(type);
+		if(mixin != null)
+		{
+			this.objectMixins.remove(mixin);
+			trackMixin(mixin);
+		}
+	}
+
+	/**
+	 * Get if the given class has been added as a root type.
+	 */
+	public boolean hasRootType(Class<?> type)
+	{
+		return rootTypes.containsKey(type);
 	}
 
 	/**
@@ -222,29 +426,94 @@ public class InternalGraphQLSchemaBuilder
 	public void addType(Class<?> type)
 	{
 		this.types.add(type);
+		trackType(type);
+	}
+
+	/**
+	 * Remove a type that was previously added.
+	 *
+	 * @param type
+	 */
+	public void removeType(Class<?> type)
+	{
+		if(this.types.removeIf(t -> t == type))
+		{
+			trackType(type);
+		}
 	}
 
 	public void addResolver(GraphQLResolver resolver)
 	{
-		this.typeResolvers.add(resolver);
+		if(resolvers.containsKey(resolver))
+		{
+			return;
+		}
+
+		List<GraphQLResolver> registered = new ArrayList<>(2);
+		registered.add(resolver);
 
 		if(resolver instanceof GraphQLConversion)
 		{
-			addConversionResolver((GraphQLConversion<?, ?>) resolver);
+			registered.add(createConversionResolver((GraphQLConversion<?, ?>) resolver));
 		}
 
 		if(resolver instanceof GraphQLScalarResolver)
 		{
-			addScalar((GraphQLScalarResolver<?, ?>) resolver);
+			registered.add(createScalarResolver((GraphQLScalarResolver<?, ?>) resolver));
 		}
 
 		if(resolver instanceof GraphQLParameterResolver)
 		{
 			addParameter((GraphQLParameterResolver<?>) resolver);
 		}
+
+		this.resolvers.put(resolver, registered);
+		trackResolvers(registered);
 	}
 
-	private void addConversionResolver(GraphQLConversion<?, ?> conversion)
+	/**
+	 * Remove a resolver that was previously added, including the resolvers
+	 * created for it.
+	 *
+	 * @param resolver
+	 */
+	public void removeResolver(GraphQLResolver resolver)
+	{
+		List<GraphQLResolver> registered = this.resolvers.remove(resolver);
+		if(registered == null)
+		{
+			return;
+		}
+
+		this.parameterResolvers.values().remove(resolver);
+		trackResolvers(registered);
+	}
+
+	private void trackType(Class<?> type)
+	{
+		if(previous != null)
+		{
+			changedTypes.add(type);
+		}
+	}
+
+	private void trackResolvers(List<GraphQLResolver> resolvers)
+	{
+		if(previous != null)
+		{
+			changedResolvers.addAll(resolvers);
+		}
+	}
+
+	private void trackMixin(GraphQLObjectMixin mixin)
+	{
+		if(previous != null)
+		{
+			changedMixins.add(mixin);
+		}
+	}
+
+	private GraphQLResolver createConversionResolver(GraphQLConversion<?, ?> conversion)
 	{
 		TypeRef conversionType = Types.reference(conversion.getClass())
 			.findInterface(GraphQLConversion.class)
@@ -256,15 +525,15 @@ public class InternalGraphQLSchemaBuilder
 		TypeRef to = conversionType.getTypeParameter(1)
 			.orElseThrow(() -> new GraphQLMappingException("Could not find type of annotation"));
 
-		this.typeResolvers.add(new ConvertingTypeResolver<>(from, to, conversion));
+		return new ConvertingTypeResolver<>(from, to, conversion);
 	}
 
 	/**
-	 * Add a scalar binding.
+	 * Create the resolver for a scalar binding.
 	 *
 	 * @param scalar
 	 */
-	private void addScalar(GraphQLScalarResolver<?, ?> scalar)
+	private GraphQLResolver createScalarResolver(GraphQLScalarResolver<?, ?> scalar)
 	{
 		// Resolve the interface and the GraphQL type and request a conversion to it
 		TypeRef scalarInterface = Types.reference(scalar.getClass())
@@ -274,11 +543,11 @@ public class InternalGraphQLSchemaBuilder
 		TypeRef javaType = scalarInterface.getTypeParameter(0).get();
 		TypeRef graphQLType = scalarInterface.getTypeParameter(1).get();
 
-		this.typeResolvers.add(new SpecificScalarResolver(
+		return new SpecificScalarResolver(
 			javaType,
 			graphQLType,
 			scalar
-		));
+		);
 	}
 
 	/**
@@ -323,12 +592,16 @@ public class InternalGraphQLSchemaBuilder
 	 * @return
 	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private Optional<GraphQLObjectType> buildRootQuery(ResolverContextImpl ctx)
+	private Optional<GraphQLObjectType> buildRootQuery(
+		ResolverContextImpl ctx,
+		Map<Class<?>, Set<String>> rootFields
+	)
 	{
 		GraphQLObjectBuilderImpl builder = new GraphQLObjectBuilderImpl(
 			Collections.emptyList(),
 			ctx,
-			ctx.codeRegistryBuilder
+			ctx.fetcherExecution,
+			ctx::registerDataFetcher
 		);
 
 		builder.setName("Query");
@@ -337,8 +610,9 @@ public class InternalGraphQLSchemaBuilder
 		{
 			DataFetchingSupplier supplier = e.getValue();
 			TypeRef typeRef = Types.reference(e.getKey());
+			Set<String> before = builder.getFieldNames();
 
-			ctx.breadcrumb(Breadcrumb.forType(typeRef), () -> {
+			ctx.resolveRoot(e.getKey(), () -> {
 				ObjectTypeResolver.resolve(
 					ctx,
 					typeRef,
@@ -349,6 +623,10 @@ public class InternalGraphQLSchemaBuilder
 					ctx::resolveOutput
 				);
 			});
+
+			Set<String> added = builder.getFieldNames();
+			added.removeAll(before);
+			rootFields.put(e.getKey(), added);
 		}
 
 		GraphQLObjectType type = builder.build();
@@ -361,12 +639,16 @@ public class InternalGraphQLSchemaBuilder
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private Optional<GraphQLObjectType> buildMutation(ResolverContextImpl ctx)
+	private Optional<GraphQLObjectType> buildMutation(
+		ResolverContextImpl ctx,
+		Map<Class<?>, Set<String>> rootFields
+	)
 	{
 		GraphQLObjectBuilderImpl builder = new GraphQLObjectBuilderImpl(
 			Collections.emptyList(),
 			ctx,
-			ctx.codeRegistryBuilder
+			ctx.fetcherExecution,
+			ctx::registerDataFetcher
 		);
 
 		builder.setName("Mutation");
@@ -375,8 +657,9 @@ public class InternalGraphQLSchemaBuilder
 		{
 			DataFetchingSupplier supplier = e.getValue();
 			TypeRef typeRef = Types.reference(e.getKey());
+			Set<String> before = builder.getFieldNames();
 
-			ctx.breadcrumb(Breadcrumb.forType(typeRef), () -> {
+			ctx.resolveRoot(e.getKey(), () -> {
 				ObjectTypeResolver.resolve(
 					ctx,
 					typeRef,
@@ -387,6 +670,10 @@ public class InternalGraphQLSchemaBuilder
 					ctx::resolveOutput
 				);
 			});
+
+			Set<String> added = builder.getFieldNames();
+			added.removeAll(before);
+			rootFields.put(e.getKey(), added);
 		}
 
 		GraphQLObjectType type = builder.build();
@@ -399,32 +686,62 @@ public class InternalGraphQLSchemaBuilder
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private Optional<GraphQLObjectType> buildSubscription(ResolverContextImpl ctx)
+	private Optional<GraphQLObjectType> buildSubscription(
+		ResolverContextImpl ctx,
+		Map<Class<?>, Set<String>> rootFields
+	)
 	{
+		// Subscriptions return publishers and are always created inline
 		GraphQLObjectBuilderImpl builder = new GraphQLObjectBuilderImpl(
 			Collections.emptyList(),
 			ctx,
-			ctx.codeRegistryBuilder
+			FetcherExecution.INLINE,
+			ctx::registerDataFetcher
 		);
 
 		builder.setName("Subscription");
 
+		SubscriptionHub hub = new SubscriptionHub();
+
 		Function<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> resolveOutput =
 			type -> {
 				Optional<TypeRef> reactivePublisher = type.findInterface(Publisher.class);
 				if(reactivePublisher.isPresent())
 				{
-					TypeRef actualType = reactivePublisher.get()
-						.getTypeParameter(0).get();
+					ResolvedGraphQLType outputType = ctx.resolveOutput(getPublishedType(type));
+					DataFetchingConversion<?, ?> conversion = outputType.hasConversion()
+						? outputType.getConversion()
+						: null;
+
+					Optional<GraphQLBackpressure> backpressure = type.getUsage()
+						.getAnnotation(GraphQLBackpressure.class);
+
+					if(type.getUsage().hasAnnotation(GraphQLShared.class))
+					{
+						/*
+						 * Shared subscriptions wrap the data fetcher instead,
+						 * so that the field is only invoked for the first
+						 * client.
+						 */
+						outputType = ResolvedGraphQLType.forType(outputType.getGraphQLType());
+					}
+					else if(backpressure.isPresent())
+					{
+						// Deliver via bounded buffers for every subscriber
+						DeliveryPolicy policy = createDeliveryPolicy(ctx, backpressure.get());
+						outputType = ResolvedGraphQLType.forType(outputType.getGraphQLType())
+							.withOutputConversion((env, v) -> {
+								if(v == null) return null;
 
-					ResolvedGraphQLType outputType = ctx.resolveOutput(actualType);
-					if(outputType.hasConversion())
+								return new DeliveringPublisher((Publisher) v, conversion, env, policy);
+							});
+					}
+					else if(conversion != null)
 					{
 						/*
 						 * When a subscription has a publisher it requires
 						 * transforming the emitted results.
 						 */
-						DataFetchingConversion<?, ?> conversion = outputType.getConversion();
 						outputType = ResolvedGraphQLType.forType(outputType.getGraphQLType())
 							.withOutputConversion((env, v) -> {
 								return new ConvertingPublisher((Publisher) v, conversion, env);
@@ -438,12 +755,38 @@ public class InternalGraphQLSchemaBuilder
 				}
 			};
 
+		BiFunction<TypeRef, DataFetchingSupplier<?>, DataFetchingSupplier<?>> share =
+			(type, supplier) -> {
+				if(! type.getUsage().hasAnnotation(GraphQLShared.class))
+				{
+					return supplier;
+				}
+
+				/*
+				 * Shared subscriptions multicast a single upstream per field
+				 * and arguments. Items are converted once and the result is
+				 * delivered to every client.
+				 */
+				ResolvedGraphQLType<?> outputType = ctx.resolveOutput(getPublishedType(type));
+				DataFetchingConversion<?, ?> conversion = outputType.hasConversion()
+					? outputType.getConversion()
+					: null;
+
+				DeliveryPolicy policy = type.getUsage()
+					.getAnnotation(GraphQLBackpressure.class)
+					.map(backpressure -> createDeliveryPolicy(ctx, backpressure))
+					.orElseGet(() -> DeliveryPolicy.bounded(subscriptionStats));
+
+				return hub.share((DataFetchingSupplier) supplier, (DataFetchingConversion) conversion, policy);
+			};
+
 		for(Map.Entry<Class<?>, DataFetchingSupplier<?>> e : rootTypes.entrySet())
 		{
 			DataFetchingSupplier supplier = e.getValue();
 			TypeRef typeRef = Types.reference(e.getKey());
+			Set<String> before = builder.getFieldNames();
 
-			ctx.breadcrumb(Breadcrumb.forType(typeRef), () -> {
+			ctx.resolveRoot(e.getKey(), () -> {
 				ObjectTypeResolver.resolve(
 					ctx,
 					typeRef,
@@ -451,9 +794,14 @@ public class InternalGraphQLSchemaBuilder
 					builder,
 					GraphQLSubscription.class,
 					false,
-					resolveOutput
+					resolveOutput,
+					share
 				);
 			});
+
+			Set<String> added = builder.getFieldNames();
+			added.removeAll(before);
+			rootFields.put(e.getKey(), added);
 		}
 
 		GraphQLObjectType type = builder.build();
@@ -465,108 +813,553 @@ public class InternalGraphQLSchemaBuilder
 		return Optional.of(type);
 	}
 
-	public GraphQLSchema build()
+	/**
+	 * Get the type of the items published by a subscription.
+	 */
+	private static TypeRef getPublishedType(TypeRef type)
+	{
+		return type.findInterface(Publisher.class).get()
+			.getTypeParameter(0).get();
+	}
+
+	@SuppressWarnings("unchecked")
+	private DeliveryPolicy createDeliveryPolicy(
+		ResolverContextImpl ctx,
+		GraphQLBackpressure backpressure
+	)
+	{
+		if(backpressure.bufferSize() <= 0)
+		{
+			throw ctx.newError("Subscription buffer size must be positive, got " + backpressure.bufferSize());
+		}
+
+		Function<Object, Object> conflateBy = null;
+		if(backpressure.conflateBy() != Function.class)
+		{
+			if(backpressure.overflow() != GraphQLBackpressure.Overflow.CONFLATE)
+			{
+				throw ctx.newError("conflateBy can only be used when overflow is CONFLATE");
+			}
+
+			conflateBy = instanceFactory.create(backpressure.conflateBy());
+		}
+
+		if(backpressure.convertAsync() && executor == null)
+		{
+			throw ctx.newError(
+				"Subscription should convert asynchronously, but no executor has been set"
+			);
+		}
+
+		return new DeliveryPolicy(
+			backpressure.bufferSize(),
+			backpressure.overflow(),
+			conflateBy,
+			backpressure.convertAsync() ? executor : null,
+			subscriptionStats
+		);
+	}
+
+	/**
+	 * Resolve all of the added types and roots. The builder is not changed
+	 * by building, so this can be called several times.
+	 */
+	public GraphQLBinderSnapshot build()
 	{
 		GraphQLSchema.Builder builder = GraphQLSchema.newSchema();
 		GraphQLCodeRegistry.Builder codeRegistryBuilder = GraphQLCodeRegistry.newCodeRegistry();
 
 		ResolverContextImpl ctx = new ResolverContextImpl(
 			builder,
-			codeRegistryBuilder
+			codeRegistryBuilder,
+			new FetcherExecution(executor, asyncByDefault)
 		);
 
 		// Register the default resolvers that can work on any type using annotations
-		typeResolvers.add(new InputObjectTypeResolver());
-		typeResolvers.add(new ObjectTypeResolver());
-		typeResolvers.add(new ScalarResolver());
+		ctx.typeResolvers.add(new InputObjectTypeResolver());
+		ctx.typeResolvers.add(new ObjectTypeResolver());
+		ctx.typeResolvers.add(new ScalarResolver());
 
-		typeResolvers.add(new InterfaceResolver());
-		typeResolvers.add(new UnionResolver());
+		ctx.typeResolvers.add(new InterfaceResolver());
+		ctx.typeResolvers.add(new UnionResolver());
 
-		typeResolvers.add(new EnumResolver());
+		ctx.typeResolvers.add(new EnumResolver());
+
+		// Scan all the types, resolving their factories
+		List<ScannedType> scannedTypes = scanTypes(ctx);
+
+		if(previous != null)
+		{
+			// Reuse everything from the previous build not affected by changes
+			ctx.restore(previous, findInvalidated(scannedTypes));
+		}
 
 		/*
 		 * Find all the interfaces and unions we are interested in keeping
 		 * track of conversions for.
 		 */
 		InterfaceAndUnionConversion interfacesAndUnions = new InterfaceAndUnionConversion();
-		for(Class<?> type : types)
+		for(ScannedType scanned : scannedTypes)
 		{
+			Class<?> type = scanned.type.getErasedType();
 			if(type.isAnnotationPresent(GraphQLInterface.class)
 				|| type.isAnnotationPresent(GraphQLUnion.class))
 			{
-				interfacesAndUnions.trackUnionOrInterface(Types.reference(type));
+				interfacesAndUnions.trackUnionOrInterface(scanned.type);
 			}
 		}
 
-		// Resolve all of the extra bindings - for when types use @GraphQLSource
-		for(Class<?> type : types)
+		// Register all of the extra bindings - for when types use @GraphQLSource
+		for(ScannedType scanned : scannedTypes)
 		{
-			TypeRef typeRef = Types.reference(type);
-			ctx.breadcrumb(Breadcrumb.forType(typeRef), () -> {
-				List<Factory<?, ?>> factories = FactoryResolver.resolveFactories(ctx, typeRef);
-				for(Factory<?, ?> factory : factories)
-				{
-					// Register an extra resolver for the type
-					typeResolvers.add(new ConvertingTypeResolver<>(
-						factory.getInput(),
-						factory.getOutput(),
-						factory
-					));
-
-					// Track this factory - for automatic interface and union conversion
-					interfacesAndUnions.add(factory.getInput(), factory.getOutput(), factory);
-				}
-			});
+			for(Factory<?, ?> factory : scanned.factories)
+			{
+				// Register an extra resolver for the type
+				ctx.typeResolvers.add(new ConvertingTypeResolver<>(
+					factory.getInput(),
+					factory.getOutput(),
+					factory
+				));
+
+				// Track this factory - for automatic interface and union conversion
+				interfacesAndUnions.add(factory.getInput(), factory.getOutput(), factory);
+			}
 		}
 
 		// Bind the interface and union resolvers
 		for(GraphQLOutputResolver resolver : interfacesAndUnions.createResolvers())
 		{
-			typeResolvers.add(resolver);
+			ctx.typeResolvers.add(resolver);
 		}
 
 		// Register some default type converters that use types to work
-		typeResolvers.add(new IterableResolver());
-		typeResolvers.add(new ArrayResolver());
+		ctx.typeResolvers.add(new IterableResolver());
+		ctx.typeResolvers.add(PrimitiveListResolver.forInt());
+		ctx.typeResolvers.add(PrimitiveListResolver.forLong());
+		ctx.typeResolvers.add(PrimitiveListResolver.forDouble());
+		ctx.typeResolvers.add(new ArrayResolver());
+		ctx.typeResolvers.add(new StreamResolver());
+
+		ctx.typeResolvers.add(new OptionalResolver());
+		ctx.typeResolvers.add(new OptionalIntResolver());
+		ctx.typeResolvers.add(new OptionalLongResolver());
+		ctx.typeResolvers.add(new OptionalDoubleResolver());
 
-		typeResolvers.add(new OptionalResolver());
-		typeResolvers.add(new OptionalIntResolver());
-		typeResolvers.add(new OptionalLongResolver());
-		typeResolvers.add(new OptionalDoubleResolver());
+		ctx.typeResolvers.add(new CompletionStageResolver());
 
 		// Resolve all of the known types
-		for(Class<?> type : types)
+		Map<Class<?>, List<GraphQLType>> additionalTypes = new LinkedHashMap<>();
+		for(ScannedType scanned : scannedTypes)
 		{
-			TypeRef typeRef = Types.reference(type);
+			TypeRef typeRef = scanned.type;
+			List<GraphQLType> graphQLTypes = new ArrayList<>(2);
 
 			ResolvedGraphQLType<?> output = ctx.maybeResolveOutput(typeRef);
 			if(output.isPresent())
 			{
 				builder.additionalType(output.getGraphQLType());
+				graphQLTypes.add(output.getGraphQLType());
 			}
 
 			ResolvedGraphQLType<?> input = ctx.maybeResolveInput(typeRef);
 			if(input.isPresent())
 			{
 				builder.additionalType(input.getGraphQLType());
+				graphQLTypes.add(input.getGraphQLType());
 			}
+
+			additionalTypes.put(typeRef.getErasedType(), graphQLTypes);
 		}
 
 		// Build the root type
-		GraphQLObjectType queryType = buildRootQuery(ctx)
+		Map<Class<?>, Set<String>> queryFields = new HashMap<>();
+		GraphQLObjectType queryType = buildRootQuery(ctx, queryFields)
 			.orElseThrow(() -> new GraphQLMappingException("At least one field is required for the root query"));
 
 		builder.query(queryType);
 
 		// Build the mutation type
-		buildMutation(ctx).ifPresent(builder::mutation);
+		Map<Class<?>, Set<String>> mutationFields = new HashMap<>();
+		buildMutation(ctx, mutationFields).ifPresent(builder::mutation);
 
 		// Build the subscription type
-		buildSubscription(ctx).ifPresent(builder::subscription);
+		Map<Class<?>, Set<String>> subscriptionFields = new HashMap<>();
+		buildSubscription(ctx, subscriptionFields).ifPresent(builder::subscription);
 
-		return builder.codeRegistry(codeRegistryBuilder.build())
+		// All types are known, finish conversions before the schema is used
+		ctx.finishConversions();
+
+		GraphQLSchema schema = builder.codeRegistry(codeRegistryBuilder.build())
 			.build();
+
+		Map<Class<?>, ScannedType> scanned = new HashMap<>();
+		for(ScannedType scannedType : scannedTypes)
+		{
+			scanned.put(scannedType.type.getErasedType(), scannedType);
+		}
+
+		BuildState state = new BuildState(
+			ctx.builtOutputTypes,
+			ctx.builtInputTypes,
+			ctx.names,
+			ctx.builtDirectives,
+			ctx.uses,
+			ctx.rootUses,
+			scanned,
+			schema.getCodeRegistry()
+		);
+
+		return new BinderSnapshotImpl(
+			new InternalGraphQLSchemaBuilder(this, null),
+			state,
+			schema,
+			new ArrayList<>(rootTypes.keySet()),
+			queryFields,
+			mutationFields,
+			subscriptionFields,
+			additionalTypes,
+			new ArrayList<>(ctx.builtDirectives.values())
+		);
+	}
+
+	/**
+	 * Scan all of the added types, resolving their factories. Types scanned
+	 * by a previous build are reused.
+	 *
+	 * <p>
+	 * When building in parallel the reflective part of the scan, finding
+	 * factory candidates and reading annotations, runs on the common
+	 * fork-join pool. Creating the factories uses the resolver context and
+	 * always happens on the calling thread in the order the types were
+	 * added, so errors are the same as in a sequential build.
+	 */
+	private List<ScannedType> scanTypes(ResolverContextImpl ctx)
+	{
+		List<Class<?>> toScan = new ArrayList<>();
+		for(Class<?> type : types)
+		{
+			if((previous == null || ! previous.scannedTypes.containsKey(type))
+				&& ! typesWithoutFactories.contains(type))
+			{
+				toScan.add(type);
+			}
+		}
+
+		Map<Class<?>, TypeCandidates> candidates = new HashMap<>();
+		if(parallelBuild && toScan.size() >= parallelThreshold)
+		{
+			List<TypeCandidates> found = toScan.parallelStream()
+				.map(InternalGraphQLSchemaBuilder::findCandidates)
+				.collect(Collectors.toList());
+
+			for(TypeCandidates c : found)
+			{
+				candidates.put(c.type.getErasedType(), c);
+			}
+		}
+
+		List<ScannedType> scanned = new ArrayList<>(types.size());
+		List<Class<?>> withFactories = new ArrayList<>();
+		for(Class<?> type : types)
+		{
+			ScannedType scannedType = scanType(ctx, type, candidates.get(type));
+			scanned.add(scannedType);
+
+			if(! scannedType.factories.isEmpty())
+			{
+				withFactories.add(type);
+			}
+		}
+
+		typesWithFactories = withFactories;
+		return scanned;
+	}
+
+	/**
+	 * Find the factory candidates of a type and read the annotations of its
+	 * members so that the reflection caches of the JVM are filled. This does
+	 * not touch any state of the builder so it is safe to call from several
+	 * threads.
+	 */
+	private static TypeCandidates findCandidates(Class<?> type)
+	{
+		TypeRef typeRef = Types.reference(type);
+		typeRef.getAnnotations();
+		typeRef.getFields().forEach(FieldRef::getAnnotations);
+
+		return new TypeCandidates(typeRef, FactoryResolver.findCandidates(typeRef));
+	}
+
+	private ScannedType scanType(ResolverContextImpl ctx, Class<?> type, TypeCandidates candidates)
+	{
+		if(previous != null && previous.scannedTypes.containsKey(type))
+		{
+			// Factories do not change between updates of a snapshot
+			return previous.scannedTypes.get(type);
+		}
+
+		if(typesWithoutFactories.contains(type))
+		{
+			return new ScannedType(Types.reference(type), Collections.emptyList());
+		}
+
+		TypeRef typeRef = candidates == null ? Types.reference(type) : candidates.type;
+		return ctx.breadcrumb(Breadcrumb.forType(typeRef), () -> new ScannedType(
+			typeRef,
+			candidates == null
+				? FactoryResolver.resolveFactories(ctx, typeRef)
+				: FactoryResolver.resolveFactories(ctx, candidates.candidates)
+		));
+	}
+
+	/**
+	 * Find the types of the previous build that are affected by what has
+	 * been added and removed since. This includes the types that use an
+	 * affected type, directly or via other types.
+	 */
+	private Set<TypeRef> findInvalidated(List<ScannedType> scannedTypes)
+	{
+		Set<TypeRef> built = new HashSet<>(previous.outputTypes.keySet());
+		built.addAll(previous.inputTypes.keySet());
+
+		for(GraphQLResolver resolver : changedResolvers)
+		{
+			if(resolver instanceof GraphQLParameterResolver)
+			{
+				// Parameters can be used anywhere, resolve everything again
+				return built;
+			}
+		}
+
+		Set<TypeRef> invalidated = new HashSet<>();
+
+		// Types that were or can now be resolved by an added or removed resolver
+		for(GraphQLResolver resolver : changedResolvers)
+		{
+			for(TypeRef type : built)
+			{
+				if((resolver instanceof GraphQLOutputResolver && ((GraphQLOutputResolver) resolver).supportsOutput(type))
+					|| (resolver instanceof GraphQLInputResolver && ((GraphQLInputResolver) resolver).supportsInput(type)))
+				{
+					invalidated.add(type);
+				}
+			}
+		}
+
+		// Types that mixins from added or removed roots apply to
+		for(GraphQLObjectMixin mixin : changedMixins)
+		{
+			for(TypeRef type : built)
+			{
+				if(mixin.supportsOutputMixin(type))
+				{
+					invalidated.add(type);
+				}
+			}
+		}
+
+		if(! changedTypes.isEmpty())
+		{
+			List<Factory<?, ?>> changedFactories = new ArrayList<>();
+			for(ScannedType scanned : previous.scannedTypes.values())
+			{
+				if(changedTypes.contains(scanned.type.getErasedType()))
+				{
+					changedFactories.addAll(scanned.factories);
+				}
+			}
+
+			List<Class<?>> abstractTypes = new ArrayList<>();
+			for(ScannedType scanned : scannedTypes)
+			{
+				Class<?> type = scanned.type.getErasedType();
+				if(changedTypes.contains(type))
+				{
+					changedFactories.addAll(scanned.factories);
+				}
+
+				if(type.isAnnotationPresent(GraphQLInterface.class)
+					|| type.isAnnotationPresent(GraphQLUnion.class))
+				{
+					abstractTypes.add(type);
+				}
+			}
+
+			// Interfaces list the added types that implement them
+			for(TypeRef type : built)
+			{
+				Class<?> erased = type.getErasedType();
+				for(Class<?> changed : changedTypes)
+				{
+					if(erased != changed && erased != Object.class && erased.isAssignableFrom(changed))
+					{
+						invalidated.add(type);
+					}
+				}
+			}
+
+			// Factories change how their input is resolved
+			for(Factory<?, ?> factory : changedFactories)
+			{
+				invalidated.add(factory.getInput().withoutUsage());
+				invalidated.add(factory.getOutput().withoutUsage());
+
+				// Conversions into interfaces and unions change with factories
+				Class<?> output = factory.getOutput().getErasedType();
+				for(Class<?> abstractType : abstractTypes)
+				{
+					GraphQLConvertFrom convertFrom = abstractType.getAnnotation(GraphQLConvertFrom.class);
+					if(convertFrom != null && abstractType.isAssignableFrom(output))
+					{
+						for(Class<?> c : convertFrom.value())
+						{
+							invalidated.add(Types.reference(c));
+						}
+					}
+				}
+			}
+		}
+
+		// Removed types are dropped together with everything they use
+		for(Class<?> changed : changedTypes)
+		{
+			if(! types.contains(changed))
+			{
+				invalidated.add(Types.reference(changed));
+			}
+		}
+
+		/*
+		 * Drop types that are no longer reachable from the roots or the added
+		 * types, such as the types only used by a removed root.
+		 */
+		Set<TypeRef> reachable = new HashSet<>();
+		List<TypeRef> pending = new ArrayList<>();
+		for(Class<?> root : rootTypes.keySet())
+		{
+			pending.addAll(previous.rootUses.getOrDefault(root, Collections.emptySet()));
+		}
+
+		for(Class<?> type : types)
+		{
+			pending.add(Types.reference(type));
+		}
+
+		while(! pending.isEmpty())
+		{
+			TypeRef type = pending.remove(pending.size() - 1);
+			if(reachable.add(type))
+			{
+				pending.addAll(previous.uses.getOrDefault(type, Collections.emptySet()));
+			}
+		}
+
+		for(TypeRef type : built)
+		{
+			if(! reachable.contains(type)
+				&& ! builtinOutputTypes.containsKey(type)
+				&& ! builtinInputTypes.containsKey(type))
+			{
+				invalidated.add(type);
+			}
+		}
+
+		// Everything using an invalidated type needs to be resolved again
+		Map<TypeRef, Set<TypeRef>> usedBy = new HashMap<>();
+		for(Map.Entry<TypeRef, Set<TypeRef>> e : previous.uses.entrySet())
+		{
+			for(TypeRef used : e.getValue())
+			{
+				usedBy.computeIfAbsent(used, k -> new HashSet<>()).add(e.getKey());
+			}
+		}
+
+		List<TypeRef> queue = new ArrayList<>(invalidated);
+		while(! queue.isEmpty())
+		{
+			TypeRef type = queue.remove(queue.size() - 1);
+
+			// Types sharing a name are always resolved together
+			Set<TypeRef> affected = previous.names.getTypesWithSameName(type);
+			affected.addAll(usedBy.getOrDefault(type, Collections.emptySet()));
+
+			for(TypeRef user : affected)
+			{
+				if(invalidated.add(user))
+				{
+					queue.add(user);
+				}
+			}
+		}
+
+		return invalidated;
+	}
+
+	/**
+	 * State of a finished build, used to update a snapshot without resolving
+	 * unaffected types again. Never modified after it has been created.
+	 */
+	public static class BuildState
+	{
+		private final Map<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> outputTypes;
+		private final Map<TypeRef, ResolvedGraphQLType<? extends GraphQLInputType>> inputTypes;
+		private final NameRegistry names;
+		private final Map<Class<?>, GraphQLDirective> directives;
+		private final Map<TypeRef, Set<TypeRef>> uses;
+		private final Map<Class<?>, Set<TypeRef>> rootUses;
+		private final Map<Class<?>, ScannedType> scannedTypes;
+		private final GraphQLCodeRegistry codeRegistry;
+
+		private BuildState(
+			Map<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> outputTypes,
+			Map<TypeRef, ResolvedGraphQLType<? extends GraphQLInputType>> inputTypes,
+			NameRegistry names,
+			Map<Class<?>, GraphQLDirective> directives,
+			Map<TypeRef, Set<TypeRef>> uses,
+			Map<Class<?>, Set<TypeRef>> rootUses,
+			Map<Class<?>, ScannedType> scannedTypes,
+			GraphQLCodeRegistry codeRegistry
+		)
+		{
+			this.outputTypes = outputTypes;
+			this.inputTypes = inputTypes;
+			this.names = names;
+			this.directives = directives;
+			this.uses = uses;
+			this.rootUses = rootUses;
+			this.scannedTypes = scannedTypes;
+			this.codeRegistry = codeRegistry;
+		}
+	}
+
+	/**
+	 * Factory candidates of a type found in parallel.
+	 */
+	private static class TypeCandidates
+	{
+		private final TypeRef type;
+		private final List<FactoryCandidate> candidates;
+
+		public TypeCandidates(TypeRef type, List<FactoryCandidate> candidates)
+		{
+			this.type = type;
+			this.candidates = candidates;
+		}
+	}
+
+	/**
+	 * Result of scanning a single type.
+	 */
+	private static class ScannedType
+	{
+		private final TypeRef type;
+		private final List<Factory<?, ?>> factories;
+
+		public ScannedType(TypeRef type, List<Factory<?, ?>> factories)
+		{
+			this.type = type;
+			this.factories = factories;
+		}
 	}
 
 	private class ResolverContextImpl
@@ -574,6 +1367,39 @@ public class InternalGraphQLSchemaBuilder
 	{
 		private final GraphQLSchema.Builder schemaBuilder;
 		private final GraphQLCodeRegistry.Builder codeRegistryBuilder;
+		private final FetcherExecution fetcherExecution;
+
+		/*
+		 * Data fetchers of the types built, registered in the code registry
+		 * when their conversions have been linked.
+		 */
+		private final Map<FieldCoordinates, DataFetchingSupplier<?>> dataFetchers;
+
+		/*
+		 * Copies of the state of the builder, building fills these and
+		 * should never change the builder itself.
+		 */
+		private final NameRegistry names;
+		private final TypeResolverRegistry typeResolvers;
+
+		private final Map<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> builtOutputTypes;
+		private final Map<TypeRef, ResolvedGraphQLType<? extends GraphQLInputType>> builtInputTypes;
+		private final Map<Class<?>, GraphQLDirective> builtDirectives;
+
+		/*
+		 * The types every resolved type used while it was resolved, used
+		 * to find what to resolve again when updating a snapshot.
+		 */
+		private final Map<TypeRef, Set<TypeRef>> uses;
+		private final Map<Class<?>, Set<TypeRef>> rootUses;
+		private final Deque<TypeRef> resolving;
+		private Class<?> currentRoot;
+
+		/*
+		 * Types restored from a previous build, their conversions have
+		 * already been finished and may be in use by a live schema.
+		 */
+		private final Set<ResolvedGraphQLType<?>> restored;
 
 		private final Set<TypeRef> inputsBeingResolved;
 		private final Map<TypeRef, PendingDataFetchingConversion<?, ?>> pendingInputConversions;
@@ -581,17 +1407,31 @@ public class InternalGraphQLSchemaBuilder
 		private final Set<TypeRef> outputsBeingResolved;
 		private final Map<TypeRef, PendingDataFetchingConversion<?, ?>> pendingOutputConversions;
 
-		private final Map<Class<?>, Map<Class<?>, Annotation>> annotationCache;
+		private final Map<Class<?>, Map<Class<?>, Optional<Annotation>>> annotationCache;
 
 		private Breadcrumb breadcrumb;
 
 		public ResolverContextImpl(
 			GraphQLSchema.Builder schemaBuilder,
-			GraphQLCodeRegistry.Builder codeRegistryBuilder
+			GraphQLCodeRegistry.Builder codeRegistryBuilder,
+			FetcherExecution fetcherExecution
 		)
 		{
 			this.schemaBuilder = schemaBuilder;
 			this.codeRegistryBuilder = codeRegistryBuilder;
+			this.fetcherExecution = fetcherExecution;
+
+			names = new NameRegistry(builtinNames);
+			typeResolvers = new TypeResolverRegistry();
+			resolvers.values().forEach(list -> list.forEach(typeResolvers::add));
+
+			builtOutputTypes = new HashMap<>(builtinOutputTypes);
+			builtInputTypes = new HashMap<>(builtinInputTypes);
+			builtDirectives = new LinkedHashMap<>();
+
+			uses = new HashMap<>();
+			rootUses = new HashMap<>();
+			resolving = new ArrayDeque<>();
 
 			breadcrumb = Breadcrumb.empty();
 
@@ -602,6 +1442,93 @@ public class InternalGraphQLSchemaBuilder
 			pendingOutputConversions = new HashMap<>();
 
 			annotationCache = new HashMap<>();
+
+			restored = Collections.newSetFromMap(new IdentityHashMap<>());
+			dataFetchers = new LinkedHashMap<>();
+		}
+
+		/**
+		 * Restore the types of a previous build that have not been
+		 * invalidated.
+		 */
+		private void restore(BuildState state, Set<TypeRef> invalidated)
+		{
+			// Data fetchers are only kept for the restored types
+			GraphQLCodeRegistry.Builder previousFetchers = GraphQLCodeRegistry.newCodeRegistry(state.codeRegistry);
+
+			state.outputTypes.forEach((type, resolved) -> {
+				if(invalidated.contains(type) || builtOutputTypes.containsKey(type)) return;
+
+				builtOutputTypes.put(type, resolved);
+				restored.add(resolved);
+
+				GraphQLType unwrapped = GraphQLTypeUtil.unwrapAll(resolved.getGraphQLType());
+				if(unwrapped instanceof GraphQLObjectType)
+				{
+					GraphQLObjectType objectType = (GraphQLObjectType) unwrapped;
+					for(GraphQLFieldDefinition field : objectType.getFieldDefinitions())
+					{
+						FieldCoordinates coordinates = FieldCoordinates.coordinates(objectType, field);
+						if(previousFetchers.hasDataFetcher(coordinates))
+						{
+							codeRegistryBuilder.dataFetcher(
+								coordinates,
+								previousFetchers.getDataFetcher(coordinates, field)
+							);
+						}
+					}
+				}
+			});
+
+			state.inputTypes.forEach((type, resolved) -> {
+				if(invalidated.contains(type) || builtInputTypes.containsKey(type)) return;
+
+				builtInputTypes.put(type, resolved);
+				restored.add(resolved);
+			});
+
+			state.uses.forEach((type, used) -> {
+				if(! invalidated.contains(type)) uses.put(type, new HashSet<>(used));
+			});
+
+			names.retain(state.names, invalidated);
+
+			state.directives.forEach((annotation, directive) -> {
+				builtDirectives.put(annotation, directive);
+				schemaBuilder.additionalDirective(directive);
+			});
+		}
+
+		/**
+		 * Record that the type currently being resolved uses the given type.
+		 */
+		private void recordUse(TypeRef type)
+		{
+			TypeRef current = resolving.peek();
+			if(current != null && ! current.equals(type))
+			{
+				uses.computeIfAbsent(current, k -> new HashSet<>()).add(type);
+			}
+			else if(current == null && currentRoot != null)
+			{
+				rootUses.computeIfAbsent(currentRoot, k -> new HashSet<>()).add(type);
+			}
+		}
+
+		/**
+		 * Resolve the fields of a root, keeping track of the types it uses.
+		 */
+		private void resolveRoot(Class<?> root, Runnable runnable)
+		{
+			currentRoot = root;
+			try
+			{
+				breadcrumb(Breadcrumb.forType(Types.reference(root)), runnable);
+			}
+			finally
+			{
+				currentRoot = null;
+			}
 		}
 
 		@Override
@@ -851,7 +1778,87 @@ public class InternalGraphQLSchemaBuilder
 				.orElse("");
 		}
 
+		/**
+		 * Register the data fetcher of a field. Fetchers are added to the
+		 * code registry by {@link #finishConversions()}.
+		 */
+		private void registerDataFetcher(FieldCoordinates coordinates, DataFetchingSupplier<?> supplier)
+		{
+			dataFetchers.put(coordinates, supplier);
+		}
+
+		/**
+		 * Finish all conversions when all types are known. Pending
+		 * conversions used for recursive types are replaced by the actual
+		 * conversions in every built type and data fetcher, only conversions
+		 * of types that contain themselves keep a pending conversion. Types
+		 * restored from a previous build were finished by that build.
+		 */
+		private void finishConversions()
+		{
+			ConversionLinker linker = new ConversionLinker();
+
+			builtInputTypes.replaceAll((key, type) -> restored.contains(type) ? type : link(linker, type));
+			builtOutputTypes.replaceAll((key, type) -> restored.contains(type) ? type : link(linker, type));
+
+			dataFetchers.forEach((coordinates, supplier) -> {
+				codeRegistryBuilder.dataFetcher(coordinates, toDataFetcher(linker.link(supplier)));
+			});
+
+			/*
+			 * Pending conversions that remain point to the linked conversions
+			 * and are sealed so they no longer need a volatile read.
+			 */
+			for(PendingDataFetchingConversion<?, ?> pending : pendingInputConversions.values())
+			{
+				pending.update(linker.link(pending.getActual()));
+				pending.seal();
+			}
+
+			for(PendingDataFetchingConversion<?, ?> pending : pendingOutputConversions.values())
+			{
+				pending.update(linker.link(pending.getActual()));
+				pending.seal();
+			}
+		}
+
 		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private ResolvedGraphQLType link(ConversionLinker linker, ResolvedGraphQLType<?> type)
+		{
+			if(! type.isPresent() || ! type.hasConversion())
+			{
+				return type;
+			}
+
+			DataFetchingConversion<?, ?> conversion = linker.link(type.getConversion());
+			if(conversion == type.getConversion())
+			{
+				return type;
+			}
+
+			return ResolvedGraphQLType.forType(type.getGraphQLType())
+				.withOutputConversion(conversion)
+				.withDefaultValue(type.getDefaultValue());
+		}
+
+		/**
+		 * Get a {@link DataFetcher} for the given supplier. Suppliers that are
+		 * already data fetchers, such as trivial ones, are registered directly
+		 * so that GraphQL Java can recognize them.
+		 *
+		 * @param supplier
+		 * @return
+		 */
+		private DataFetcher<?> toDataFetcher(DataFetchingSupplier<?> supplier)
+		{
+			if(supplier instanceof DataFetcher)
+			{
+				return (DataFetcher<?>) supplier;
+			}
+
+			return env -> supplier.get(env);
+		}
+
 		private void registerResolved(
 			TypeRef type,
 			ResolvedGraphQLType<?> resolved,
@@ -901,6 +1908,7 @@ public class InternalGraphQLSchemaBuilder
 		public ResolvedGraphQLType<? extends GraphQLOutputType> maybeResolveOutput(TypeRef type)
 		{
 			TypeRef withoutUsage = type.withoutUsage();
+			recordUse(withoutUsage);
 
 			ResolvedGraphQLType<? extends GraphQLOutputType> graphQLType = ResolvedGraphQLType.none();
 			if(builtOutputTypes.containsKey(withoutUsage))
@@ -927,46 +1935,26 @@ public class InternalGraphQLSchemaBuilder
 				graphQLType = ResolvedGraphQLType.forType(GraphQLTypeReference.typeRef(name))
 					.withOutputConversion(pending);
 			}
+			else if(typeResolvers.isUnresolvableOutput(withoutUsage))
+			{
+				// Resolved before without any result
+				return ResolvedGraphQLType.none();
+			}
 			else
 			{
-				for(GraphQLOutputResolver resolver : typeResolvers.getOutputResolver(type))
+				resolving.push(withoutUsage);
+				try
 				{
-					try
-					{
-						if(! (resolver instanceof GraphQLDelegatingResolver))
-						{
-							/*
-							 * Only keep track of non-converting resolutions.
-							 *
-							 * This helps work around a case with recursive
-							 * resolutions failing because the type being
-							 * converted from does not have a name yet but its
-							 * actual type will have.
-							 */
-							outputsBeingResolved.add(withoutUsage);
-						}
-
-						graphQLType = breadcrumb(Breadcrumb.forResolver(type, resolver), () -> {
-							return resolver.resolveOutput(new OutputEncounterImpl(
-								this,
-								withoutUsage
-							));
-						});
-
-						if(graphQLType.isPresent())
-						{
-							// Found a type, other resolvers will not run
-							break;
-						}
-					}
-					finally
-					{
-						outputsBeingResolved.remove(withoutUsage);
-					}
+					graphQLType = resolveOutputWith(type, withoutUsage);
+				}
+				finally
+				{
+					resolving.pop();
 				}
 
 				if(! graphQLType.isPresent())
 				{
+					typeResolvers.markUnresolvableOutput(withoutUsage);
 					return ResolvedGraphQLType.none();
 				}
 
@@ -987,6 +1975,51 @@ public class InternalGraphQLSchemaBuilder
 			return graphQLType;
 		}
 
+		private ResolvedGraphQLType<? extends GraphQLOutputType> resolveOutputWith(
+			TypeRef type,
+			TypeRef withoutUsage
+		)
+		{
+			ResolvedGraphQLType<? extends GraphQLOutputType> graphQLType = ResolvedGraphQLType.none();
+			for(GraphQLOutputResolver resolver : typeResolvers.getOutputResolver(type))
+			{
+				try
+				{
+					if(! (resolver instanceof GraphQLDelegatingResolver))
+					{
+						/*
+						 * Only keep track of non-converting resolutions.
+						 *
+						 * This helps work around a case with recursive
+						 * resolutions failing because the type being
+						 * converted from does not have a name yet but its
+						 * actual type will have.
+						 */
+						outputsBeingResolved.add(withoutUsage);
+					}
+
+					graphQLType = breadcrumb(Breadcrumb.forResolver(type, resolver), () -> {
+						return resolver.resolveOutput(new OutputEncounterImpl(
+							this,
+							withoutUsage
+						));
+					});
+
+					if(graphQLType.isPresent())
+					{
+						// Found a type, other resolvers will not run
+						break;
+					}
+				}
+				finally
+				{
+					outputsBeingResolved.remove(withoutUsage);
+				}
+			}
+
+			return graphQLType;
+		}
+
 		@Override
 		public ResolvedGraphQLType<? extends GraphQLOutputType> resolveOutput(TypeRef type)
 		{
@@ -1008,6 +2041,7 @@ public class InternalGraphQLSchemaBuilder
 		public ResolvedGraphQLType<? extends GraphQLInputType> maybeResolveInput(TypeRef type)
 		{
 			TypeRef withoutUsage = type.withoutUsage();
+			recordUse(withoutUsage);
 
 			ResolvedGraphQLType<? extends GraphQLInputType> graphQLType = ResolvedGraphQLType.none();
 			if(builtInputTypes.containsKey(withoutUsage))
@@ -1034,35 +2068,26 @@ public class InternalGraphQLSchemaBuilder
 				graphQLType = ResolvedGraphQLType.forType(GraphQLTypeReference.typeRef(name))
 					.withInputConversion(pending);
 			}
+			else if(typeResolvers.isUnresolvableInput(withoutUsage))
+			{
+				// Resolved before without any result
+				return ResolvedGraphQLType.none();
+			}
 			else
 			{
-				for(GraphQLInputResolver resolver : typeResolvers.getInputResolver(type))
+				resolving.push(withoutUsage);
+				try
 				{
-					try
-					{
-						inputsBeingResolved.add(withoutUsage);
-
-						graphQLType = breadcrumb(Breadcrumb.forType(type), () -> {
-							return resolver.resolveInput(new InputEncounterImpl(
-								this,
-								withoutUsage
-							));
-						});
-
-						if(graphQLType.isPresent())
-						{
-							// Found a type, other resolvers will not run
-							break;
-						}
-					}
-					finally
-					{
-						inputsBeingResolved.remove(withoutUsage);
-					}
+					graphQLType = resolveInputWith(type, withoutUsage);
+				}
+				finally
+				{
+					resolving.pop();
 				}
 
 				if(! graphQLType.isPresent())
 				{
+					typeResolvers.markUnresolvableInput(withoutUsage);
 					return ResolvedGraphQLType.none();
 				}
 
@@ -1083,6 +2108,40 @@ public class InternalGraphQLSchemaBuilder
 			return graphQLType;
 		}
 
+		private ResolvedGraphQLType<? extends GraphQLInputType> resolveInputWith(
+			TypeRef type,
+			TypeRef withoutUsage
+		)
+		{
+			ResolvedGraphQLType<? extends GraphQLInputType> graphQLType = ResolvedGraphQLType.none();
+			for(GraphQLInputResolver resolver : typeResolvers.getInputResolver(type))
+			{
+				try
+				{
+					inputsBeingResolved.add(withoutUsage);
+
+					graphQLType = breadcrumb(Breadcrumb.forType(type), () -> {
+						return resolver.resolveInput(new InputEncounterImpl(
+							this,
+							withoutUsage
+						));
+					});
+
+					if(graphQLType.isPresent())
+					{
+						// Found a type, other resolvers will not run
+						break;
+					}
+				}
+				finally
+				{
+					inputsBeingResolved.remove(withoutUsage);
+				}
+			}
+
+			return graphQLType;
+		}
+
 		@Override
 		public ResolvedGraphQLType<? extends GraphQLInputType> resolveInput(TypeRef type)
 		{
@@ -1134,15 +2193,16 @@ public class InternalGraphQLSchemaBuilder
 				// Skip looking on Java annotations - solves recursion for @Documented
 				if(a.annotationType().getName().startsWith("java.")) continue;
 
-				Map<Class<?>, Annotation> cached = annotationCache.computeIfAbsent(
+				Map<Class<?>, Optional<Annotation>> cached = annotationCache.computeIfAbsent(
 					a.annotationType(),
 					k -> new HashMap<>()
 				);
 
-				if(cached.containsKey(annotation))
+				Optional<Annotation> cachedResult = cached.get(annotation);
+				if(cachedResult != null)
 				{
 					// The annotation has been looked for and the result cached
-					return Optional.ofNullable((T) cached.get(annotation));
+					return (Optional<T>) cachedResult;
 				}
 
 				// Look one step deeper for the annotation
@@ -1150,7 +2210,7 @@ public class InternalGraphQLSchemaBuilder
 					Lists.immutable.of(a.annotationType().getAnnotations()),
 					annotation
 				);
-				cached.put(annotation, result.orElse(null));
+				cached.put(annotation, (Optional<Annotation>) result);
 
 				if(result.isPresent())
 				{
@@ -1283,7 +2343,8 @@ public class InternalGraphQLSchemaBuilder
 			return new GraphQLObjectBuilderImpl(
 				objectMixins,
 				context,
-				context.codeRegistryBuilder
+				context.fetcherExecution,
+				context::registerDataFetcher
 			);
 		}
 
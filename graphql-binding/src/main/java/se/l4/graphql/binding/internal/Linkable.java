@@ -0,0 +1,19 @@
+package se.l4.graphql.binding.internal;
+
+/**
+ * Object that holds conversions that might still be pending when it is
+ * created, such as the conversions of recursive types. Linking is done once
+ * when the schema has been built.
+ */
+public interface Linkable<T>
+{
+	/**
+	 * Get a version of this object where pending conversions have been
+	 * replaced with the conversions they resolved to.
+	 *
+	 * @param linker
+	 * @return
+	 *   linked version, or this instance if nothing needed to be replaced
+	 */
+	T link(ConversionLinker linker);
+}
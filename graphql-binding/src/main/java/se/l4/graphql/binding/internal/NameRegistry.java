@@ -1,8 +1,11 @@
 package se.l4.graphql.binding.internal;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import se.l4.graphql.binding.GraphQLMappingException;
 import se.l4.graphql.binding.annotations.GraphQLName;
@@ -22,6 +25,69 @@ public class NameRegistry
 		this.typeReverseNames = new HashMap<>();
 	}
 
+	/**
+	 * Create a copy of another registry.
+	 *
+	 * @param other
+	 */
+	public NameRegistry(NameRegistry other)
+	{
+		this.typeNames = new HashMap<>(other.typeNames);
+		this.typeReverseNames = new HashMap<>(other.typeReverseNames);
+	}
+
+	/**
+	 * Take over the names that types have in another registry, except for
+	 * the names used by any of the given types. Names reserved without a
+	 * type are not taken over.
+	 *
+	 * @param other
+	 * @param types
+	 */
+	public void retain(NameRegistry other, Collection<TypeRef> types)
+	{
+		Set<String> dropped = new HashSet<>();
+		for(TypeRef type : types)
+		{
+			String name = other.typeNames.get(type);
+			if(name != null)
+			{
+				dropped.add(name);
+			}
+		}
+
+		other.typeNames.forEach((type, name) -> {
+			if(dropped.contains(name) || typeNames.containsKey(type)) return;
+
+			typeNames.put(type, name);
+
+			Breadcrumb crumb = other.typeReverseNames.get(name);
+			if(crumb != null)
+			{
+				typeReverseNames.putIfAbsent(name, crumb);
+			}
+		});
+	}
+
+	/**
+	 * Get all the types that have been given the same name as the given type.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public Set<TypeRef> getTypesWithSameName(TypeRef type)
+	{
+		String name = typeNames.get(type);
+		Set<TypeRef> result = new HashSet<>();
+		if(name != null)
+		{
+			typeNames.forEach((other, otherName) -> {
+				if(name.equals(otherName)) result.add(other);
+			});
+		}
+		return result;
+	}
+
 	/**
 	 * Get the name the given type has in the schema.
 	 *
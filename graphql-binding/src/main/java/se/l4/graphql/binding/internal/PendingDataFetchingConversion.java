@@ -3,15 +3,31 @@ package se.l4.graphql.binding.internal;
 import graphql.schema.DataFetchingEnvironment;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
 
+/**
+ * Conversion used for recursive types, where the actual conversion is not
+ * known until the type has been resolved.
+ */
 public class PendingDataFetchingConversion<I, O>
 	implements DataFetchingConversion<I, O>
 {
 	private volatile DataFetchingConversion<I, O> actual;
 
+	/**
+	 * Copy of {@link #actual} set when the schema has been built, read
+	 * without the cost of a volatile read.
+	 */
+	private DataFetchingConversion<I, O> sealed;
+
 	@Override
 	public O convert(DataFetchingEnvironment environment, I object)
 	{
-		return actual.convert(environment, object);
+		DataFetchingConversion<I, O> conversion = sealed;
+		if(conversion == null)
+		{
+			conversion = actual;
+		}
+
+		return conversion.convert(environment, object);
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -19,4 +35,23 @@ public class PendingDataFetchingConversion<I, O>
 	{
 		this.actual = (DataFetchingConversion) conversion;
 	}
+
+	/**
+	 * Get the actual conversion, or {@code null} if it has not been resolved.
+	 *
+	 * @return
+	 */
+	public DataFetchingConversion<I, O> getActual()
+	{
+		return actual;
+	}
+
+	/**
+	 * Seal this conversion, indicating that the actual conversion will no
+	 * longer change.
+	 */
+	public void seal()
+	{
+		this.sealed = actual;
+	}
 }
@@ -11,6 +11,7 @@ import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLOutputType;
 import se.l4.graphql.binding.annotations.GraphQLMixinField;
 import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.internal.batching.BatchedMethod;
 import se.l4.graphql.binding.internal.datafetchers.MethodDataFetcher;
 import se.l4.graphql.binding.internal.factory.ArgumentResolver;
 import se.l4.graphql.binding.internal.factory.MemberKey;
@@ -37,16 +38,55 @@ public class RootObjectMixin
 	private final TypeRef root;
 	private final DataFetchingSupplier<?> supplier;
 
+	/*
+	 * The types that mixin methods take as their source, batched methods
+	 * are represented by Object as their source type is not known until
+	 * they are resolved.
+	 */
+	private final Set<Class<?>> sourceTypes;
+
 	public RootObjectMixin(TypeRef root, DataFetchingSupplier<?> supplier)
 	{
 		this.root = root;
 		this.supplier = supplier;
+
+		sourceTypes = new HashSet<>();
+		root.visitHierarchy(type -> {
+			for(MethodRef method : type.getDeclaredMethods())
+			{
+				if(! method.hasAnnotation(GraphQLMixinField.class))
+				{
+					continue;
+				}
+
+				ListIterable<ParameterRef> parameters = method.getParameters();
+				if(BatchedMethod.isBatched(method))
+				{
+					sourceTypes.add(Object.class);
+				}
+				else if(! parameters.isEmpty() && parameters.get(0).hasAnnotation(GraphQLSource.class))
+				{
+					sourceTypes.add(parameters.get(0).getType().getErasedType());
+				}
+			}
+
+			return true;
+		});
 	}
 
 	@Override
 	public boolean supportsOutputMixin(TypeRef type)
 	{
-		return true;
+		Class<?> erasedType = type.getErasedType();
+		for(Class<?> sourceType : sourceTypes)
+		{
+			if(sourceType.isAssignableFrom(erasedType))
+			{
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	@Override
@@ -78,6 +118,25 @@ public class RootObjectMixin
 					);
 				}
 
+				if(BatchedMethod.isBatched(method))
+				{
+					BatchedMethod batched = BatchedMethod.create(context, method);
+					if(! batched.getSourceType().getErasedType().isAssignableFrom(erasedType))
+					{
+						continue;
+					}
+
+					ResolvedGraphQLType<? extends GraphQLOutputType> valueType = context.resolveOutput(batched.getValueType());
+
+					encounter.newField()
+						.over(method)
+						.setType(valueType.getGraphQLType())
+						.withSupplier(batched.createFetcher(supplier, env -> env.getSource(), valueType))
+						.done();
+
+					continue;
+				}
+
 				ListIterable<ParameterRef> parameters = method.getParameters();
 				if(parameters.isEmpty()
 					|| ! parameters.get(0).hasAnnotation(GraphQLSource.class)
@@ -109,7 +168,8 @@ public class RootObjectMixin
 						arguments.add(new ArgumentResolver(
 							name,
 							(DataFetchingConversion) argumentType.getConversion(),
-							(DataFetchingSupplier) argumentType.getDefaultValue()
+							(DataFetchingSupplier) argumentType.getDefaultValue(),
+							argumentType.hasConversion() && ArgumentResolver.isCacheable(parameter)
 						));
 
 						// Register the argument
@@ -1,9 +1,22 @@
 package se.l4.graphql.binding.internal;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiPredicate;
 
 import se.l4.graphql.binding.resolver.GraphQLResolver;
+import se.l4.graphql.binding.resolver.TypedGraphQLResolver;
 import se.l4.graphql.binding.resolver.input.GraphQLInputResolver;
 import se.l4.graphql.binding.resolver.output.GraphQLOutputResolver;
 import se.l4.ylem.types.reflect.TypeRef;
@@ -11,16 +24,25 @@ import se.l4.ylem.types.reflect.TypeRef;
 /**
  * Registry for keeping track of and finding resolvers for both input and
  * output types.
+ *
+ * <p>
+ * Resolvers are indexed by the class they are typed to, see
+ * {@link TypedGraphQLResolver}, or by the classes and annotation they declare
+ * via {@link IndexedResolver}. Finding resolvers for a type only asks the
+ * resolvers indexed under the classes in its hierarchy, the resolvers indexed
+ * under its annotations and any resolvers that are not indexed. The registry
+ * also remembers types that no resolver could resolve until a new resolver is
+ * added.
  */
 public class TypeResolverRegistry
 {
-	private final List<GraphQLOutputResolver> outputResolvers;
-	private final List<GraphQLInputResolver> inputResolvers;
+	private final Index<GraphQLOutputResolver> outputResolvers;
+	private final Index<GraphQLInputResolver> inputResolvers;
 
 	public TypeResolverRegistry()
 	{
-		this.outputResolvers = new ArrayList<>();
-		this.inputResolvers = new ArrayList<>();
+		this.outputResolvers = new Index<>();
+		this.inputResolvers = new Index<>();
 	}
 
 	public void add(GraphQLResolver resolver)
@@ -37,50 +59,254 @@ public class TypeResolverRegistry
 	}
 
 	/**
-	 * Get an output resolver for the given type. Output resolvers are
-	 * registered using a lower bound, so an output resolver bound to
+	 * Get the output resolvers that support the given type, in the order
+	 * they were added.
 	 *
 	 * @param type
-	 *   the {@link Class} to find a resolver for
+	 *   the type to find resolvers for
 	 * @return
-	 *   the found resolver
+	 *   the found resolvers
 	 */
 	public List<GraphQLOutputResolver> getOutputResolver(TypeRef type)
 	{
-		List<GraphQLOutputResolver> resolvers = new ArrayList<>();
+		return outputResolvers.find(type, GraphQLOutputResolver::supportsOutput);
+	}
 
-		for(GraphQLOutputResolver resolver : outputResolvers)
-		{
-			if(resolver.supportsOutput(type))
-			{
-				resolvers.add(resolver);
-			}
-		}
+	/**
+	 * Get the input resolvers that support the given type, in the order
+	 * they were added.
+	 *
+	 * @param type
+	 *   the type to find resolvers for
+	 * @return
+	 *   the found resolvers
+	 */
+	public List<GraphQLInputResolver> getInputResolver(TypeRef type)
+	{
+		return inputResolvers.find(type, GraphQLInputResolver::supportsInput);
+	}
 
-		return resolvers;
+	/**
+	 * Get if the given type has previously been marked as not resolvable
+	 * as an output.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public boolean isUnresolvableOutput(TypeRef type)
+	{
+		return outputResolvers.unresolvable.contains(type);
+	}
+
+	/**
+	 * Mark that no output resolver could resolve the given type.
+	 *
+	 * @param type
+	 */
+	public void markUnresolvableOutput(TypeRef type)
+	{
+		outputResolvers.unresolvable.add(type);
 	}
 
 	/**
-	 * Get an output resolver for the given type.
+	 * Get if the given type has previously been marked as not resolvable
+	 * as an input.
 	 *
 	 * @param type
-	 *   the {@link Class} to find a resolver for
 	 * @return
-	 *   the found resolver
 	 */
-	public List<GraphQLInputResolver> getInputResolver(TypeRef type)
+	public boolean isUnresolvableInput(TypeRef type)
+	{
+		return inputResolvers.unresolvable.contains(type);
+	}
+
+	/**
+	 * Mark that no input resolver could resolve the given type.
+	 *
+	 * @param type
+	 */
+	public void markUnresolvableInput(TypeRef type)
+	{
+		inputResolvers.unresolvable.add(type);
+	}
+
+	/**
+	 * Collect the classes a value of the given class is assignable to, with
+	 * boxed and primitive types treated as the same.
+	 */
+	private static Set<Class<?>> hierarchy(Class<?> type)
 	{
-		List<GraphQLInputResolver> resolvers = new ArrayList<>();
+		Set<Class<?>> result = new LinkedHashSet<>();
+		collectHierarchy(type, result);
 
-		for(GraphQLInputResolver resolver : inputResolvers)
+		// Interfaces and primitives are still assignable to Object
+		result.add(Object.class);
+
+		if(type.isPrimitive() && type != void.class)
+		{
+			collectHierarchy(MethodType.methodType(type).wrap().returnType(), result);
+		}
+		else
 		{
-			if(resolver.supportsInput(type))
+			Class<?> unwrapped = MethodType.methodType(type).unwrap().returnType();
+			if(unwrapped != type)
 			{
-				resolvers.add(resolver);
+				result.add(unwrapped);
 			}
 		}
 
-		return resolvers;
+		return result;
 	}
 
+	private static void collectHierarchy(Class<?> type, Set<Class<?>> result)
+	{
+		if(type == null || ! result.add(type))
+		{
+			return;
+		}
+
+		collectHierarchy(type.getSuperclass(), result);
+		for(Class<?> iface : type.getInterfaces())
+		{
+			collectHierarchy(iface, result);
+		}
+	}
+
+	private static class Index<R extends GraphQLResolver>
+	{
+		private final Map<R, Integer> order;
+		private final List<R> unindexed;
+		private final Map<Class<?>, List<R>> byType;
+		private final Map<Class<? extends Annotation>, List<R>> byAnnotation;
+
+		private final ConcurrentMap<Class<?>, List<R>> candidates;
+		private final Set<TypeRef> unresolvable;
+
+		public Index()
+		{
+			order = new IdentityHashMap<>();
+			unindexed = new ArrayList<>();
+			byType = new HashMap<>();
+			byAnnotation = new HashMap<>();
+
+			candidates = new ConcurrentHashMap<>();
+			unresolvable = ConcurrentHashMap.newKeySet();
+		}
+
+		public synchronized void add(R resolver)
+		{
+			order.putIfAbsent(resolver, order.size());
+
+			boolean indexed = false;
+			if(resolver instanceof TypedGraphQLResolver)
+			{
+				Class<?> type = ((TypedGraphQLResolver) resolver).getType();
+				byType.computeIfAbsent(type, k -> new ArrayList<>()).add(resolver);
+				indexed = true;
+			}
+
+			if(resolver instanceof IndexedResolver)
+			{
+				IndexedResolver ir = (IndexedResolver) resolver;
+				for(Class<?> type : ir.getIndexedTypes())
+				{
+					byType.computeIfAbsent(type, k -> new ArrayList<>()).add(resolver);
+					indexed = true;
+				}
+
+				Optional<Class<? extends Annotation>> annotation = ir.getIndexedAnnotation();
+				if(annotation.isPresent())
+				{
+					byAnnotation.computeIfAbsent(annotation.get(), k -> new ArrayList<>()).add(resolver);
+					indexed = true;
+				}
+			}
+
+			if(! indexed)
+			{
+				unindexed.add(resolver);
+			}
+
+			// Lookups are no longer valid
+			candidates.clear();
+			unresolvable.clear();
+		}
+
+		public List<R> find(TypeRef type, BiPredicate<R, TypeRef> supports)
+		{
+			List<R> forClass = candidates.get(type.getErasedType());
+			if(forClass == null)
+			{
+				forClass = collect(type.getErasedType());
+				candidates.put(type.getErasedType(), forClass);
+			}
+
+			List<R> annotated = findAnnotated(type);
+			List<R> toCheck = annotated.isEmpty() ? forClass : merge(forClass, annotated);
+
+			List<R> result = new ArrayList<>(2);
+			for(R resolver : toCheck)
+			{
+				if(supports.test(resolver, type))
+				{
+					result.add(resolver);
+				}
+			}
+
+			return result;
+		}
+
+		private synchronized List<R> collect(Class<?> erased)
+		{
+			Set<R> result = new LinkedHashSet<>(unindexed);
+			for(Class<?> c : hierarchy(erased))
+			{
+				List<R> resolvers = byType.get(c);
+				if(resolvers != null)
+				{
+					result.addAll(resolvers);
+				}
+			}
+
+			return sorted(result);
+		}
+
+		private synchronized List<R> findAnnotated(TypeRef type)
+		{
+			if(byAnnotation.isEmpty())
+			{
+				return Collections.emptyList();
+			}
+
+			List<R> result = null;
+			for(Map.Entry<Class<? extends Annotation>, List<R>> e : byAnnotation.entrySet())
+			{
+				if(type.hasAnnotation(e.getKey()))
+				{
+					if(result == null)
+					{
+						result = new ArrayList<>();
+					}
+
+					result.addAll(e.getValue());
+				}
+			}
+
+			return result == null ? Collections.emptyList() : result;
+		}
+
+		private synchronized List<R> merge(List<R> a, List<R> b)
+		{
+			Set<R> result = new LinkedHashSet<>(a);
+			result.addAll(b);
+			return sorted(result);
+		}
+
+		private List<R> sorted(Set<R> resolvers)
+		{
+			List<R> result = new ArrayList<>(resolvers);
+			result.sort((r1, r2) -> Integer.compare(order.get(r1), order.get(r2)));
+			return result;
+		}
+	}
 }
@@ -0,0 +1,205 @@
+package se.l4.graphql.binding.internal.batching;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.dataloader.BatchLoader;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentationState;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
+import se.l4.graphql.binding.internal.invokers.MethodInvoker;
+import se.l4.graphql.binding.resolver.DataFetchingConversion;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+
+/**
+ * Data fetcher for fields backed by a batched method. Every fetch registers
+ * the source with a {@link DataLoader} that is created on demand in the
+ * {@link DataLoaderRegistry} of the current execution. When the loader is
+ * dispatched the method is invoked once for all of the sources that have
+ * been requested.
+ */
+public class BatchedDataFetcher
+	implements DataFetchingSupplier<CompletableFuture<Object>>, DataFetcher<CompletableFuture<Object>>,
+		Linkable<DataFetchingSupplier<CompletableFuture<Object>>>
+{
+	private final String name;
+	private final MethodInvoker invoker;
+	private final DataFetchingSupplier<?> instanceGetter;
+	private final DataFetchingSupplier<?> sourceGetter;
+
+	private final boolean sourcesAsSet;
+	private final boolean mapped;
+
+	private final DataFetchingConversion<Object, Object> conversion;
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	BatchedDataFetcher(
+		String name,
+		MethodInvoker invoker,
+		DataFetchingSupplier<?> instanceGetter,
+		DataFetchingSupplier<?> sourceGetter,
+		boolean sourcesAsSet,
+		boolean mapped,
+		DataFetchingConversion<?, ?> conversion
+	)
+	{
+		this.name = name;
+		this.invoker = invoker;
+		this.instanceGetter = instanceGetter;
+		this.sourceGetter = sourceGetter;
+		this.sourcesAsSet = sourcesAsSet;
+		this.mapped = mapped;
+		this.conversion = (DataFetchingConversion) conversion;
+	}
+
+	@Override
+	public CompletableFuture<Object> get(DataFetchingEnvironment environment)
+	{
+		Object source = sourceGetter.get(environment);
+		if(source == null)
+		{
+			return CompletableFuture.completedFuture(null);
+		}
+
+		CompletableFuture<Object> future = getLoader(environment).load(source);
+		if(conversion == null)
+		{
+			return future;
+		}
+
+		return future.thenApply(value -> conversion.convert(environment, value));
+	}
+
+	private DataLoader<Object, Object> getLoader(DataFetchingEnvironment environment)
+	{
+		DataLoaderRegistry registry = environment.getDataLoaderRegistry();
+		if(registry == null || registry == DataLoaderDispatcherInstrumentationState.EMPTY_DATALOADER_REGISTRY)
+		{
+			throw new GraphQLMappingException(
+				"Batched fields require a DataLoaderRegistry, use "
+				+ "GraphQLBinder.newExecutionInput(query) or set a new registry "
+				+ "on the ExecutionInput of every execution"
+			);
+		}
+
+		return registry.computeIfAbsent(name, key -> {
+			Object instance = instanceGetter.get(environment);
+			return DataLoader.newDataLoader(new Loader(instance));
+		});
+	}
+
+	@Override
+	public DataFetchingSupplier<CompletableFuture<Object>> link(ConversionLinker linker)
+	{
+		DataFetchingConversion<Object, Object> conversion = linker.link(this.conversion);
+		if(conversion == this.conversion)
+		{
+			return this;
+		}
+
+		return new BatchedDataFetcher(name, invoker, instanceGetter, sourceGetter, sourcesAsSet, mapped, conversion);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + "{" + name + "}";
+	}
+
+	/**
+	 * Loader that invokes the method and adapts the result to a list with a
+	 * value for every source.
+	 */
+	private class Loader
+		implements BatchLoader<Object, Object>
+	{
+		private final Object instance;
+
+		public Loader(Object instance)
+		{
+			this.instance = instance;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public CompletionStage<List<Object>> load(List<Object> sources)
+		{
+			Object result;
+			try
+			{
+				result = invoker.invoke(
+					instance,
+					sourcesAsSet ? new LinkedHashSet<>(sources) : sources
+				);
+			}
+			catch(InvocationTargetException e)
+			{
+				return CompletableFuture.failedFuture(e.getCause());
+			}
+			catch(RuntimeException e)
+			{
+				return CompletableFuture.failedFuture(e);
+			}
+
+			if(result instanceof CompletionStage)
+			{
+				return ((CompletionStage<Object>) result)
+					.thenApply(r -> toList(sources, r));
+			}
+
+			try
+			{
+				return CompletableFuture.completedFuture(toList(sources, result));
+			}
+			catch(RuntimeException e)
+			{
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<Object> toList(List<Object> sources, Object result)
+		{
+			if(result == null)
+			{
+				throw new GraphQLMappingException(
+					"Batched method returned null for " + sources.size() + " sources"
+				);
+			}
+
+			if(mapped)
+			{
+				Map<Object, Object> map = (Map<Object, Object>) result;
+				List<Object> values = new ArrayList<>(sources.size());
+				for(Object source : sources)
+				{
+					values.add(map.get(source));
+				}
+
+				return values;
+			}
+
+			List<Object> values = (List<Object>) result;
+			if(values.size() != sources.size())
+			{
+				throw new GraphQLMappingException(
+					"Batched method returned " + values.size() + " values for "
+					+ sources.size() + " sources, a value is required for every source"
+				);
+			}
+
+			return values;
+		}
+	}
+}
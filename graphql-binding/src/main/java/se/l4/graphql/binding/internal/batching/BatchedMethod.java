@@ -0,0 +1,208 @@
+package se.l4.graphql.binding.internal.batching;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.collections.api.list.ListIterable;
+
+import graphql.schema.GraphQLOutputType;
+import se.l4.graphql.binding.annotations.GraphQLBatched;
+import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.internal.invokers.Invokers;
+import se.l4.graphql.binding.resolver.Breadcrumb;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+import se.l4.graphql.binding.resolver.GraphQLResolverContext;
+import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
+import se.l4.ylem.types.reflect.MethodRef;
+import se.l4.ylem.types.reflect.ParameterRef;
+import se.l4.ylem.types.reflect.TypeRef;
+
+/**
+ * Information about a method annotated with {@link GraphQLBatched}. Validates
+ * the signature of the method and creates the data fetcher used for fields
+ * that are backed by the method.
+ */
+public class BatchedMethod
+{
+	private final MethodRef method;
+	private final TypeRef sourceType;
+	private final TypeRef valueType;
+
+	private final boolean sourcesAsSet;
+	private final boolean mapped;
+
+	private BatchedMethod(
+		MethodRef method,
+		TypeRef sourceType,
+		TypeRef valueType,
+		boolean sourcesAsSet,
+		boolean mapped
+	)
+	{
+		this.method = method;
+		this.sourceType = sourceType;
+		this.valueType = valueType;
+		this.sourcesAsSet = sourcesAsSet;
+		this.mapped = mapped;
+	}
+
+	/**
+	 * Get if the given method should be batched.
+	 *
+	 * @param method
+	 * @return
+	 */
+	public static boolean isBatched(MethodRef method)
+	{
+		return method.hasAnnotation(GraphQLBatched.class);
+	}
+
+	/**
+	 * Get the type of a single source, such as {@code Book} for a method
+	 * taking {@code List<Book>}.
+	 *
+	 * @return
+	 */
+	public TypeRef getSourceType()
+	{
+		return sourceType;
+	}
+
+	/**
+	 * Get the type of a single value, such as {@code Author} for a method
+	 * returning {@code List<Author>}.
+	 *
+	 * @return
+	 */
+	public TypeRef getValueType()
+	{
+		return valueType;
+	}
+
+	/**
+	 * Create a data fetcher that loads the value for a source via a
+	 * {@code DataLoader}.
+	 *
+	 * @param instanceGetter
+	 *   supplier of the instance to invoke the method on, ignored for static
+	 *   methods
+	 * @param sourceGetter
+	 *   supplier of the source to load the value for
+	 * @param resolvedValueType
+	 *   the resolved type of the value, used to convert values once loaded
+	 * @return
+	 */
+	public BatchedDataFetcher createFetcher(
+		DataFetchingSupplier<?> instanceGetter,
+		DataFetchingSupplier<?> sourceGetter,
+		ResolvedGraphQLType<? extends GraphQLOutputType> resolvedValueType
+	)
+	{
+		return new BatchedDataFetcher(
+			"graphql-binding:" + method.getMethod().toGenericString(),
+			Invokers.create(method.getMethod()),
+			instanceGetter,
+			sourceGetter,
+			sourcesAsSet,
+			mapped,
+			resolvedValueType.hasConversion() ? resolvedValueType.getConversion() : null
+		);
+	}
+
+	/**
+	 * Validate and create information about a batched method.
+	 *
+	 * @param context
+	 * @param method
+	 * @return
+	 */
+	public static BatchedMethod create(
+		GraphQLResolverContext context,
+		MethodRef method
+	)
+	{
+		ListIterable<ParameterRef> parameters = method.getParameters();
+		if(parameters.size() != 1 || ! parameters.get(0).hasAnnotation(GraphQLSource.class))
+		{
+			throw context.newError(
+				Breadcrumb.forMember(method),
+				"Batched methods must take a single parameter annotated with @"
+				+ GraphQLSource.class.getSimpleName()
+			);
+		}
+
+		TypeRef sourcesType = parameters.get(0).getType();
+		Class<?> sourcesErased = sourcesType.getErasedType();
+		if(sourcesErased != List.class
+			&& sourcesErased != Set.class
+			&& sourcesErased != Collection.class)
+		{
+			throw context.newError(
+				Breadcrumb.forMember(method),
+				"Batched methods must take a List, Set or Collection of sources, got `"
+				+ sourcesType.toTypeName() + "`"
+			);
+		}
+
+		TypeRef sourceType = sourcesType.getTypeParameter(0)
+			.orElseThrow(() -> context.newError(
+				Breadcrumb.forMember(method),
+				"Could not resolve the type of the sources in `" + sourcesType.toTypeName() + "`"
+			));
+
+		TypeRef returnType = method.getReturnType();
+		Optional<TypeRef> stage = returnType.findInterface(CompletionStage.class);
+		if(stage.isPresent())
+		{
+			returnType = stage.get().getTypeParameter(0)
+				.orElseThrow(() -> context.newError(
+					Breadcrumb.forMember(method),
+					"Could not resolve the result type of `" + method.getReturnType().toTypeName() + "`"
+				));
+		}
+
+		boolean mapped;
+		Optional<TypeRef> valueType;
+		if(returnType.getErasedType() == List.class)
+		{
+			if(sourcesErased == Set.class)
+			{
+				throw context.newError(
+					Breadcrumb.forMember(method),
+					"Batched methods taking a Set of sources must return a Map"
+				);
+			}
+
+			mapped = false;
+			valueType = returnType.getTypeParameter(0);
+		}
+		else if(returnType.getErasedType() == Map.class)
+		{
+			mapped = true;
+			valueType = returnType.getTypeParameter(1);
+		}
+		else
+		{
+			throw context.newError(
+				Breadcrumb.forMember(method),
+				"Batched methods must return a List or a Map, got `"
+				+ method.getReturnType().toTypeName() + "`"
+			);
+		}
+
+		return new BatchedMethod(
+			method,
+			sourceType,
+			valueType.orElseThrow(() -> context.newError(
+				Breadcrumb.forMember(method),
+				"Could not resolve the value type of `" + method.getReturnType().toTypeName() + "`"
+			)),
+			sourcesErased == Set.class,
+			mapped
+		);
+	}
+}
@@ -0,0 +1,48 @@
+package se.l4.graphql.binding.internal.builders;
+
+import java.util.Optional;
+
+import graphql.TypeResolutionEnvironment;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.TypeResolver;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.ylem.types.matching.ClassMatchingMap;
+
+/**
+ * {@link TypeResolver} used for interfaces and unions. Resolves the GraphQL
+ * type to use based on the class of the object. The name of the best matching
+ * type is looked up once per class, the type itself is always fetched from
+ * the schema being executed so that no schema is kept alive by the cache.
+ */
+class ClassTypeResolver
+	implements TypeResolver
+{
+	private final ClassValue<Optional<String>> names;
+
+	public ClassTypeResolver(ClassMatchingMap<Object, String> types)
+	{
+		this.names = new ClassValue<>()
+		{
+			@Override
+			protected Optional<String> computeValue(Class<?> type)
+			{
+				return types.getBest(type);
+			}
+		};
+	}
+
+	@Override
+	public GraphQLObjectType getType(TypeResolutionEnvironment env)
+	{
+		Class<?> type = env.getObject().getClass();
+		Optional<String> name = names.get(type);
+		if(! name.isPresent())
+		{
+			throw new GraphQLMappingException(
+				"The type `" + type + "` does not have a GraphQL type"
+			);
+		}
+
+		return env.getSchema().getObjectType(name.get());
+	}
+}
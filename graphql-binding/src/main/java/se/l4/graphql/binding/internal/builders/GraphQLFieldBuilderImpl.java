@@ -10,6 +10,7 @@ import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLOutputType;
 import se.l4.graphql.binding.annotations.GraphQLDeprecated;
+import se.l4.graphql.binding.internal.datafetchers.FetcherExecution;
 import se.l4.graphql.binding.resolver.Breadcrumb;
 import se.l4.graphql.binding.resolver.DataFetchingSupplier;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
@@ -17,11 +18,14 @@ import se.l4.graphql.binding.resolver.directive.GraphQLDirectiveFieldResult;
 import se.l4.graphql.binding.resolver.output.GraphQLArgumentBuilder;
 import se.l4.graphql.binding.resolver.output.GraphQLFieldBuilder;
 import se.l4.ylem.types.reflect.MemberRef;
+import se.l4.ylem.types.reflect.TypeRef;
 
 public class GraphQLFieldBuilderImpl<Parent>
 	implements GraphQLFieldBuilder<Parent>
 {
 	private final GraphQLResolverContext context;
+	private final FetcherExecution execution;
+	private final TypeRef boundType;
 
 	private final Parent parent;
 
@@ -30,6 +34,7 @@ public class GraphQLFieldBuilderImpl<Parent>
 	private String name;
 	private String description;
 	private Iterable<? extends Annotation> annotations;
+	private MemberRef member;
 
 	private boolean isDeprecated;
 	private String deprecationReason;
@@ -42,6 +47,8 @@ public class GraphQLFieldBuilderImpl<Parent>
 
 	public GraphQLFieldBuilderImpl(
 		GraphQLResolverContext context,
+		FetcherExecution execution,
+		TypeRef boundType,
 		Breadcrumb breadcrumb,
 
 		Parent parent,
@@ -49,6 +56,8 @@ public class GraphQLFieldBuilderImpl<Parent>
 	)
 	{
 		this.context = context;
+		this.execution = execution;
+		this.boundType = boundType;
 
 		this.breadcrumb = breadcrumb;
 
@@ -67,6 +76,7 @@ public class GraphQLFieldBuilderImpl<Parent>
 		this.name = context.getMemberName(member);
 		this.description = context.getDescription(member);
 		this.annotations = member.getAnnotations();
+		this.member = member;
 
 		Optional<GraphQLDeprecated> deprecated = member.findAnnotation(GraphQLDeprecated.class);
 		if(deprecated.isPresent())
@@ -165,6 +175,10 @@ public class GraphQLFieldBuilderImpl<Parent>
 
 			GraphQLFieldDefinition field = builder.build();
 
+			boolean async = member != null
+				&& supplier != null
+				&& execution.isAsync(boundType, member, supplier);
+
 			if(annotations != null && supplier != null)
 			{
 				GraphQLDirectiveFieldResult result = context.applyFieldDirectives(annotations, field, supplier);
@@ -172,6 +186,12 @@ public class GraphQLFieldBuilderImpl<Parent>
 				supplier = result.getSupplier();
 			}
 
+			if(async)
+			{
+				// Run the supplier, including directives, via the executor
+				supplier = execution.wrap(context, supplier);
+			}
+
 			consumer.accept(field, supplier);
 		});
 
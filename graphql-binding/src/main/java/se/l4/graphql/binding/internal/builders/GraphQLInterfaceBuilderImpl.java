@@ -4,11 +4,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import graphql.TypeResolutionEnvironment;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLObjectType;
-import graphql.schema.TypeResolver;
-import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.internal.datafetchers.FetcherExecution;
 import se.l4.graphql.binding.resolver.Breadcrumb;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
 import se.l4.graphql.binding.resolver.output.GraphQLFieldBuilder;
@@ -16,7 +14,6 @@ import se.l4.graphql.binding.resolver.output.GraphQLInterfaceBuilder;
 import se.l4.graphql.binding.resolver.output.GraphQLObjectMixin;
 import se.l4.graphql.binding.resolver.output.GraphQLObjectMixinEncounter;
 import se.l4.ylem.types.matching.ClassMatchingConcurrentHashMap;
-import se.l4.ylem.types.matching.ClassMatchingMap;
 import se.l4.ylem.types.matching.MutableClassMatchingMap;
 import se.l4.ylem.types.reflect.TypeRef;
 
@@ -84,6 +81,8 @@ public class GraphQLInterfaceBuilderImpl
 	{
 		return new GraphQLFieldBuilderImpl<GraphQLInterfaceBuilder>(
 			context,
+			FetcherExecution.INLINE,
+			null,
 			breadcrumb,
 			this,
 			(field, fetcher) -> {
@@ -139,29 +138,7 @@ public class GraphQLInterfaceBuilderImpl
 			}
 		}
 
-		builder.typeResolver(new TypeResolverImpl(implementations));
+		builder.typeResolver(new ClassTypeResolver(implementations));
 		return builder.build();
 	}
-
-	private static class TypeResolverImpl
-		implements TypeResolver
-	{
-		private final ClassMatchingMap<Object, String> types;
-
-		public TypeResolverImpl(ClassMatchingMap<Object, String> types)
-		{
-			this.types = types;
-		}
-
-		@Override
-		public GraphQLObjectType getType(TypeResolutionEnvironment env)
-		{
-			return types.getBest(env.getObject().getClass())
-				.map(name -> env.getSchema().getObjectType(name))
-				.orElseThrow(() -> new GraphQLMappingException(
-					"The type `" + env.getObject().getClass()
-					+ "` does not have a GraphQL type"
-				));
-		}
-	}
 }
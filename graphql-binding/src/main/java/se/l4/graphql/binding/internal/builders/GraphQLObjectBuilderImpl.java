@@ -1,14 +1,16 @@
 package se.l4.graphql.binding.internal.builders;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
-import graphql.schema.DataFetcher;
 import graphql.schema.FieldCoordinates;
-import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLObjectType;
+import se.l4.graphql.binding.internal.datafetchers.FetcherExecution;
 import se.l4.graphql.binding.resolver.Breadcrumb;
 import se.l4.graphql.binding.resolver.DataFetchingSupplier;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
@@ -22,9 +24,10 @@ public class GraphQLObjectBuilderImpl
 	implements GraphQLObjectBuilder
 {
 	private final GraphQLResolverContext context;
+	private final FetcherExecution execution;
 	private final List<GraphQLObjectMixin> mixins;
 
-	private final GraphQLCodeRegistry.Builder code;
+	private final BiConsumer<FieldCoordinates, DataFetchingSupplier<?>> dataFetchers;
 
 	private final GraphQLObjectType.Builder builder;
 
@@ -38,12 +41,14 @@ public class GraphQLObjectBuilderImpl
 	public GraphQLObjectBuilderImpl(
 		List<GraphQLObjectMixin> mixins,
 		GraphQLResolverContext context,
-		GraphQLCodeRegistry.Builder code
+		FetcherExecution execution,
+		BiConsumer<FieldCoordinates, DataFetchingSupplier<?>> dataFetchers
 	)
 	{
 		this.mixins = mixins;
 		this.context = context;
-		this.code = code;
+		this.execution = execution;
+		this.dataFetchers = dataFetchers;
 
 		breadcrumb = Breadcrumb.empty();
 		this.fields = new HashMap<>();
@@ -81,6 +86,8 @@ public class GraphQLObjectBuilderImpl
 	{
 		return new GraphQLFieldBuilderImpl<GraphQLObjectBuilder>(
 			context,
+			execution,
+			type,
 			breadcrumb,
 			this,
 			(field, supplier) -> {
@@ -100,6 +107,17 @@ public class GraphQLObjectBuilderImpl
 		);
 	}
 
+	/**
+	 * Get the names of the fields added so far.
+	 *
+	 * @return
+	 *   a copy of the field names
+	 */
+	public Set<String> getFieldNames()
+	{
+		return new HashSet<>(fields.keySet());
+	}
+
 	@Override
 	public GraphQLObjectBuilder implement(GraphQLInterfaceType type)
 	{
@@ -151,12 +169,11 @@ public class GraphQLObjectBuilderImpl
 		// Set the name
 		builder.name(name);
 
-		// Setup all the data fetchers in the code registry
+		// Register all the data fetchers
 		for(Map.Entry<String, DataFetchingSupplier<?>> e : fields.entrySet())
 		{
 			FieldCoordinates coordinates = FieldCoordinates.coordinates(this.name, e.getKey());
-			DataFetchingSupplier<?> supplier = e.getValue();
-			code.dataFetcher(coordinates, (DataFetcher<?>) (env -> supplier.get(env)));
+			dataFetchers.accept(coordinates, e.getValue());
 		}
 
 		return builder.build();
@@ -3,19 +3,15 @@ package se.l4.graphql.binding.internal.builders;
 import java.util.HashSet;
 import java.util.Set;
 
-import graphql.TypeResolutionEnvironment;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLTypeReference;
 import graphql.schema.GraphQLUnionType;
-import graphql.schema.TypeResolver;
-import se.l4.graphql.binding.GraphQLMappingException;
 import se.l4.graphql.binding.resolver.Breadcrumb;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
 import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
 import se.l4.graphql.binding.resolver.output.GraphQLUnionBuilder;
 import se.l4.ylem.types.matching.ClassMatchingConcurrentHashMap;
-import se.l4.ylem.types.matching.ClassMatchingMap;
 import se.l4.ylem.types.matching.MutableClassMatchingMap;
 import se.l4.ylem.types.reflect.TypeRef;
 
@@ -107,29 +103,7 @@ public class GraphQLUnionBuilderImpl
 	@Override
 	public GraphQLUnionType build()
 	{
-		builder.typeResolver(new TypeResolverImpl(implementations));
+		builder.typeResolver(new ClassTypeResolver(implementations));
 		return builder.build();
 	}
-
-	private static class TypeResolverImpl
-		implements TypeResolver
-	{
-		private final ClassMatchingMap<Object, String> types;
-
-		public TypeResolverImpl(ClassMatchingMap<Object, String> types)
-		{
-			this.types = types;
-		}
-
-		@Override
-		public GraphQLObjectType getType(TypeResolutionEnvironment env)
-		{
-			return types.getBest(env.getObject().getClass())
-				.map(name -> env.getSchema().getObjectType(name))
-				.orElseThrow(() -> new GraphQLMappingException(
-					"The type `" + env.getObject().getClass()
-					+ "` does not have a GraphQL type"
-				));
-		}
-	}
 }
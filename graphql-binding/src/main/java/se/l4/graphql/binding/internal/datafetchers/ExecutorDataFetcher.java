@@ -0,0 +1,49 @@
+package se.l4.graphql.binding.internal.datafetchers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+
+/**
+ * Data fetcher that invokes another supplier via an {@link Executor} and
+ * returns the result as a {@link CompletableFuture}.
+ */
+public class ExecutorDataFetcher<T>
+	implements DataFetchingSupplier<CompletableFuture<T>>, DataFetcher<CompletableFuture<T>>,
+		Linkable<DataFetchingSupplier<CompletableFuture<T>>>
+{
+	private final Executor executor;
+	private final DataFetchingSupplier<T> supplier;
+
+	public ExecutorDataFetcher(
+		Executor executor,
+		DataFetchingSupplier<T> supplier
+	)
+	{
+		this.executor = executor;
+		this.supplier = supplier;
+	}
+
+	@Override
+	public CompletableFuture<T> get(DataFetchingEnvironment environment)
+	{
+		return CompletableFuture.supplyAsync(() -> supplier.get(environment), executor);
+	}
+
+	@Override
+	public DataFetchingSupplier<CompletableFuture<T>> link(ConversionLinker linker)
+	{
+		DataFetchingSupplier<T> supplier = linker.link(this.supplier);
+		if(supplier == this.supplier)
+		{
+			return this;
+		}
+
+		return new ExecutorDataFetcher<>(executor, supplier);
+	}
+}
@@ -0,0 +1,101 @@
+package se.l4.graphql.binding.internal.datafetchers;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import graphql.TrivialDataFetcher;
+import se.l4.graphql.binding.annotations.GraphQLAsync;
+import se.l4.graphql.binding.internal.batching.BatchedDataFetcher;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+import se.l4.graphql.binding.resolver.GraphQLResolverContext;
+import se.l4.ylem.types.reflect.MemberRef;
+import se.l4.ylem.types.reflect.MethodRef;
+import se.l4.ylem.types.reflect.TypeRef;
+
+/**
+ * Decides how the data fetcher of a field is executed, either on the thread
+ * executing the query or via an {@link Executor}.
+ */
+public class FetcherExecution
+{
+	/**
+	 * Execution that always invokes data fetchers on the executing thread.
+	 */
+	public static final FetcherExecution INLINE = new FetcherExecution(null, false);
+
+	private final Executor executor;
+	private final boolean asyncByDefault;
+
+	public FetcherExecution(Executor executor, boolean asyncByDefault)
+	{
+		this.executor = executor;
+		this.asyncByDefault = asyncByDefault;
+	}
+
+	/**
+	 * Get if the supplier for the given member should be run via the
+	 * executor. An annotation on the method is used first, followed by the
+	 * type being bound if the method belongs to it, so that a subclass
+	 * annotated with {@link GraphQLAsync} applies to inherited methods.
+	 *
+	 * @param boundType
+	 *   the type the field is being bound for, or {@code null} if unknown
+	 * @param member
+	 * @param supplier
+	 * @return
+	 */
+	public boolean isAsync(TypeRef boundType, MemberRef member, DataFetchingSupplier<?> supplier)
+	{
+		if(this == INLINE
+			|| ! (member instanceof MethodRef)
+			|| supplier instanceof TrivialDataFetcher
+			|| supplier instanceof BatchedDataFetcher)
+		{
+			// Reads and batched fields always run inline
+			return false;
+		}
+
+		MethodRef method = (MethodRef) member;
+		if(CompletionStage.class.isAssignableFrom(method.getReturnType().getErasedType()))
+		{
+			// Method is already asynchronous
+			return false;
+		}
+
+		Optional<GraphQLAsync> async = method.getAnnotation(GraphQLAsync.class);
+		if(! async.isPresent())
+		{
+			TypeRef type = boundType != null
+				&& method.getDeclaringType().getErasedType().isAssignableFrom(boundType.getErasedType())
+				? boundType
+				: method.getDeclaringType();
+
+			async = type.getAnnotation(GraphQLAsync.class);
+		}
+
+		return async.map(GraphQLAsync::value).orElse(asyncByDefault);
+	}
+
+	/**
+	 * Wrap a supplier so that it is run via the executor.
+	 *
+	 * @param context
+	 * @param supplier
+	 * @return
+	 */
+	public DataFetchingSupplier<?> wrap(
+		GraphQLResolverContext context,
+		DataFetchingSupplier<?> supplier
+	)
+	{
+		if(executor == null)
+		{
+			throw context.newError(
+				"Field should be invoked asynchronously, but no executor has been set"
+			);
+		}
+
+		return new ExecutorDataFetcher<>(executor, supplier);
+	}
+}
@@ -2,16 +2,20 @@ package se.l4.graphql.binding.internal.datafetchers;
 
 import java.lang.reflect.Field;
 
+import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
-import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
+import se.l4.graphql.binding.internal.invokers.FieldAccessor;
+import se.l4.graphql.binding.internal.invokers.Invokers;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
 import se.l4.graphql.binding.resolver.DataFetchingSupplier;
 
 public class FieldDataFetcher<I, T>
-	implements DataFetchingSupplier<T>
+	implements DataFetchingSupplier<T>, DataFetcher<T>, Linkable<DataFetchingSupplier<T>>
 {
 	private final DataFetchingSupplier<Object> contextGetter;
-	private final Field field;
+	private final FieldAccessor accessor;
 	private final DataFetchingConversion<I, T> returnTypeConversion;
 
 	public FieldDataFetcher(
@@ -19,9 +23,18 @@ public class FieldDataFetcher<I, T>
 		Field field,
 		DataFetchingConversion<I, T> returnTypeConversion
 	)
+	{
+		this(contextGetter, Invokers.accessor(field), returnTypeConversion);
+	}
+
+	private FieldDataFetcher(
+		DataFetchingSupplier<Object> contextGetter,
+		FieldAccessor accessor,
+		DataFetchingConversion<I, T> returnTypeConversion
+	)
 	{
 		this.contextGetter = contextGetter;
-		this.field = field;
+		this.accessor = accessor;
 		this.returnTypeConversion = returnTypeConversion;
 	}
 
@@ -29,14 +42,19 @@ public class FieldDataFetcher<I, T>
 	@SuppressWarnings("unchecked")
 	public T get(DataFetchingEnvironment environment)
 	{
-		try
-		{
-			Object context = contextGetter.get(environment);
-			return returnTypeConversion.convert(environment, (I) field.get(context));
-		}
-		catch(IllegalAccessException | IllegalArgumentException e)
+		Object context = contextGetter.get(environment);
+		return returnTypeConversion.convert(environment, (I) accessor.get(context));
+	}
+
+	@Override
+	public DataFetchingSupplier<T> link(ConversionLinker linker)
+	{
+		DataFetchingConversion<I, T> conversion = linker.link(returnTypeConversion);
+		if(conversion == returnTypeConversion)
 		{
-			throw new GraphQLMappingException(e.getMessage(), e);
+			return this;
 		}
+
+		return new FieldDataFetcher<>(contextGetter, accessor, conversion);
 	}
 }
@@ -1,55 +1,60 @@
 package se.l4.graphql.binding.internal.datafetchers;
 
 import java.lang.reflect.Field;
-import java.util.Map;
 
 import graphql.schema.DataFetchingEnvironment;
-import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.internal.invokers.FieldAccessor;
+import se.l4.graphql.binding.internal.invokers.Invokers;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
 
 public class FieldInjector
 	implements ValueInjector
 {
-	private final Field field;
+	private final FieldAccessor accessor;
 	private final String name;
 	private final DataFetchingConversion<Object, Object> conversion;
 
+	/**
+	 * Create a new injector.
+	 *
+	 * @param field
+	 *   the field to set
+	 * @param name
+	 *   the name of the value in the input data
+	 * @param conversion
+	 *   conversion to apply to values, or {@code null} if values are set
+	 *   as is
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public FieldInjector(
 		Field field,
 		String name,
 		DataFetchingConversion<?, ?> conversion
 	)
 	{
-		this.field = field;
+		this.accessor = Invokers.accessor(field);
 		this.name = name;
 		this.conversion = (DataFetchingConversion) conversion;
 	}
 
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
 	@Override
 	public void inject(
 		DataFetchingEnvironment env,
 		Object instance,
-		Map<String, Object> data
+		Object value
 	)
 	{
-		if(! data.containsKey(name))
+		if(conversion != null)
 		{
-			// Data does not contain the name, skip it
-			return;
+			value = conversion.convert(env, value);
 		}
 
-		Object value = conversion.convert(env, data.get(name));
-		try
-		{
-			field.set(instance, value);
-		}
-		catch(IllegalArgumentException e)
-		{
-			throw new GraphQLMappingException("Unable to set field; " + e.getMessage(), e);
-		}
-		catch(IllegalAccessException e)
-		{
-			throw new GraphQLMappingException("Unable to set field; " + e.getMessage(), e);
-		}
+		accessor.set(instance, value);
 	}
 }
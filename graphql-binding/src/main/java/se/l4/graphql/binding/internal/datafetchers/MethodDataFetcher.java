@@ -2,21 +2,27 @@ package se.l4.graphql.binding.internal.datafetchers;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Collection;
 
+import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
+import se.l4.graphql.binding.internal.invokers.InvocationArguments;
+import se.l4.graphql.binding.internal.invokers.Invokers;
+import se.l4.graphql.binding.internal.invokers.MethodInvoker;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
 import se.l4.graphql.binding.resolver.DataFetchingSupplier;
 
 public class MethodDataFetcher<I, T>
-	implements DataFetchingSupplier<T>
+	implements DataFetchingSupplier<T>, DataFetcher<T>, Linkable<DataFetchingSupplier<T>>
 {
 	private final DataFetchingSupplier<Object> contextGetter;
-	private final Method method;
+	private final MethodInvoker invoker;
 	private final DataFetchingSupplier<?>[] parameters;
 	private final DataFetchingConversion<I, T> returnTypeConversion;
+	private final InvocationArguments arguments;
 
 	public MethodDataFetcher(
 		DataFetchingSupplier<Object> contextGetter,
@@ -24,11 +30,28 @@ public class MethodDataFetcher<I, T>
 		Collection<DataFetchingSupplier<?>> parameters,
 		DataFetchingConversion<I, T> returnTypeConversion
 	)
+	{
+		this(
+			contextGetter,
+			Invokers.create(method),
+			parameters.toArray(new DataFetchingSupplier[parameters.size()]),
+			returnTypeConversion
+		);
+	}
+
+	private MethodDataFetcher(
+		DataFetchingSupplier<Object> contextGetter,
+		MethodInvoker invoker,
+		DataFetchingSupplier<?>[] parameters,
+		DataFetchingConversion<I, T> returnTypeConversion
+	)
 	{
 		this.contextGetter = contextGetter;
-		this.method = method;
-		this.parameters = parameters.toArray(new DataFetchingSupplier[parameters.size()]);
+		this.invoker = invoker;
+		this.parameters = parameters;
 		this.returnTypeConversion = returnTypeConversion;
+
+		this.arguments = (index, env, source) -> parameters[index].get(env);
 	}
 
 	@Override
@@ -37,25 +60,36 @@ public class MethodDataFetcher<I, T>
 	{
 		Object context = contextGetter.get(environment);
 
+		I result;
 		try
 		{
-			I result = (I) method.invoke(
-				context,
-				Arrays.stream(parameters)
-					.map(p -> p.get(environment))
-					.toArray()
-			);
-
-			return returnTypeConversion.convert(environment, result);
+			result = (I) Invokers.invoke(invoker, context, parameters.length, arguments, environment, null);
 		}
 		catch(InvocationTargetException e)
 		{
 			throw new GraphQLMappingException(e.getCause().getMessage(), e.getCause());
 		}
-		catch(IllegalAccessException | IllegalArgumentException e)
+
+		return returnTypeConversion.convert(environment, result);
+	}
+
+	@Override
+	public DataFetchingSupplier<T> link(ConversionLinker linker)
+	{
+		boolean changed = false;
+		DataFetchingSupplier<?>[] parameters = new DataFetchingSupplier[this.parameters.length];
+		for(int i=0, n=parameters.length; i<n; i++)
+		{
+			parameters[i] = linker.link(this.parameters[i]);
+			changed |= parameters[i] != this.parameters[i];
+		}
+
+		DataFetchingConversion<I, T> conversion = linker.link(returnTypeConversion);
+		if(! changed && conversion == returnTypeConversion)
 		{
-			throw new GraphQLMappingException(e.getMessage(), e);
+			return this;
 		}
 
+		return new MethodDataFetcher<>(contextGetter, invoker, parameters, conversion);
 	}
 }
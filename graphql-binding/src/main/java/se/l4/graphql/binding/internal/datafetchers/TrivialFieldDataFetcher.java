@@ -0,0 +1,38 @@
+package se.l4.graphql.binding.internal.datafetchers;
+
+import java.lang.reflect.Field;
+
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.internal.invokers.FieldAccessor;
+import se.l4.graphql.binding.internal.invokers.Invokers;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+
+/**
+ * Fetcher for a field that does not need any conversion of its value. This
+ * is registered as a {@link TrivialDataFetcher} so that GraphQL Java can
+ * skip instrumentation of it.
+ */
+public class TrivialFieldDataFetcher<T>
+	implements DataFetchingSupplier<T>, TrivialDataFetcher<T>
+{
+	private final DataFetchingSupplier<Object> contextGetter;
+	private final FieldAccessor accessor;
+
+	public TrivialFieldDataFetcher(
+		DataFetchingSupplier<Object> contextGetter,
+		Field field
+	)
+	{
+		this.contextGetter = contextGetter;
+		this.accessor = Invokers.accessor(field);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(DataFetchingEnvironment environment)
+	{
+		Object context = contextGetter.get(environment);
+		return (T) accessor.get(context);
+	}
+}
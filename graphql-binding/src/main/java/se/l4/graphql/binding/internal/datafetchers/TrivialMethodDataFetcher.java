@@ -0,0 +1,76 @@
+package se.l4.graphql.binding.internal.datafetchers;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.internal.invokers.Invokers;
+import se.l4.graphql.binding.internal.invokers.MethodInvoker;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+
+/**
+ * Fetcher for a getter without parameters that does not need any conversion
+ * of its value. This is registered as a {@link TrivialDataFetcher} so that
+ * GraphQL Java can skip instrumentation of it.
+ */
+public class TrivialMethodDataFetcher<T>
+	implements DataFetchingSupplier<T>, TrivialDataFetcher<T>
+{
+	private final DataFetchingSupplier<Object> contextGetter;
+	private final MethodInvoker invoker;
+
+	public TrivialMethodDataFetcher(
+		DataFetchingSupplier<Object> contextGetter,
+		Method method
+	)
+	{
+		this.contextGetter = contextGetter;
+		this.invoker = Invokers.create(method);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(DataFetchingEnvironment environment)
+	{
+		Object context = contextGetter.get(environment);
+
+		try
+		{
+			return (T) invoker.invoke(context);
+		}
+		catch(InvocationTargetException e)
+		{
+			throw new GraphQLMappingException(e.getCause().getMessage(), e.getCause());
+		}
+	}
+
+	/**
+	 * Get if the given method looks like a getter, in that it has no
+	 * parameters and is named {@code getName} or {@code isName}.
+	 *
+	 * @param method
+	 * @return
+	 */
+	public static boolean isGetter(Method method)
+	{
+		if(method.getParameterCount() != 0 || method.getReturnType() == void.class)
+		{
+			return false;
+		}
+
+		String name = method.getName();
+		if(name.length() > 3 && name.startsWith("get"))
+		{
+			return Character.isUpperCase(name.charAt(3));
+		}
+		else if(name.length() > 2 && name.startsWith("is"))
+		{
+			return Character.isUpperCase(name.charAt(2))
+				&& (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class);
+		}
+
+		return false;
+	}
+}
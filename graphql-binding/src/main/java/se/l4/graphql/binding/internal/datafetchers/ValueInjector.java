@@ -1,14 +1,31 @@
 package se.l4.graphql.binding.internal.datafetchers;
 
-import java.util.Map;
-
 import graphql.schema.DataFetchingEnvironment;
 
+/**
+ * Injector of a single named value into an instance, used when creating
+ * input objects.
+ */
 public interface ValueInjector
 {
+	/**
+	 * Get the name of the value in the input data.
+	 *
+	 * @return
+	 */
+	String getName();
+
+	/**
+	 * Inject the value into the instance.
+	 *
+	 * @param environment
+	 * @param instance
+	 * @param value
+	 *   the raw value as found in the input data
+	 */
 	void inject(
 		DataFetchingEnvironment environment,
 		Object instance,
-		Map<String, Object> data
+		Object value
 	);
 }
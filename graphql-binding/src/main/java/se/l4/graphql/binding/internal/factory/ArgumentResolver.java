@@ -1,30 +1,115 @@
 package se.l4.graphql.binding.internal.factory;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
+import graphql.GraphQLContext;
+import graphql.language.Field;
 import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.annotations.GraphQLConstructor;
+import se.l4.graphql.binding.annotations.GraphQLInputObject;
+import se.l4.graphql.binding.annotations.GraphQLMutable;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
 import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+import se.l4.ylem.types.reflect.ConstructorRef;
+import se.l4.ylem.types.reflect.ParameterRef;
+import se.l4.ylem.types.reflect.TypeRef;
 
 /**
  * Resolver that extracts a GraphQL argument for use within a method call.
+ *
+ * <p>
+ * Converted values can be cached, in which case the last converted value is
+ * reused as long as the same field in the same execution is being fetched.
+ * This avoids converting the same argument for every item when a field is
+ * fetched within a list. The cache is kept in the {@link GraphQLContext} of
+ * the execution so that nothing is retained after it, executions with a
+ * custom context object convert arguments for every invocation.
  */
 public class ArgumentResolver
-	implements DataFetchingSupplier<Object>
+	implements DataFetchingSupplier<Object>, Linkable<DataFetchingSupplier<Object>>
 {
 	private final String name;
 	private final DataFetchingConversion<Object, Object> conversion;
 	private final DataFetchingSupplier<Object> defaultValue;
+	private final boolean cached;
 
 	public ArgumentResolver(
 		String name,
 		DataFetchingConversion<Object, Object> conversion,
-		DataFetchingSupplier<Object> defaultValue
+		DataFetchingSupplier<Object> defaultValue,
+		boolean cached
 	)
 	{
 		this.name = name;
 		this.conversion = conversion;
 		this.defaultValue = defaultValue;
+		this.cached = cached;
+	}
+
+	/**
+	 * Get if the converted value of the given parameter can be reused
+	 * between invocations. Values are only reused if nothing within them can
+	 * be modified by the method they are passed to, so arrays, collections,
+	 * maps, types marked with {@link GraphQLMutable} and input objects that
+	 * are created via field injection are converted for every invocation.
+	 * Input objects created via a {@link GraphQLConstructor} or a record are
+	 * checked via the parameters of their constructors.
+	 *
+	 * @param parameter
+	 * @return
+	 */
+	public static boolean isCacheable(ParameterRef parameter)
+	{
+		return ! parameter.hasAnnotation(GraphQLMutable.class)
+			&& ! isMutable(parameter.getType(), new HashSet<>());
+	}
+
+	private static boolean isMutable(TypeRef type, Set<Class<?>> checked)
+	{
+		Class<?> erased = type.getErasedType();
+		if(erased.isAnnotationPresent(GraphQLMutable.class)
+			|| erased.isArray()
+			|| Iterable.class.isAssignableFrom(erased)
+			|| Map.class.isAssignableFrom(erased))
+		{
+			return true;
+		}
+
+		if(erased.isAnnotationPresent(GraphQLInputObject.class) && checked.add(erased))
+		{
+			boolean record = erased.getSuperclass() != null
+				&& erased.getSuperclass().getName().equals("java.lang.Record");
+
+			boolean constructed = false;
+			for(ConstructorRef constructor : type.getDeclaredConstructors())
+			{
+				if(! record && ! constructor.hasAnnotation(GraphQLConstructor.class))
+				{
+					continue;
+				}
+
+				constructed = true;
+				for(ParameterRef parameter : constructor.getParameters())
+				{
+					if(isMutable(parameter.getType(), checked))
+					{
+						return true;
+					}
+				}
+			}
+
+			if(! constructed)
+			{
+				// Field injected input objects can be modified
+				return true;
+			}
+		}
+
+		return type.getTypeParameters().anySatisfy(t -> isMutable(t, checked));
 	}
 
 	@Override
@@ -36,7 +121,61 @@ public class ArgumentResolver
 			return defaultValue.get(env);
 		}
 
-		Object value = env.getArgument(name);
-		return conversion.convert(env, value);
+		Object context = env.getContext();
+		if(! cached || ! (context instanceof GraphQLContext))
+		{
+			return conversion.convert(env, arguments.get(name));
+		}
+
+		/*
+		 * The field node is shared by all invocations of a field within a
+		 * query and the variables are created for every execution, together
+		 * they identify arguments that are the same.
+		 */
+		GraphQLContext graphQLContext = (GraphQLContext) context;
+		Field field = env.getField();
+		Map<String, Object> variables = env.getVariables();
+
+		CachedValue cachedValue = graphQLContext.get(this);
+		if(cachedValue != null
+			&& cachedValue.field == field
+			&& cachedValue.variables == variables)
+		{
+			return cachedValue.value;
+		}
+
+		Object value = conversion.convert(env, arguments.get(name));
+		graphQLContext.put(this, new CachedValue(field, variables, value));
+		return value;
+	}
+
+	@Override
+	public DataFetchingSupplier<Object> link(ConversionLinker linker)
+	{
+		DataFetchingConversion<Object, Object> conversion = linker.link(this.conversion);
+		if(conversion == this.conversion)
+		{
+			return this;
+		}
+
+		return new ArgumentResolver(name, conversion, defaultValue, cached);
+	}
+
+	private static class CachedValue
+	{
+		private final Field field;
+		private final Map<String, Object> variables;
+		private final Object value;
+
+		public CachedValue(
+			Field field,
+			Map<String, Object> variables,
+			Object value
+		)
+		{
+			this.field = field;
+			this.variables = variables;
+			this.value = value;
+		}
 	}
 }
@@ -4,7 +4,6 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -15,6 +14,9 @@ import graphql.schema.DataFetchingEnvironment;
 import se.l4.graphql.binding.GraphQLMappingException;
 import se.l4.graphql.binding.annotations.GraphQLFactory;
 import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.internal.invokers.InvocationArguments;
+import se.l4.graphql.binding.internal.invokers.Invokers;
+import se.l4.graphql.binding.internal.invokers.MethodInvoker;
 import se.l4.graphql.binding.resolver.Breadcrumb;
 import se.l4.graphql.binding.resolver.DataFetchingSupplier;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
@@ -35,20 +37,21 @@ public class FactoryResolver
 		TypeRef ref
 	)
 	{
-		List<Factory<?, ?>> result = new ArrayList<>();
-
-		generateConstructorFactories(context, ref, result);
-		generateMethodFactories(context, ref, result);
-
-		return result;
+		return resolveFactories(context, findCandidates(ref));
 	}
 
-	private static void generateConstructorFactories(
-		GraphQLResolverContext context,
-		TypeRef ref,
-		List<Factory<?, ?>> result
-	)
+	/**
+	 * Find the constructors and static methods of a type that are marked
+	 * with {@link GraphQLFactory}. This only uses reflection and does not
+	 * report errors, so it can be called from any thread.
+	 *
+	 * @param ref
+	 * @return
+	 */
+	public static List<FactoryCandidate> findCandidates(TypeRef ref)
 	{
+		List<FactoryCandidate> result = new ArrayList<>();
+
 		for(ConstructorRef constructor : ref.getConstructors())
 		{
 			if(! constructor.findAnnotation(GraphQLFactory.class).isPresent())
@@ -57,68 +60,85 @@ public class FactoryResolver
 				continue;
 			}
 
-			Optional<TypeRef> sourceType = findCreatableType(constructor);
-			if(! sourceType.isPresent())
+			result.add(new FactoryCandidate(constructor, ref, findCreatableType(constructor), null));
+		}
+
+		for(MethodRef method : ref.getMethods())
+		{
+			if(! method.findAnnotation(GraphQLFactory.class).isPresent())
 			{
-				throw context.newError(
-					Breadcrumb.forMember(constructor),
-					"A parameter with @GraphQLSource is required to be able " +
-					"to automatically construct type"
-				);
+				// Not marked with @GraphQLFactory, skip this method
+				continue;
 			}
 
-			DataFetchingSupplier<?>[] suppliers = getParameterSuppliers(context, constructor);
-			result.add(new ConstructorFactory(
-				sourceType.get(),
-				ref,
-
-				suppliers,
-				constructor.getConstructor()
+			result.add(new FactoryCandidate(
+				method,
+				method.getReturnType(),
+				findCreatableType(method),
+				method.isStatic() ? null : "Factory methods must be static"
 			));
 		}
+
+		return result;
 	}
 
-	private static void generateMethodFactories(
+	/**
+	 * Create factories for candidates found via
+	 * {@link #findCandidates(TypeRef)}, reporting any problems with them.
+	 *
+	 * @param context
+	 * @param candidates
+	 * @return
+	 */
+	public static List<Factory<?, ?>> resolveFactories(
 		GraphQLResolverContext context,
-		TypeRef ref,
-		List<Factory<?, ?>> result
+		List<FactoryCandidate> candidates
 	)
 	{
-		for(MethodRef method : ref.getMethods())
+		List<Factory<?, ?>> result = new ArrayList<>(candidates.size());
+		for(FactoryCandidate candidate : candidates)
 		{
-			if(! method.findAnnotation(GraphQLFactory.class).isPresent())
-			{
-				// Not marked with @GraphQLFactory, skip this constructor
-				continue;
-			}
-
-			if(! method.isStatic())
+			if(candidate.error != null)
 			{
 				throw context.newError(
-					Breadcrumb.forMember(method),
-					"Factory methods must be static"
+					Breadcrumb.forMember(candidate.executable),
+					candidate.error
 				);
 			}
 
-			Optional<TypeRef> sourceType = findCreatableType(method);
-			if(! sourceType.isPresent())
+			if(! candidate.sourceType.isPresent())
 			{
 				throw context.newError(
-					Breadcrumb.forMember(method),
+					Breadcrumb.forMember(candidate.executable),
 					"A parameter with @GraphQLSource is required to be able " +
 					"to automatically construct type"
 				);
 			}
 
-			DataFetchingSupplier<?>[] suppliers = getParameterSuppliers(context, method);
-			result.add(new MethodFactory(
-				sourceType.get(),
-				method.getReturnType(),
+			DataFetchingSupplier<?>[] suppliers = getParameterSuppliers(context, candidate.executable);
+			if(candidate.executable instanceof ConstructorRef)
+			{
+				result.add(new ConstructorFactory(
+					candidate.sourceType.get(),
+					candidate.output,
 
-				suppliers,
-				method.getMethod()
-			));
+					suppliers,
+					((ConstructorRef) candidate.executable).getConstructor()
+				));
+			}
+			else
+			{
+				result.add(new MethodFactory(
+					candidate.sourceType.get(),
+					candidate.output,
+
+					suppliers,
+					((MethodRef) candidate.executable).getMethod()
+				));
+			}
 		}
+
+		return result;
 	}
 
 	private static Optional<TypeRef> findCreatableType(ExecutableRef executable)
@@ -174,6 +194,49 @@ public class FactoryResolver
 		return suppliers;
 	}
 
+	private static int findSourceIndex(DataFetchingSupplier<?>[] suppliers)
+	{
+		for(int i=0, n=suppliers.length; i<n; i++)
+		{
+			if(suppliers[i] == null)
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Constructor or method marked with {@link GraphQLFactory} that has not
+	 * yet been turned into a {@link Factory}.
+	 */
+	public static class FactoryCandidate
+	{
+		private final ExecutableRef executable;
+		private final TypeRef output;
+		private final Optional<TypeRef> sourceType;
+		private final String error;
+
+		private FactoryCandidate(
+			ExecutableRef executable,
+			TypeRef output,
+			Optional<TypeRef> sourceType,
+			String error
+		)
+		{
+			this.executable = executable;
+			this.output = output;
+			this.sourceType = sourceType;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * Factory that invokes a constructor or a static method. The parameter
+	 * that receives the source object is located when the factory is created
+	 * so that invoking the factory only allocates the created object.
+	 */
 	private static abstract class AbstractFactory
 		implements Factory<Object, Object>
 	{
@@ -181,17 +244,27 @@ public class FactoryResolver
 		private final TypeRef output;
 
 		private final DataFetchingSupplier<?>[] parameterSuppliers;
+		private final int sourceIndex;
+		private final MethodInvoker invoker;
+		private final InvocationArguments arguments;
 
 		public AbstractFactory(
 			TypeRef input,
 			TypeRef output,
-			DataFetchingSupplier<?>[] parameterSuppliers
+			DataFetchingSupplier<?>[] parameterSuppliers,
+			MethodInvoker invoker
 		)
 		{
 			this.input = input;
 			this.output = output;
 
 			this.parameterSuppliers = parameterSuppliers;
+			this.sourceIndex = findSourceIndex(parameterSuppliers);
+			this.invoker = invoker;
+
+			this.arguments = (index, env, source) -> index == sourceIndex
+				? source
+				: parameterSuppliers[index].get(env);
 		}
 
 		@Override
@@ -211,24 +284,16 @@ public class FactoryResolver
 		{
 			if(source == null) return null;
 
-			Object[] args = Arrays.stream(parameterSuppliers)
-				.map(supplier -> {
-					if(supplier == null)
-					{
-						return source;
-					}
-					else
-					{
-						return supplier.get(env);
-					}
-				})
-				.toArray(Object[]::new);
-
-			return create(args);
+			try
+			{
+				return Invokers.invoke(invoker, null, parameterSuppliers.length, arguments, env, source);
+			}
+			catch(InvocationTargetException e)
+			{
+				throw new GraphQLMappingException("Unable to create object; " + e.getCause().getMessage(), e.getCause());
+			}
 		}
 
-		public abstract Object create(Object[] args);
-
 		@Override
 		public String toString()
 		{
@@ -241,8 +306,6 @@ public class FactoryResolver
 	private static class ConstructorFactory
 		extends AbstractFactory
 	{
-		private final Constructor<?> constructor;
-
 		public ConstructorFactory(
 			TypeRef input,
 			TypeRef output,
@@ -250,34 +313,13 @@ public class FactoryResolver
 			Constructor<?> constructor
 		)
 		{
-			super(input, output, parameterSuppliers);
-
-			this.constructor = constructor;
-		}
-
-		@Override
-		public Object create(Object[] args)
-		{
-			try
-			{
-				return constructor.newInstance(args);
-			}
-			catch(InstantiationException | IllegalAccessException | IllegalArgumentException e)
-			{
-				throw new GraphQLMappingException("Unable to create object; " + e.getMessage(), e);
-			}
-			catch(InvocationTargetException e)
-			{
-				throw new GraphQLMappingException("Unable to create object; " + e.getCause().getMessage(), e.getCause());
-			}
+			super(input, output, parameterSuppliers, Invokers.create(constructor));
 		}
 	}
 
 	private static class MethodFactory
 		extends AbstractFactory
 	{
-		private final Method method;
-
 		public MethodFactory(
 			TypeRef input,
 			TypeRef output,
@@ -285,26 +327,7 @@ public class FactoryResolver
 			Method method
 		)
 		{
-			super(input, output, parameterSuppliers);
-
-			this.method = method;
-		}
-
-		@Override
-		public Object create(Object[] args)
-		{
-			try
-			{
-				return (Object) method.invoke(null, args);
-			}
-			catch(IllegalAccessException | IllegalArgumentException e)
-			{
-				throw new GraphQLMappingException("Unable to create object; " + e.getMessage(), e);
-			}
-			catch(InvocationTargetException e)
-			{
-				throw new GraphQLMappingException("Unable to create object; " + e.getCause().getMessage(), e.getCause());
-			}
+			super(input, output, parameterSuppliers, Invokers.create(method));
 		}
 	}
 }
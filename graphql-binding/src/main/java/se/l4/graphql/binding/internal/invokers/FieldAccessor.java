@@ -0,0 +1,24 @@
+package se.l4.graphql.binding.internal.invokers;
+
+/**
+ * Accessor for reading and writing a field that has been resolved when the
+ * schema is built.
+ */
+public interface FieldAccessor
+{
+	/**
+	 * Read the value of the field.
+	 *
+	 * @param instance
+	 * @return
+	 */
+	Object get(Object instance);
+
+	/**
+	 * Write the value of the field.
+	 *
+	 * @param instance
+	 * @param value
+	 */
+	void set(Object instance, Object value);
+}
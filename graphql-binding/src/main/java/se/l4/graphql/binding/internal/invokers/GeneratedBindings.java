@@ -0,0 +1,161 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import se.l4.graphql.binding.generated.GeneratedBinding;
+import se.l4.graphql.binding.generated.GeneratedFieldGetter;
+import se.l4.graphql.binding.generated.GeneratedFieldSetter;
+import se.l4.graphql.binding.generated.GeneratedInvoker;
+import se.l4.graphql.binding.generated.GeneratedMembers;
+
+/**
+ * Lookup of members in {@link GeneratedBinding}s. The binding of a type is
+ * loaded the first time one of its members is requested, types without a
+ * binding only pay for a single failed class lookup.
+ */
+class GeneratedBindings
+{
+	private static final String CONSTRUCTOR = "<init>";
+
+	private static final ClassValue<Members> MEMBERS = new ClassValue<Members>()
+	{
+		@Override
+		protected Members computeValue(Class<?> type)
+		{
+			return load(type);
+		}
+	};
+
+	private GeneratedBindings()
+	{
+	}
+
+	/**
+	 * Find a generated invoker for the given method.
+	 *
+	 * @param method
+	 * @return
+	 */
+	public static Optional<MethodInvoker> find(Method method)
+	{
+		GeneratedInvoker invoker = MEMBERS.get(method.getDeclaringClass())
+			.find(method.getName(), method.getParameterTypes());
+
+		return invoker == null
+			? Optional.empty()
+			: Optional.of(new GeneratedMethodInvoker(method.getParameterCount(), invoker));
+	}
+
+	/**
+	 * Find a generated invoker for the given constructor.
+	 *
+	 * @param constructor
+	 * @return
+	 */
+	public static Optional<MethodInvoker> find(Constructor<?> constructor)
+	{
+		GeneratedInvoker invoker = MEMBERS.get(constructor.getDeclaringClass())
+			.find(CONSTRUCTOR, constructor.getParameterTypes());
+
+		return invoker == null
+			? Optional.empty()
+			: Optional.of(new GeneratedMethodInvoker(constructor.getParameterCount(), invoker));
+	}
+
+	/**
+	 * Find a generated accessor for the given field.
+	 *
+	 * @param field
+	 * @return
+	 */
+	public static Optional<FieldAccessor> find(Field field)
+	{
+		return Optional.ofNullable(MEMBERS.get(field.getDeclaringClass())
+			.fields.get(field.getName()));
+	}
+
+	private static Members load(Class<?> type)
+	{
+		Members members = new Members();
+		if(type.isArray() || type.isPrimitive())
+		{
+			return members;
+		}
+
+		try
+		{
+			Class<?> bindingType = Class.forName(
+				type.getName() + GeneratedBinding.SUFFIX,
+				true,
+				type.getClassLoader()
+			);
+
+			if(GeneratedBinding.class.isAssignableFrom(bindingType))
+			{
+				Invokers.lookup(bindingType);
+
+				GeneratedBinding binding = (GeneratedBinding) bindingType
+					.getDeclaredConstructor()
+					.newInstance();
+
+				binding.register(members);
+			}
+		}
+		catch(ClassNotFoundException e)
+		{
+			// No binding has been generated for this type
+		}
+		catch(ReflectiveOperationException | RuntimeException | LinkageError e)
+		{
+			// The binding could not be used, fall back to method handles
+			return new Members();
+		}
+
+		return members;
+	}
+
+	private static class Members
+		implements GeneratedMembers
+	{
+		private final Map<String, Map<List<Class<?>>, GeneratedInvoker>> executables;
+		private final Map<String, FieldAccessor> fields;
+
+		public Members()
+		{
+			executables = new HashMap<>();
+			fields = new HashMap<>();
+		}
+
+		@Override
+		public void method(String name, Class<?>[] parameterTypes, GeneratedInvoker invoker)
+		{
+			executables.computeIfAbsent(name, k -> new HashMap<>())
+				.put(Arrays.asList(parameterTypes), invoker);
+		}
+
+		@Override
+		public void constructor(Class<?>[] parameterTypes, GeneratedInvoker invoker)
+		{
+			method(CONSTRUCTOR, parameterTypes, invoker);
+		}
+
+		@Override
+		public void field(String name, GeneratedFieldGetter getter, GeneratedFieldSetter setter)
+		{
+			fields.put(name, new GeneratedFieldAccessor(name, getter, setter));
+		}
+
+		public GeneratedInvoker find(String name, Class<?>[] parameterTypes)
+		{
+			Map<List<Class<?>>, GeneratedInvoker> overloads = executables.get(name);
+			return overloads == null ? null : overloads.get(Arrays.asList(parameterTypes));
+		}
+	}
+}
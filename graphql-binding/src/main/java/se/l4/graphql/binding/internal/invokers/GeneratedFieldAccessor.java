@@ -0,0 +1,52 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.generated.GeneratedFieldGetter;
+import se.l4.graphql.binding.generated.GeneratedFieldSetter;
+
+/**
+ * {@link FieldAccessor} that reads and writes a field via a generated getter
+ * and setter.
+ */
+public class GeneratedFieldAccessor
+	implements FieldAccessor
+{
+	private final String name;
+	private final GeneratedFieldGetter getter;
+	private final GeneratedFieldSetter setter;
+
+	public GeneratedFieldAccessor(
+		String name,
+		GeneratedFieldGetter getter,
+		GeneratedFieldSetter setter
+	)
+	{
+		this.name = name;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	@Override
+	public Object get(Object instance)
+	{
+		return getter.get(instance);
+	}
+
+	@Override
+	public void set(Object instance, Object value)
+	{
+		if(setter == null)
+		{
+			throw new GraphQLMappingException("Unable to set field `" + name + "`; Field can not be written");
+		}
+
+		try
+		{
+			setter.set(instance, value);
+		}
+		catch(RuntimeException e)
+		{
+			throw new GraphQLMappingException("Unable to set field; " + e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import java.lang.reflect.InvocationTargetException;
+
+import se.l4.graphql.binding.generated.GeneratedInvoker;
+
+/**
+ * {@link MethodInvoker} that calls a {@link GeneratedInvoker}. Members with
+ * up to four parameters are invoked via the fixed arity methods, without
+ * allocating an argument array.
+ */
+public class GeneratedMethodInvoker
+	implements MethodInvoker
+{
+	private final int parameterCount;
+	private final GeneratedInvoker invoker;
+
+	public GeneratedMethodInvoker(int parameterCount, GeneratedInvoker invoker)
+	{
+		this.parameterCount = parameterCount;
+		this.invoker = invoker;
+	}
+
+	@Override
+	public int getParameterCount()
+	{
+		return parameterCount;
+	}
+
+	@Override
+	public Object invoke(Object instance)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return invoker.invoke(instance);
+		}
+		catch(Throwable t)
+		{
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return invoker.invoke(instance, a0);
+		}
+		catch(Throwable t)
+		{
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return invoker.invoke(instance, a0, a1);
+		}
+		catch(Throwable t)
+		{
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1, Object a2)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return invoker.invoke(instance, a0, a1, a2);
+		}
+		catch(Throwable t)
+		{
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1, Object a2, Object a3)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return invoker.invoke(instance, a0, a1, a2, a3);
+		}
+		catch(Throwable t)
+		{
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	@Override
+	public Object invokeWithArguments(Object instance, Object[] args)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return invoker.invoke(instance, args);
+		}
+		catch(Throwable t)
+		{
+			throw new InvocationTargetException(t);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Arguments for an invocation via
+ * {@link Invokers#invoke(MethodInvoker, Object, int, InvocationArguments, DataFetchingEnvironment, Object)}.
+ * Arguments are fetched one at a time so that members with up to four
+ * parameters can be invoked without allocating an argument array.
+ */
+@FunctionalInterface
+public interface InvocationArguments
+{
+	/**
+	 * Get the argument at the given index.
+	 *
+	 * @param index
+	 * @param env
+	 * @param source
+	 *   source object passed to the invocation
+	 * @return
+	 */
+	Object get(int index, DataFetchingEnvironment env, Object source);
+}
@@ -0,0 +1,207 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Helpers for creating instances of {@link MethodInvoker} and
+ * {@link FieldAccessor}. Members are accessed via a generated binding if one
+ * exists for their type, otherwise they are looked up as
+ * {@link MethodHandle}s if possible, with a fallback to reflection if the
+ * member can not be accessed that way.
+ */
+public class Invokers
+{
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private Invokers()
+	{
+	}
+
+	/**
+	 * Create an invoker for the given method. The invoker takes the instance
+	 * to invoke the method on, which is ignored for static methods.
+	 *
+	 * @param method
+	 * @return
+	 */
+	public static MethodInvoker create(Method method)
+	{
+		Optional<MethodInvoker> generated = GeneratedBindings.find(method);
+		if(generated.isPresent())
+		{
+			return generated.get();
+		}
+
+		try
+		{
+			MethodHandle handle = lookup(method.getDeclaringClass()).unreflect(method);
+			if(Modifier.isStatic(method.getModifiers()))
+			{
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+
+			return new MethodHandleInvoker(handle);
+		}
+		catch(IllegalAccessException | RuntimeException e)
+		{
+			return ReflectionInvoker.forMethod(method);
+		}
+	}
+
+	/**
+	 * Create an invoker for the given constructor. The instance passed to
+	 * the invoker is ignored.
+	 *
+	 * @param constructor
+	 * @return
+	 */
+	public static MethodInvoker create(Constructor<?> constructor)
+	{
+		Optional<MethodInvoker> generated = GeneratedBindings.find(constructor);
+		if(generated.isPresent())
+		{
+			return generated.get();
+		}
+
+		try
+		{
+			MethodHandle handle = lookup(constructor.getDeclaringClass())
+				.unreflectConstructor(constructor);
+
+			return new MethodHandleInvoker(
+				MethodHandles.dropArguments(handle, 0, Object.class)
+			);
+		}
+		catch(IllegalAccessException | RuntimeException e)
+		{
+			return ReflectionInvoker.forConstructor(constructor);
+		}
+	}
+
+	/**
+	 * Create an accessor for the given field. Final fields can be read but
+	 * not written.
+	 *
+	 * @param field
+	 * @return
+	 */
+	public static FieldAccessor accessor(Field field)
+	{
+		Optional<FieldAccessor> generated = GeneratedBindings.find(field);
+		if(generated.isPresent())
+		{
+			return generated.get();
+		}
+
+		try
+		{
+			MethodHandles.Lookup lookup = lookup(field.getDeclaringClass());
+
+			MethodHandle getter = lookup.unreflectGetter(field);
+			MethodHandle setter = Modifier.isFinal(field.getModifiers())
+				? null
+				: lookup.unreflectSetter(field);
+
+			if(Modifier.isStatic(field.getModifiers()))
+			{
+				getter = MethodHandles.dropArguments(getter, 0, Object.class);
+				setter = setter == null ? null : MethodHandles.dropArguments(setter, 0, Object.class);
+			}
+
+			return new MethodHandleFieldAccessor(field.getName(), getter, setter);
+		}
+		catch(IllegalAccessException | RuntimeException e)
+		{
+			return new ReflectionFieldAccessor(field);
+		}
+	}
+
+	/**
+	 * Invoke a member with arguments from the given source. Uses the
+	 * specialized methods of the invoker for up to four arguments and only
+	 * allocates an argument array for members with more parameters.
+	 *
+	 * @param invoker
+	 * @param instance
+	 * @param count
+	 *   number of arguments to pass
+	 * @param arguments
+	 * @param env
+	 * @param source
+	 * @return
+	 * @throws InvocationTargetException
+	 */
+	public static Object invoke(
+		MethodInvoker invoker,
+		Object instance,
+		int count,
+		InvocationArguments arguments,
+		DataFetchingEnvironment env,
+		Object source
+	)
+		throws InvocationTargetException
+	{
+		switch(count)
+		{
+			case 0:
+				return invoker.invoke(instance);
+			case 1:
+				return invoker.invoke(
+					instance,
+					arguments.get(0, env, source)
+				);
+			case 2:
+				return invoker.invoke(
+					instance,
+					arguments.get(0, env, source),
+					arguments.get(1, env, source)
+				);
+			case 3:
+				return invoker.invoke(
+					instance,
+					arguments.get(0, env, source),
+					arguments.get(1, env, source),
+					arguments.get(2, env, source)
+				);
+			case 4:
+				return invoker.invoke(
+					instance,
+					arguments.get(0, env, source),
+					arguments.get(1, env, source),
+					arguments.get(2, env, source),
+					arguments.get(3, env, source)
+				);
+			default:
+				Object[] args = new Object[count];
+				for(int i=0; i<count; i++)
+				{
+					args[i] = arguments.get(i, env, source);
+				}
+
+				return invoker.invokeWithArguments(instance, args);
+		}
+	}
+
+	/**
+	 * Get the lookup to use for members of the given type. Makes sure that
+	 * this module can read the module of the type, which reflection does
+	 * automatically but method handles do not.
+	 *
+	 * @param type
+	 * @return
+	 */
+	static MethodHandles.Lookup lookup(Class<?> type)
+	{
+		Invokers.class.getModule().addReads(type.getModule());
+		return LOOKUP;
+	}
+}
@@ -0,0 +1,74 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+import se.l4.graphql.binding.GraphQLMappingException;
+
+/**
+ * {@link FieldAccessor} that uses {@link MethodHandle}s to read and write a
+ * field.
+ */
+public class MethodHandleFieldAccessor
+	implements FieldAccessor
+{
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final String name;
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+
+	/**
+	 * Create a new accessor.
+	 *
+	 * @param name
+	 *   the name of the field, used for error messages
+	 * @param getter
+	 *   handle used to read the field
+	 * @param setter
+	 *   handle used to write the field, or {@code null} if the field can
+	 *   not be written
+	 */
+	public MethodHandleFieldAccessor(
+		String name,
+		MethodHandle getter,
+		MethodHandle setter
+	)
+	{
+		this.name = name;
+		this.getter = getter.asType(GETTER_TYPE);
+		this.setter = setter == null ? null : setter.asType(SETTER_TYPE);
+	}
+
+	@Override
+	public Object get(Object instance)
+	{
+		try
+		{
+			return (Object) getter.invokeExact(instance);
+		}
+		catch(Throwable t)
+		{
+			throw new GraphQLMappingException(t.getMessage(), t);
+		}
+	}
+
+	@Override
+	public void set(Object instance, Object value)
+	{
+		if(setter == null)
+		{
+			throw new GraphQLMappingException("Unable to set field `" + name + "`; Field can not be written");
+		}
+
+		try
+		{
+			setter.invokeExact(instance, value);
+		}
+		catch(Throwable t)
+		{
+			throw new GraphQLMappingException("Unable to set field; " + t.getMessage(), t);
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+
+import se.l4.graphql.binding.GraphQLMappingException;
+
+/**
+ * {@link MethodInvoker} that calls a {@link MethodHandle}. The handle is
+ * adapted to a generic signature taking the instance and all arguments as
+ * {@link Object} so it can be called via {@link MethodHandle#invokeExact}
+ * without boxing arguments into an array.
+ *
+ * <p>
+ * Exceptions thrown by the member are wrapped in a
+ * {@link InvocationTargetException} within the handle, before the arguments
+ * are adapted. Errors are never wrapped and arguments that can not be passed
+ * to the member fail with a {@link GraphQLMappingException}, the same way as
+ * with {@link ReflectionInvoker}.
+ */
+public class MethodHandleInvoker
+	implements MethodInvoker
+{
+	private static final MethodHandle WRAP_TARGET_EXCEPTION;
+
+	static
+	{
+		try
+		{
+			WRAP_TARGET_EXCEPTION = MethodHandles.lookup().findStatic(
+				MethodHandleInvoker.class,
+				"wrapTargetException",
+				MethodType.methodType(Object.class, Throwable.class)
+			);
+		}
+		catch(ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final int parameterCount;
+	private final MethodHandle handle;
+	private final MethodHandle spreader;
+
+	/**
+	 * Create a new invoker.
+	 *
+	 * @param handle
+	 *   handle that takes the instance as its first argument followed by the
+	 *   arguments of the member
+	 */
+	public MethodHandleInvoker(MethodHandle handle)
+	{
+		MethodHandle fixed = handle.asFixedArity();
+		MethodHandle target = MethodHandles.catchException(
+			fixed.asType(fixed.type().changeReturnType(Object.class)),
+			Throwable.class,
+			WRAP_TARGET_EXCEPTION
+		);
+
+		this.parameterCount = fixed.type().parameterCount() - 1;
+		this.handle = target.asType(MethodType.genericMethodType(parameterCount + 1));
+		this.spreader = this.handle.asSpreader(Object[].class, parameterCount);
+	}
+
+	@Override
+	public int getParameterCount()
+	{
+		return parameterCount;
+	}
+
+	@Override
+	public Object invoke(Object instance)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return (Object) handle.invokeExact(instance);
+		}
+		catch(Throwable t)
+		{
+			throw failure(t);
+		}
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return (Object) handle.invokeExact(instance, a0);
+		}
+		catch(Throwable t)
+		{
+			throw failure(t);
+		}
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return (Object) handle.invokeExact(instance, a0, a1);
+		}
+		catch(Throwable t)
+		{
+			throw failure(t);
+		}
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1, Object a2)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return (Object) handle.invokeExact(instance, a0, a1, a2);
+		}
+		catch(Throwable t)
+		{
+			throw failure(t);
+		}
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1, Object a2, Object a3)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return (Object) handle.invokeExact(instance, a0, a1, a2, a3);
+		}
+		catch(Throwable t)
+		{
+			throw failure(t);
+		}
+	}
+
+	@Override
+	public Object invokeWithArguments(Object instance, Object[] args)
+		throws InvocationTargetException
+	{
+		try
+		{
+			return (Object) spreader.invokeExact(instance, args);
+		}
+		catch(Throwable t)
+		{
+			throw failure(t);
+		}
+	}
+
+	/**
+	 * Handler for exceptions thrown by the member, wraps everything except
+	 * errors in a {@link InvocationTargetException}.
+	 */
+	@SuppressWarnings("unused")
+	private static Object wrapTargetException(Throwable t)
+		throws Throwable
+	{
+		if(t instanceof Error)
+		{
+			throw t;
+		}
+
+		throw new InvocationTargetException(t);
+	}
+
+	/**
+	 * Get the exception to throw for something thrown by the handle. Errors
+	 * are rethrown as is and exceptions thrown by the member are already
+	 * wrapped, so any other exception comes from adapting the arguments.
+	 */
+	private static InvocationTargetException failure(Throwable t)
+	{
+		if(t instanceof InvocationTargetException)
+		{
+			return (InvocationTargetException) t;
+		}
+
+		if(t instanceof Error)
+		{
+			throw (Error) t;
+		}
+
+		throw new GraphQLMappingException("Arguments could not be passed to the member; " + t.getMessage(), t);
+	}
+}
@@ -0,0 +1,50 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Invoker for a method or constructor that has been resolved when the schema
+ * is built. Invokers have specialized methods for up to four arguments so
+ * that the common case can be called without allocating an argument array.
+ *
+ * <p>
+ * Static methods and constructors ignore the instance passed to them.
+ * Exceptions thrown by the invoked member are wrapped in a
+ * {@link InvocationTargetException}, the same way as with
+ * {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+ */
+public interface MethodInvoker
+{
+	/**
+	 * Get the number of parameters the member takes.
+	 *
+	 * @return
+	 */
+	int getParameterCount();
+
+	Object invoke(Object instance)
+		throws InvocationTargetException;
+
+	Object invoke(Object instance, Object a0)
+		throws InvocationTargetException;
+
+	Object invoke(Object instance, Object a0, Object a1)
+		throws InvocationTargetException;
+
+	Object invoke(Object instance, Object a0, Object a1, Object a2)
+		throws InvocationTargetException;
+
+	Object invoke(Object instance, Object a0, Object a1, Object a2, Object a3)
+		throws InvocationTargetException;
+
+	/**
+	 * Invoke the member with any number of arguments.
+	 *
+	 * @param instance
+	 * @param args
+	 * @return
+	 * @throws InvocationTargetException
+	 */
+	Object invokeWithArguments(Object instance, Object[] args)
+		throws InvocationTargetException;
+}
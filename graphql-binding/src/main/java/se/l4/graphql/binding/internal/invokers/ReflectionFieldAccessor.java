@@ -0,0 +1,46 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import java.lang.reflect.Field;
+
+import se.l4.graphql.binding.GraphQLMappingException;
+
+/**
+ * {@link FieldAccessor} that uses reflection. Used as a fallback for fields
+ * that can not be accessed via a {@link java.lang.invoke.MethodHandle}.
+ */
+public class ReflectionFieldAccessor
+	implements FieldAccessor
+{
+	private final Field field;
+
+	public ReflectionFieldAccessor(Field field)
+	{
+		this.field = field;
+	}
+
+	@Override
+	public Object get(Object instance)
+	{
+		try
+		{
+			return field.get(instance);
+		}
+		catch(IllegalAccessException | IllegalArgumentException e)
+		{
+			throw new GraphQLMappingException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void set(Object instance, Object value)
+	{
+		try
+		{
+			field.set(instance, value);
+		}
+		catch(IllegalAccessException | IllegalArgumentException e)
+		{
+			throw new GraphQLMappingException("Unable to set field; " + e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import se.l4.graphql.binding.GraphQLMappingException;
+
+/**
+ * {@link MethodInvoker} that uses reflection. Used as a fallback for members
+ * that can not be accessed via a {@link java.lang.invoke.MethodHandle}.
+ */
+public abstract class ReflectionInvoker
+	implements MethodInvoker
+{
+	private final int parameterCount;
+
+	protected ReflectionInvoker(int parameterCount)
+	{
+		this.parameterCount = parameterCount;
+	}
+
+	@Override
+	public int getParameterCount()
+	{
+		return parameterCount;
+	}
+
+	@Override
+	public Object invoke(Object instance)
+		throws InvocationTargetException
+	{
+		return invokeWithArguments(instance, new Object[0]);
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0)
+		throws InvocationTargetException
+	{
+		return invokeWithArguments(instance, new Object[] { a0 });
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1)
+		throws InvocationTargetException
+	{
+		return invokeWithArguments(instance, new Object[] { a0, a1 });
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1, Object a2)
+		throws InvocationTargetException
+	{
+		return invokeWithArguments(instance, new Object[] { a0, a1, a2 });
+	}
+
+	@Override
+	public Object invoke(Object instance, Object a0, Object a1, Object a2, Object a3)
+		throws InvocationTargetException
+	{
+		return invokeWithArguments(instance, new Object[] { a0, a1, a2, a3 });
+	}
+
+	/**
+	 * Create an invoker for the given method.
+	 *
+	 * @param method
+	 * @return
+	 */
+	public static MethodInvoker forMethod(Method method)
+	{
+		return new ReflectionInvoker(method.getParameterCount())
+		{
+			@Override
+			public Object invokeWithArguments(Object instance, Object[] args)
+				throws InvocationTargetException
+			{
+				try
+				{
+					return method.invoke(instance, args);
+				}
+				catch(IllegalAccessException | IllegalArgumentException e)
+				{
+					throw new GraphQLMappingException(e.getMessage(), e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Create an invoker for the given constructor.
+	 *
+	 * @param constructor
+	 * @return
+	 */
+	public static MethodInvoker forConstructor(Constructor<?> constructor)
+	{
+		return new ReflectionInvoker(constructor.getParameterCount())
+		{
+			@Override
+			public Object invokeWithArguments(Object instance, Object[] args)
+				throws InvocationTargetException
+			{
+				try
+				{
+					return constructor.newInstance(args);
+				}
+				catch(InstantiationException | IllegalAccessException | IllegalArgumentException e)
+				{
+					throw new GraphQLMappingException("Unable to create object; " + e.getMessage(), e);
+				}
+			}
+		};
+	}
+}
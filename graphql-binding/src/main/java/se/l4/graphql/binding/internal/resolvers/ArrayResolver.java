@@ -1,12 +1,14 @@
 package se.l4.graphql.binding.internal.resolvers;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLOutputType;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
 import se.l4.graphql.binding.resolver.GraphQLDelegatingResolver;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
@@ -42,9 +44,17 @@ public class ArrayResolver
 			return ResolvedGraphQLType.none();
 		}
 
-		return ResolvedGraphQLType.forType(
+		ResolvedGraphQLType<? extends GraphQLOutputType> result = ResolvedGraphQLType.forType(
 			GraphQLList.list(componentType.getGraphQLType())
-		).withOutputConversion(new ArrayConverter(componentType.getConversion()));
+		);
+
+		if(! componentType.hasConversion())
+		{
+			// Items are used as is, GraphQL can handle the array directly
+			return result;
+		}
+
+		return result.withOutputConversion(new ArrayConverter(componentType.getConversion()));
 	}
 
 	@Override
@@ -54,7 +64,8 @@ public class ArrayResolver
 	}
 
 	private static class ArrayConverter<I, O>
-		implements DataFetchingConversion<I[], Collection<O>>
+		implements DataFetchingConversion<I[], Collection<O>>,
+			Linkable<DataFetchingConversion<I[], Collection<O>>>
 	{
 		private final DataFetchingConversion<I, O> conversion;
 
@@ -68,9 +79,19 @@ public class ArrayResolver
 		{
 			if(object == null) return null;
 
-			return Arrays.stream(object)
-				.map(item -> conversion.convert(env, item))
-				.collect(Collectors.toList());
+			List<O> result = new ArrayList<>(object.length);
+			for(I item : object)
+			{
+				result.add(conversion.convert(env, item));
+			}
+			return result;
+		}
+
+		@Override
+		public DataFetchingConversion<I[], Collection<O>> link(ConversionLinker linker)
+		{
+			DataFetchingConversion<I, O> conversion = linker.link(this.conversion);
+			return conversion == this.conversion ? this : new ArrayConverter<>(conversion);
 		}
 	}
 }
@@ -0,0 +1,103 @@
+package se.l4.graphql.binding.internal.resolvers;
+
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLOutputType;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.IndexedResolver;
+import se.l4.graphql.binding.internal.Linkable;
+import se.l4.graphql.binding.resolver.DataFetchingConversion;
+import se.l4.graphql.binding.resolver.GraphQLDelegatingResolver;
+import se.l4.graphql.binding.resolver.GraphQLResolverContext;
+import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
+import se.l4.graphql.binding.resolver.output.GraphQLOutputEncounter;
+import se.l4.graphql.binding.resolver.output.GraphQLOutputResolver;
+import se.l4.ylem.types.reflect.TypeRef;
+
+/**
+ * Resolver for {@link CompletionStage} and its implementations such as
+ * {@link java.util.concurrent.CompletableFuture}. The GraphQL type is the
+ * type of the value, and any conversion of the value is applied when the
+ * stage completes. The stage itself is returned to GraphQL which will wait
+ * for it to complete.
+ */
+public class CompletionStageResolver
+	implements GraphQLOutputResolver, GraphQLDelegatingResolver, IndexedResolver
+{
+	@Override
+	public Set<Class<?>> getIndexedTypes()
+	{
+		return Set.of(CompletionStage.class);
+	}
+
+	@Override
+	public boolean supportsOutput(TypeRef type)
+	{
+		return CompletionStage.class.isAssignableFrom(type.getErasedType());
+	}
+
+	@Override
+	public ResolvedGraphQLType<? extends GraphQLOutputType> resolveOutput(GraphQLOutputEncounter encounter)
+	{
+		GraphQLResolverContext context = encounter.getContext();
+
+		ResolvedGraphQLType<? extends GraphQLOutputType> valueType = encounter.getType()
+			.findInterface(CompletionStage.class)
+			.get().getTypeParameter(0)
+			.map(context::resolveOutput)
+			.orElseThrow(() -> context.newError(
+				"Could not resolve a GraphQL type for `" + encounter.getType().toTypeName() + "`"
+			));
+
+		ResolvedGraphQLType<? extends GraphQLOutputType> result = ResolvedGraphQLType.forType(
+			valueType.getGraphQLType()
+		);
+
+		if(! valueType.hasConversion())
+		{
+			// No conversion of the value, GraphQL can handle the stage as is
+			return result;
+		}
+
+		return result.withOutputConversion(new StageConverter(valueType.getConversion()));
+	}
+
+	@Override
+	public String toString()
+	{
+		return "CompletionStage";
+	}
+
+	private static class StageConverter
+		implements DataFetchingConversion<CompletionStage<Object>, CompletionStage<Object>>,
+			Linkable<DataFetchingConversion<CompletionStage<Object>, CompletionStage<Object>>>
+	{
+		private final DataFetchingConversion<Object, Object> conversion;
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public StageConverter(DataFetchingConversion<?, ?> conversion)
+		{
+			this.conversion = (DataFetchingConversion) conversion;
+		}
+
+		@Override
+		public CompletionStage<Object> convert(
+			DataFetchingEnvironment environment,
+			CompletionStage<Object> object
+		)
+		{
+			if(object == null) return null;
+
+			return object.thenApply(value -> conversion.convert(environment, value));
+		}
+
+		@Override
+		public DataFetchingConversion<CompletionStage<Object>, CompletionStage<Object>> link(ConversionLinker linker)
+		{
+			DataFetchingConversion<Object, Object> conversion = linker.link(this.conversion);
+			return conversion == this.conversion ? this : new StageConverter(conversion);
+		}
+	}
+}
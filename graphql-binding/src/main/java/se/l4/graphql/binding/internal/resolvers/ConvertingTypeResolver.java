@@ -1,8 +1,10 @@
 package se.l4.graphql.binding.internal.resolvers;
 
 import java.util.Optional;
+import java.util.Set;
 
 import graphql.schema.GraphQLOutputType;
+import se.l4.graphql.binding.internal.IndexedResolver;
 import se.l4.graphql.binding.internal.factory.Factory;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
 import se.l4.graphql.binding.resolver.GraphQLDelegatingResolver;
@@ -15,7 +17,7 @@ import se.l4.ylem.types.reflect.TypeRef;
 import se.l4.ylem.types.reflect.Types;
 
 public class ConvertingTypeResolver<I, O>
-	implements GraphQLOutputResolver, GraphQLDelegatingResolver
+	implements GraphQLOutputResolver, GraphQLDelegatingResolver, IndexedResolver
 {
 	private final TypeRef from;
 	private final TypeRef to;
@@ -65,6 +67,12 @@ public class ConvertingTypeResolver<I, O>
 		return to;
 	}
 
+	@Override
+	public Set<Class<?>> getIndexedTypes()
+	{
+		return Set.of(from.getErasedType());
+	}
+
 	@Override
 	public boolean supportsOutput(TypeRef type)
 	{
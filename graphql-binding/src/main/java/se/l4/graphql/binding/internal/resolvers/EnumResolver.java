@@ -1,5 +1,6 @@
 package se.l4.graphql.binding.internal.resolvers;
 
+import java.lang.annotation.Annotation;
 import java.util.Optional;
 
 import graphql.schema.GraphQLEnumType;
@@ -10,6 +11,7 @@ import se.l4.graphql.binding.annotations.GraphQLDeprecated;
 import se.l4.graphql.binding.annotations.GraphQLDescription;
 import se.l4.graphql.binding.annotations.GraphQLEnum;
 import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.internal.IndexedResolver;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
 import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
 import se.l4.graphql.binding.resolver.input.GraphQLInputEncounter;
@@ -20,8 +22,14 @@ import se.l4.ylem.types.reflect.FieldRef;
 import se.l4.ylem.types.reflect.TypeRef;
 
 public class EnumResolver
-	implements GraphQLOutputResolver, GraphQLInputResolver
+	implements GraphQLOutputResolver, GraphQLInputResolver, IndexedResolver
 {
+	@Override
+	public Optional<Class<? extends Annotation>> getIndexedAnnotation()
+	{
+		return Optional.of(GraphQLEnum.class);
+	}
+
 	@Override
 	public boolean supportsInput(TypeRef type)
 	{
@@ -1,9 +1,14 @@
 package se.l4.graphql.binding.internal.resolvers;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -11,23 +16,38 @@ import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLInputObjectField;
 import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLInputType;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.annotations.GraphQLConstructor;
 import se.l4.graphql.binding.annotations.GraphQLField;
 import se.l4.graphql.binding.annotations.GraphQLInputObject;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.internal.IndexedResolver;
 import se.l4.graphql.binding.internal.datafetchers.FieldInjector;
 import se.l4.graphql.binding.internal.datafetchers.ValueInjector;
 import se.l4.graphql.binding.internal.factory.MemberKey;
+import se.l4.graphql.binding.internal.invokers.Invokers;
+import se.l4.graphql.binding.internal.invokers.MethodInvoker;
 import se.l4.graphql.binding.resolver.Breadcrumb;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
 import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
 import se.l4.graphql.binding.resolver.input.GraphQLInputEncounter;
 import se.l4.graphql.binding.resolver.input.GraphQLInputResolver;
+import se.l4.ylem.types.reflect.ConstructorRef;
 import se.l4.ylem.types.reflect.FieldRef;
+import se.l4.ylem.types.reflect.ParameterRef;
 import se.l4.ylem.types.reflect.TypeRef;
 
 public class InputObjectTypeResolver
-	implements GraphQLInputResolver
+	implements GraphQLInputResolver, IndexedResolver
 {
+	@Override
+	public Optional<Class<? extends Annotation>> getIndexedAnnotation()
+	{
+		return Optional.of(GraphQLInputObject.class);
+	}
+
 	@Override
 	public boolean supportsInput(TypeRef type)
 	{
@@ -45,6 +65,82 @@ public class InputObjectTypeResolver
 			.name(context.requestInputTypeName(initialType))
 			.description(context.getDescription(initialType));
 
+		Optional<ConstructorRef> constructor = findConstructor(context, initialType);
+
+		DataFetchingConversion<Object, Object> factory = constructor.isPresent()
+			? resolveConstructor(context, initialType, constructor.get(), builder)
+			: resolveFields(context, initialType, builder);
+
+		return ResolvedGraphQLType.forType(builder.build())
+			.withInputConversion(factory);
+	}
+
+	/**
+	 * Resolve an input object that is created via its constructor, where
+	 * every parameter of the constructor is a field.
+	 */
+	private DataFetchingConversion<Object, Object> resolveConstructor(
+		GraphQLResolverContext context,
+		TypeRef initialType,
+		ConstructorRef constructor,
+		GraphQLInputObjectType.Builder builder
+	)
+	{
+		String[] recordNames = getRecordComponentNames(initialType.getErasedType());
+
+		List<ConstructorParameter> parameters = new ArrayList<>();
+
+		int index = 0;
+		for(ParameterRef parameter : constructor.getParameters())
+		{
+			int currentIndex = index++;
+
+			context.breadcrumb(Breadcrumb.forMember(constructor), () -> {
+				ResolvedGraphQLType<? extends GraphQLInputType> fieldType = context.resolveInput(parameter.getType());
+
+				String name;
+				if(recordNames != null && ! parameter.findAnnotation(GraphQLName.class).isPresent())
+				{
+					name = recordNames[currentIndex];
+				}
+				else
+				{
+					name = context.getParameterName(parameter);
+				}
+
+				parameters.add(new ConstructorParameter(
+					currentIndex,
+					name,
+					parameter.getType().isPrimitive(),
+					fieldType.hasConversion() ? fieldType.getConversion() : null,
+					fieldType.getDefaultValue()
+				));
+
+				builder.field(
+					GraphQLInputObjectField.newInputObjectField()
+						.name(name)
+						.description(context.getDescription(parameter))
+						.type(fieldType.getGraphQLType())
+				);
+			});
+		}
+
+		return new ConstructorInputObjectFactory(
+			Invokers.create(constructor.getConstructor()),
+			parameters
+		);
+	}
+
+	/**
+	 * Resolve an input object that is created using the instance factory
+	 * and then has its public fields set.
+	 */
+	private DataFetchingConversion<Object, Object> resolveFields(
+		GraphQLResolverContext context,
+		TypeRef initialType,
+		GraphQLInputObjectType.Builder builder
+	)
+	{
 		List<ValueInjector> injectors = new ArrayList<>();
 
 		Set<MemberKey> handled = new HashSet<>();
@@ -79,7 +175,11 @@ public class InputObjectTypeResolver
 					ResolvedGraphQLType<? extends GraphQLInputType> fieldType = context.resolveInput(field.getType());
 					String name = context.getMemberName(field);
 
-					injectors.add(new FieldInjector(field.getField(), name, fieldType.getConversion()));
+					injectors.add(new FieldInjector(
+						field.getField(),
+						name,
+						fieldType.hasConversion() ? fieldType.getConversion() : null
+					));
 
 					builder.field(
 						GraphQLInputObjectField.newInputObjectField()
@@ -96,13 +196,61 @@ public class InputObjectTypeResolver
 		Supplier<Object> supplier = context.getInstanceFactory()
 			.supplier(initialType);
 
-		InputObjectFactory factory = new InputObjectFactory(
+		return new InputObjectFactory(
 			(env, source) -> supplier.get(),
-			injectors.toArray(new ValueInjector[injectors.size()])
+			injectors
 		);
+	}
 
-		return ResolvedGraphQLType.forType(builder.build())
-			.withInputConversion(factory);
+	/**
+	 * Find the constructor to use for creating the input object. This is
+	 * either a constructor annotated with {@link GraphQLConstructor} or the
+	 * canonical constructor of a record.
+	 */
+	private Optional<ConstructorRef> findConstructor(
+		GraphQLResolverContext context,
+		TypeRef type
+	)
+	{
+		ConstructorRef result = null;
+		for(ConstructorRef constructor : type.getDeclaredConstructors())
+		{
+			if(! constructor.hasAnnotation(GraphQLConstructor.class))
+			{
+				continue;
+			}
+
+			if(result != null)
+			{
+				throw context.newError(
+					Breadcrumb.forMember(constructor),
+					"Only a single constructor can be annotated with @" + GraphQLConstructor.class.getSimpleName()
+				);
+			}
+
+			if(! constructor.isPublic())
+			{
+				throw context.newError(
+					Breadcrumb.forMember(constructor),
+					"Constructor must be public to be useable"
+				);
+			}
+
+			result = constructor;
+		}
+
+		if(result != null)
+		{
+			return Optional.of(result);
+		}
+
+		Class<?>[] recordTypes = getRecordComponentTypes(type.getErasedType());
+		if(recordTypes != null)
+		{
+			return type.getDeclaredConstructorViaClassParameters(recordTypes);
+		}
+
+		return Optional.empty();
 	}
 
 	@Override
@@ -111,31 +259,223 @@ public class InputObjectTypeResolver
 		return "@" + GraphQLInputObject.class.getSimpleName();
 	}
 
+	/**
+	 * Get the names of the components of a record, or {@code null} if the
+	 * type is not a record. Records are accessed via reflection as they are
+	 * not available in all supported Java versions.
+	 */
+	private static String[] getRecordComponentNames(Class<?> type)
+	{
+		Object[] components = getRecordComponents(type);
+		if(components == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			Method getName = components.getClass().getComponentType().getMethod("getName");
+
+			String[] result = new String[components.length];
+			for(int i=0, n=components.length; i<n; i++)
+			{
+				result[i] = (String) getName.invoke(components[i]);
+			}
+			return result;
+		}
+		catch(ReflectiveOperationException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Get the types of the components of a record, or {@code null} if the
+	 * type is not a record.
+	 */
+	private static Class<?>[] getRecordComponentTypes(Class<?> type)
+	{
+		Object[] components = getRecordComponents(type);
+		if(components == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			Method getType = components.getClass().getComponentType().getMethod("getType");
+
+			Class<?>[] result = new Class<?>[components.length];
+			for(int i=0, n=components.length; i<n; i++)
+			{
+				result[i] = (Class<?>) getType.invoke(components[i]);
+			}
+			return result;
+		}
+		catch(ReflectiveOperationException e)
+		{
+			return null;
+		}
+	}
+
+	private static Object[] getRecordComponents(Class<?> type)
+	{
+		Class<?> parent = type.getSuperclass();
+		if(parent == null || ! parent.getName().equals("java.lang.Record"))
+		{
+			return null;
+		}
+
+		try
+		{
+			return (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+		}
+		catch(ReflectiveOperationException e)
+		{
+			return null;
+		}
+	}
+
+	private static class ConstructorParameter
+	{
+		private final int index;
+		private final String name;
+		private final boolean primitive;
+		private final DataFetchingConversion<Object, Object> conversion;
+		private final DataFetchingSupplier<?> defaultValue;
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public ConstructorParameter(
+			int index,
+			String name,
+			boolean primitive,
+			DataFetchingConversion<?, ?> conversion,
+			DataFetchingSupplier<?> defaultValue
+		)
+		{
+			this.index = index;
+			this.name = name;
+			this.primitive = primitive;
+			this.conversion = (DataFetchingConversion) conversion;
+			this.defaultValue = defaultValue;
+		}
+	}
+
+	/**
+	 * Conversion that creates an input object by converting all of its
+	 * values and then calling its constructor once.
+	 */
+	private static class ConstructorInputObjectFactory
+		implements DataFetchingConversion<Object, Object>
+	{
+		private final MethodInvoker invoker;
+		private final ConstructorParameter[] parameters;
+		private final Map<String, ConstructorParameter> parametersByName;
+
+		public ConstructorInputObjectFactory(
+			MethodInvoker invoker,
+			List<ConstructorParameter> parameters
+		)
+		{
+			this.invoker = invoker;
+			this.parameters = parameters.toArray(new ConstructorParameter[parameters.size()]);
+
+			this.parametersByName = new HashMap<>(parameters.size() * 2);
+			for(ConstructorParameter parameter : parameters)
+			{
+				this.parametersByName.put(parameter.name, parameter);
+			}
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object convert(DataFetchingEnvironment environment, Object object)
+		{
+			if(object == null) return null;
+
+			Map<String, Object> data = (Map) object;
+			Object[] args = new Object[parameters.length];
+
+			for(Map.Entry<String, Object> e : data.entrySet())
+			{
+				ConstructorParameter parameter = parametersByName.get(e.getKey());
+				if(parameter == null)
+				{
+					// Not a known field, skip it
+					continue;
+				}
+
+				Object value = e.getValue();
+				args[parameter.index] = parameter.conversion == null
+					? value
+					: parameter.conversion.convert(environment, value);
+			}
+
+			for(ConstructorParameter parameter : parameters)
+			{
+				if(args[parameter.index] == null
+					&& (parameter.primitive || ! data.containsKey(parameter.name)))
+				{
+					// Value is missing, use the default value of the type
+					args[parameter.index] = parameter.defaultValue.get(environment);
+				}
+			}
+
+			try
+			{
+				return invoker.invokeWithArguments(null, args);
+			}
+			catch(InvocationTargetException e)
+			{
+				throw new GraphQLMappingException("Unable to create object; " + e.getCause().getMessage(), e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Conversion that creates an instance of an input object from the map
+	 * GraphQL Java provides. The entries of the map are walked once, with
+	 * each entry being injected via the injector registered for its name.
+	 */
 	private static class InputObjectFactory
 		implements DataFetchingConversion<Object, Object>
 	{
 		private final DataFetchingConversion<Object, Object> instanceFactory;
-		private final ValueInjector[] valueInjectors;
+		private final Map<String, ValueInjector> valueInjectors;
 
 		public InputObjectFactory(
 			DataFetchingConversion<Object, Object> instanceFactory,
-			ValueInjector[] valueInjectors
+			List<ValueInjector> valueInjectors
 		)
 		{
 			this.instanceFactory = instanceFactory;
-			this.valueInjectors = valueInjectors;
+
+			this.valueInjectors = new HashMap<>(valueInjectors.size() * 2);
+			for(ValueInjector injector : valueInjectors)
+			{
+				this.valueInjectors.put(injector.getName(), injector);
+			}
 		}
 
 		@Override
 		@SuppressWarnings({ "unchecked", "rawtypes" })
 		public Object convert(DataFetchingEnvironment environment, Object object)
 		{
+			if(object == null) return null;
+
 			Object instance = instanceFactory.convert(environment, object);
 			Map<String, Object> data = (Map) object;
 
-			for(ValueInjector injector : valueInjectors)
+			for(Map.Entry<String, Object> e : data.entrySet())
 			{
-				injector.inject(environment, instance, data);
+				ValueInjector injector = valueInjectors.get(e.getKey());
+				if(injector == null)
+				{
+					// Not a known field, skip it
+					continue;
+				}
+
+				injector.inject(environment, instance, e.getValue());
 			}
 
 			return instance;
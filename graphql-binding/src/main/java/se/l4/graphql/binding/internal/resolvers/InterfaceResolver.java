@@ -1,5 +1,6 @@
 package se.l4.graphql.binding.internal.resolvers;
 
+import java.lang.annotation.Annotation;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -10,6 +11,7 @@ import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLOutputType;
 import se.l4.graphql.binding.annotations.GraphQLField;
 import se.l4.graphql.binding.annotations.GraphQLInterface;
+import se.l4.graphql.binding.internal.IndexedResolver;
 import se.l4.graphql.binding.internal.factory.MemberKey;
 import se.l4.graphql.binding.resolver.Breadcrumb;
 import se.l4.graphql.binding.resolver.DataFetchingSupplier;
@@ -24,8 +26,14 @@ import se.l4.ylem.types.reflect.ParameterRef;
 import se.l4.ylem.types.reflect.TypeRef;
 
 public class InterfaceResolver
-	implements GraphQLOutputResolver
+	implements GraphQLOutputResolver, IndexedResolver
 {
+	@Override
+	public Optional<Class<? extends Annotation>> getIndexedAnnotation()
+	{
+		return Optional.of(GraphQLInterface.class);
+	}
+
 	@Override
 	public boolean supportsOutput(TypeRef type)
 	{
@@ -1,12 +1,15 @@
 package se.l4.graphql.binding.internal.resolvers;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLOutputType;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
 import se.l4.graphql.binding.resolver.DataFetchingConversion;
 import se.l4.graphql.binding.resolver.GraphQLDelegatingResolver;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
@@ -43,9 +46,17 @@ public class IterableResolver
 				"Could not resolve a GraphQL type for `" + encounter.getType().toTypeName() + "`"
 			));
 
-		return ResolvedGraphQLType.forType(
+		ResolvedGraphQLType<? extends GraphQLOutputType> result = ResolvedGraphQLType.forType(
 			GraphQLList.list(componentType.getGraphQLType())
-		).withOutputConversion(new ListConverter(componentType.getConversion()));
+		);
+
+		if(! componentType.hasConversion())
+		{
+			// Items are used as is, so the iterable can be passed through
+			return result;
+		}
+
+		return result.withOutputConversion(new ListConverter(componentType.getConversion()));
 	}
 
 	@Override
@@ -66,6 +77,10 @@ public class IterableResolver
 				"Could not resolve a GraphQL type for `" + encounter.getType().toTypeName() + "`"
 			));
 
+		/*
+		 * Input lists are always copied, even if items are used as is, so
+		 * that the method receives a list it owns and can modify.
+		 */
 		return ResolvedGraphQLType.forType(
 			GraphQLList.list(componentType.getGraphQLType())
 		).withInputConversion(new ListConverter(componentType.getConversion()));
@@ -78,7 +93,8 @@ public class IterableResolver
 	}
 
 	private static class ListConverter<I, O>
-		implements DataFetchingConversion<Iterable<I>, Iterable<O>>
+		implements DataFetchingConversion<Iterable<I>, Iterable<O>>,
+			Linkable<DataFetchingConversion<Iterable<I>, Iterable<O>>>
 	{
 		private final DataFetchingConversion<I, O> conversion;
 
@@ -88,16 +104,27 @@ public class IterableResolver
 		}
 
 		@Override
+		@SuppressWarnings("unchecked")
 		public Iterable<O> convert(DataFetchingEnvironment env, Iterable<I> object)
 		{
 			if(object == null) return null;
 
-			List<O> result = new ArrayList<>();
+			List<O> result = object instanceof Collection
+				? new ArrayList<>(((Collection<I>) object).size())
+				: new ArrayList<>();
+
 			for(I item : object)
 			{
 				result.add(conversion.convert(env, item));
 			}
 			return result;
 		}
+
+		@Override
+		public DataFetchingConversion<Iterable<I>, Iterable<O>> link(ConversionLinker linker)
+		{
+			DataFetchingConversion<I, O> conversion = linker.link(this.conversion);
+			return conversion == this.conversion ? this : new ListConverter<>(conversion);
+		}
 	}
 }
@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.eclipse.collections.api.list.ListIterable;
@@ -14,11 +15,16 @@ import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLOutputType;
+import se.l4.graphql.binding.annotations.GraphQLBatched;
 import se.l4.graphql.binding.annotations.GraphQLField;
 import se.l4.graphql.binding.annotations.GraphQLInterface;
 import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.internal.IndexedResolver;
+import se.l4.graphql.binding.internal.batching.BatchedMethod;
 import se.l4.graphql.binding.internal.datafetchers.FieldDataFetcher;
 import se.l4.graphql.binding.internal.datafetchers.MethodDataFetcher;
+import se.l4.graphql.binding.internal.datafetchers.TrivialFieldDataFetcher;
+import se.l4.graphql.binding.internal.datafetchers.TrivialMethodDataFetcher;
 import se.l4.graphql.binding.internal.factory.ArgumentResolver;
 import se.l4.graphql.binding.internal.factory.MemberKey;
 import se.l4.graphql.binding.resolver.Breadcrumb;
@@ -40,11 +46,17 @@ import se.l4.ylem.types.reflect.TypeRef;
  * {@link GraphQLObjectType}.
  */
 public class ObjectTypeResolver
-	implements GraphQLOutputResolver
+	implements GraphQLOutputResolver, IndexedResolver
 {
 	private static final DataFetchingSupplier<Object> DEFAULT_FETCHING =
 		env -> env.getSource();
 
+	@Override
+	public Optional<Class<? extends Annotation>> getIndexedAnnotation()
+	{
+		return Optional.of(GraphQLObject.class);
+	}
+
 	@Override
 	public boolean supportsOutput(TypeRef type)
 	{
@@ -79,7 +91,6 @@ public class ObjectTypeResolver
 		return ResolvedGraphQLType.forType(builder.build());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public static void resolve(
 		GraphQLResolverContext context,
 		TypeRef initialType,
@@ -89,6 +100,38 @@ public class ObjectTypeResolver
 		boolean allowInterfaces,
 		Function<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> resolveOutput
 	)
+	{
+		resolve(
+			context,
+			initialType,
+			contextGetter,
+			builder,
+			annotation,
+			allowInterfaces,
+			resolveOutput,
+			(type, supplier) -> supplier
+		);
+	}
+
+	/**
+	 * Resolve the fields of a type, letting the data fetcher of every field
+	 * be replaced before it is registered.
+	 *
+	 * @param decorateFetcher
+	 *   function that receives the Java type of a field and its data fetcher
+	 *   and returns the data fetcher to register
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static void resolve(
+		GraphQLResolverContext context,
+		TypeRef initialType,
+		DataFetchingSupplier<Object> contextGetter,
+		GraphQLObjectBuilder builder,
+		Class<? extends Annotation> annotation,
+		boolean allowInterfaces,
+		Function<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> resolveOutput,
+		BiFunction<TypeRef, DataFetchingSupplier<?>, DataFetchingSupplier<?>> decorateFetcher
+	)
 	{
 		Set<MemberKey> handled = new HashSet<>();
 
@@ -121,14 +164,28 @@ public class ObjectTypeResolver
 
 					ResolvedGraphQLType<? extends GraphQLOutputType> fieldType = resolveOutput.apply(field.getType());
 
-					builder.newField()
-						.over(field)
-						.setType(fieldType.getGraphQLType())
-						.withSupplier(new FieldDataFetcher<>(
+					DataFetchingSupplier<?> supplier;
+					if(fieldType.hasConversion())
+					{
+						supplier = new FieldDataFetcher<>(
 							contextGetter,
 							field.getField(),
 							fieldType.getConversion()
-						))
+						);
+					}
+					else
+					{
+						// No conversion needed, register as a trivial fetcher
+						supplier = new TrivialFieldDataFetcher<>(
+							contextGetter,
+							field.getField()
+						);
+					}
+
+					builder.newField()
+						.over(field)
+						.setType(fieldType.getGraphQLType())
+						.withSupplier(decorateFetcher.apply(field.getType(), supplier))
 						.done();
 				});
 			}
@@ -152,6 +209,12 @@ public class ObjectTypeResolver
 						);
 					}
 
+					if(BatchedMethod.isBatched(method))
+					{
+						resolveBatched(context, initialType, method, contextGetter, builder, resolveOutput);
+						return;
+					}
+
 					ResolvedGraphQLType<? extends GraphQLOutputType> fieldType = resolveOutput.apply(method.getReturnType());
 
 					GraphQLFieldBuilder<?> fieldBuilder = builder.newField()
@@ -184,7 +247,8 @@ public class ObjectTypeResolver
 						arguments.add(new ArgumentResolver(
 							name,
 							(DataFetchingConversion) argumentType.getConversion(),
-							(DataFetchingSupplier) argumentType.getDefaultValue()
+							(DataFetchingSupplier) argumentType.getDefaultValue(),
+							argumentType.hasConversion() && ArgumentResolver.isCacheable(parameter)
 						));
 
 						// Register the argument
@@ -194,12 +258,28 @@ public class ObjectTypeResolver
 							.done();
 					}
 
-					fieldBuilder.withSupplier(new MethodDataFetcher<>(
-						contextGetter,
-						method.getMethod(),
-						arguments,
-						fieldType.getConversion()
-					))
+					DataFetchingSupplier<?> supplier;
+					if(! fieldType.hasConversion()
+						&& arguments.isEmpty()
+						&& TrivialMethodDataFetcher.isGetter(method.getMethod()))
+					{
+						// Getters without conversion are registered as trivial fetchers
+						supplier = new TrivialMethodDataFetcher<>(
+							contextGetter,
+							method.getMethod()
+						);
+					}
+					else
+					{
+						supplier = new MethodDataFetcher<>(
+							contextGetter,
+							method.getMethod(),
+							arguments,
+							fieldType.getConversion()
+						);
+					}
+
+					fieldBuilder.withSupplier(decorateFetcher.apply(method.getReturnType(), supplier))
 						.done();
 				});
 			}
@@ -208,6 +288,44 @@ public class ObjectTypeResolver
 		});
 	}
 
+	/**
+	 * Resolve a field backed by a static method annotated with
+	 * {@link GraphQLBatched}.
+	 */
+	private static void resolveBatched(
+		GraphQLResolverContext context,
+		TypeRef initialType,
+		MethodRef method,
+		DataFetchingSupplier<Object> contextGetter,
+		GraphQLObjectBuilder builder,
+		Function<TypeRef, ResolvedGraphQLType<? extends GraphQLOutputType>> resolveOutput
+	)
+	{
+		if(! method.isStatic())
+		{
+			throw context.newError(
+				"Batched methods must be static"
+			);
+		}
+
+		BatchedMethod batched = BatchedMethod.create(context, method);
+		if(! batched.getSourceType().getErasedType().isAssignableFrom(initialType.getErasedType()))
+		{
+			throw context.newError(
+				"Batched method takes sources of type `" + batched.getSourceType().toTypeName()
+				+ "` which can not be used with `" + initialType.toTypeName() + "`"
+			);
+		}
+
+		ResolvedGraphQLType<? extends GraphQLOutputType> valueType = resolveOutput.apply(batched.getValueType());
+
+		builder.newField()
+			.over(method)
+			.setType(valueType.getGraphQLType())
+			.withSupplier(batched.createFetcher(contextGetter, contextGetter, valueType))
+			.done();
+	}
+
 	@Override
 	public String toString()
 	{
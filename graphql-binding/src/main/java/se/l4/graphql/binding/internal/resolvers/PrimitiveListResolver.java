@@ -0,0 +1,177 @@
+package se.l4.graphql.binding.internal.resolvers;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+
+import graphql.Scalars;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLScalarType;
+import se.l4.graphql.binding.internal.IndexedResolver;
+import se.l4.graphql.binding.resolver.GraphQLDelegatingResolver;
+import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
+import se.l4.graphql.binding.resolver.output.GraphQLOutputEncounter;
+import se.l4.graphql.binding.resolver.output.GraphQLOutputResolver;
+import se.l4.ylem.types.reflect.TypeRef;
+
+/**
+ * Resolver for arrays and lists of primitives, such as {@code int[]} and
+ * {@link IntList}, that resolves to a list of a scalar. Values are exposed
+ * via a list view so that no boxed copy of the values is created.
+ *
+ * @param <A>
+ *   type of array
+ * @param <L>
+ *   type of primitive list
+ */
+public class PrimitiveListResolver<A, L>
+	implements GraphQLOutputResolver, GraphQLDelegatingResolver, IndexedResolver
+{
+	private final GraphQLScalarType scalar;
+
+	private final Class<A> arrayType;
+	private final ToIntFunction<A> arraySize;
+	private final ElementAccessor<A> arrayElement;
+
+	private final Class<L> listType;
+	private final ToIntFunction<L> listSize;
+	private final ElementAccessor<L> listElement;
+
+	public PrimitiveListResolver(
+		GraphQLScalarType scalar,
+		Class<A> arrayType,
+		ToIntFunction<A> arraySize,
+		ElementAccessor<A> arrayElement,
+		Class<L> listType,
+		ToIntFunction<L> listSize,
+		ElementAccessor<L> listElement
+	)
+	{
+		this.scalar = scalar;
+
+		this.arrayType = arrayType;
+		this.arraySize = arraySize;
+		this.arrayElement = arrayElement;
+
+		this.listType = listType;
+		this.listSize = listSize;
+		this.listElement = listElement;
+	}
+
+	/**
+	 * Resolver for {@code int[]} and {@link IntList}.
+	 *
+	 * @return
+	 */
+	public static PrimitiveListResolver<int[], IntList> forInt()
+	{
+		return new PrimitiveListResolver<>(
+			Scalars.GraphQLInt,
+			int[].class, a -> a.length, (a, i) -> a[i],
+			IntList.class, IntList::size, IntList::get
+		);
+	}
+
+	/**
+	 * Resolver for {@code long[]} and {@link LongList}.
+	 *
+	 * @return
+	 */
+	public static PrimitiveListResolver<long[], LongList> forLong()
+	{
+		return new PrimitiveListResolver<>(
+			Scalars.GraphQLLong,
+			long[].class, a -> a.length, (a, i) -> a[i],
+			LongList.class, LongList::size, LongList::get
+		);
+	}
+
+	/**
+	 * Resolver for {@code double[]} and {@link DoubleList}.
+	 *
+	 * @return
+	 */
+	public static PrimitiveListResolver<double[], DoubleList> forDouble()
+	{
+		return new PrimitiveListResolver<>(
+			Scalars.GraphQLFloat,
+			double[].class, a -> a.length, (a, i) -> a[i],
+			DoubleList.class, DoubleList::size, DoubleList::get
+		);
+	}
+
+	@Override
+	public Set<Class<?>> getIndexedTypes()
+	{
+		return Set.of(arrayType, listType);
+	}
+
+	@Override
+	public boolean supportsOutput(TypeRef type)
+	{
+		Class<?> erased = type.getErasedType();
+		return erased == arrayType || listType.isAssignableFrom(erased);
+	}
+
+	@Override
+	public ResolvedGraphQLType<? extends GraphQLOutputType> resolveOutput(GraphQLOutputEncounter encounter)
+	{
+		return ResolvedGraphQLType.forType(GraphQLList.list(scalar))
+			.withOutputConversion((env, s) -> {
+				if(s == null) return null;
+
+				return arrayType.isInstance(s)
+					? new View<>(arrayType.cast(s), arraySize, arrayElement)
+					: new View<>(listType.cast(s), listSize, listElement);
+			});
+	}
+
+	@Override
+	public String toString()
+	{
+		return arrayType.getSimpleName() + " and " + listType.getSimpleName();
+	}
+
+	/**
+	 * Function used to read a single element, boxing it.
+	 */
+	@FunctionalInterface
+	public interface ElementAccessor<T>
+	{
+		Object get(T values, int index);
+	}
+
+	private static class View<T>
+		extends AbstractList<Object>
+		implements RandomAccess
+	{
+		private final T values;
+		private final ToIntFunction<T> size;
+		private final ElementAccessor<T> element;
+
+		public View(T values, ToIntFunction<T> size, ElementAccessor<T> element)
+		{
+			this.values = values;
+			this.size = size;
+			this.element = element;
+		}
+
+		@Override
+		public Object get(int index)
+		{
+			return element.get(values, index);
+		}
+
+		@Override
+		public int size()
+		{
+			return size.applyAsInt(values);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package se.l4.graphql.binding.internal.resolvers;
 
+import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@ import graphql.schema.GraphQLScalarType;
 import se.l4.graphql.binding.annotations.GraphQLDescription;
 import se.l4.graphql.binding.annotations.GraphQLName;
 import se.l4.graphql.binding.annotations.GraphQLScalar;
+import se.l4.graphql.binding.internal.IndexedResolver;
 import se.l4.graphql.binding.resolver.Breadcrumb;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
 import se.l4.graphql.binding.resolver.GraphQLScalarResolver;
@@ -47,12 +49,18 @@ import se.l4.ylem.types.reflect.Types;
  * {@link GraphQLScalarConversion} is added.
  */
 public class ScalarResolver
-	implements GraphQLOutputResolver, GraphQLInputResolver
+	implements GraphQLOutputResolver, GraphQLInputResolver, IndexedResolver
 {
 	public ScalarResolver()
 	{
 	}
 
+	@Override
+	public Optional<Class<? extends Annotation>> getIndexedAnnotation()
+	{
+		return Optional.of(GraphQLScalar.class);
+	}
+
 	@Override
 	public boolean supportsOutput(TypeRef type)
 	{
@@ -0,0 +1,154 @@
+package se.l4.graphql.binding.internal.resolvers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLOutputType;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.IndexedResolver;
+import se.l4.graphql.binding.internal.Linkable;
+import se.l4.graphql.binding.resolver.DataFetchingConversion;
+import se.l4.graphql.binding.resolver.GraphQLDelegatingResolver;
+import se.l4.graphql.binding.resolver.GraphQLResolverContext;
+import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
+import se.l4.graphql.binding.resolver.output.GraphQLOutputEncounter;
+import se.l4.graphql.binding.resolver.output.GraphQLOutputResolver;
+import se.l4.ylem.types.reflect.TypeRef;
+
+/**
+ * Resolver for {@link Stream}, {@link Iterator} and {@link Spliterator} that
+ * resolves to a list. Items are read and converted within the data fetcher
+ * and streams are closed before the fetcher returns.
+ */
+public class StreamResolver
+	implements GraphQLOutputResolver, GraphQLDelegatingResolver, IndexedResolver
+{
+	@Override
+	public Set<Class<?>> getIndexedTypes()
+	{
+		return Set.of(Stream.class, Iterator.class, Spliterator.class);
+	}
+
+	@Override
+	public boolean supportsOutput(TypeRef type)
+	{
+		Class<?> erased = type.getErasedType();
+		return Stream.class.isAssignableFrom(erased)
+			|| Iterator.class.isAssignableFrom(erased)
+			|| Spliterator.class.isAssignableFrom(erased);
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public ResolvedGraphQLType<? extends GraphQLOutputType> resolveOutput(GraphQLOutputEncounter encounter)
+	{
+		GraphQLResolverContext context = encounter.getContext();
+
+		TypeRef type = encounter.getType();
+		Class<?> erased = type.getErasedType();
+		Class<?> iteratedType = Stream.class.isAssignableFrom(erased) ? Stream.class
+			: Iterator.class.isAssignableFrom(erased) ? Iterator.class
+			: Spliterator.class;
+
+		ResolvedGraphQLType<? extends GraphQLOutputType> componentType = type
+			.findInterface(iteratedType)
+			.get().getTypeParameter(0)
+			.map(context::resolveOutput)
+			.orElseThrow(() -> context.newError(
+				"Could not resolve a GraphQL type for `" + type.toTypeName() + "`"
+			));
+
+		DataFetchingConversion<Object, Object> conversion = componentType.hasConversion()
+			? (DataFetchingConversion) componentType.getConversion()
+			: null;
+
+		return ResolvedGraphQLType.forType(
+			GraphQLList.list(componentType.getGraphQLType())
+		).withOutputConversion(new MaterializingConverter(conversion));
+	}
+
+	@Override
+	public String toString()
+	{
+		return "Stream";
+	}
+
+	/**
+	 * Conversion that turns a stream, iterator or spliterator into a list.
+	 *
+	 * <p>
+	 * GraphQL Java could iterate a lazy view, but it gives no way to close
+	 * a stream when it is done and skips the iteration entirely if the list
+	 * is not completed, such as when a sibling field fails within a non-null
+	 * parent. Items are therefore read and converted before the data fetcher
+	 * returns so that streams are always closed. The list is presized when
+	 * the number of items is known.
+	 */
+	private static class MaterializingConverter
+		implements DataFetchingConversion<Object, List<Object>>,
+			Linkable<DataFetchingConversion<Object, List<Object>>>
+	{
+		private final DataFetchingConversion<Object, Object> conversion;
+
+		public MaterializingConverter(DataFetchingConversion<Object, Object> conversion)
+		{
+			this.conversion = conversion;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public List<Object> convert(DataFetchingEnvironment env, Object object)
+		{
+			if(object == null) return null;
+
+			if(object instanceof Stream)
+			{
+				try(Stream<Object> stream = (Stream<Object>) object)
+				{
+					return collect(env, stream.spliterator());
+				}
+			}
+			else if(object instanceof Iterator)
+			{
+				return collect(env, Spliterators.spliteratorUnknownSize((Iterator<Object>) object, 0));
+			}
+			else
+			{
+				return collect(env, (Spliterator<Object>) object);
+			}
+		}
+
+		private List<Object> collect(DataFetchingEnvironment env, Spliterator<Object> spliterator)
+		{
+			long size = spliterator.getExactSizeIfKnown();
+			List<Object> result = size >= 0 && size <= Integer.MAX_VALUE
+				? new ArrayList<>((int) size)
+				: new ArrayList<>();
+
+			if(conversion == null)
+			{
+				spliterator.forEachRemaining(result::add);
+			}
+			else
+			{
+				spliterator.forEachRemaining(item -> result.add(conversion.convert(env, item)));
+			}
+
+			return result;
+		}
+
+		@Override
+		public DataFetchingConversion<Object, List<Object>> link(ConversionLinker linker)
+		{
+			DataFetchingConversion<Object, Object> conversion = linker.link(this.conversion);
+			return conversion == this.conversion ? this : new MaterializingConverter(conversion);
+		}
+	}
+}
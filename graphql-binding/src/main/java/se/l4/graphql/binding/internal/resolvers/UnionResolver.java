@@ -1,7 +1,11 @@
 package se.l4.graphql.binding.internal.resolvers;
 
+import java.lang.annotation.Annotation;
+import java.util.Optional;
+
 import graphql.schema.GraphQLOutputType;
 import se.l4.graphql.binding.annotations.GraphQLUnion;
+import se.l4.graphql.binding.internal.IndexedResolver;
 import se.l4.graphql.binding.resolver.GraphQLResolverContext;
 import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
 import se.l4.graphql.binding.resolver.output.GraphQLOutputEncounter;
@@ -10,8 +14,14 @@ import se.l4.graphql.binding.resolver.output.GraphQLUnionBuilder;
 import se.l4.ylem.types.reflect.TypeRef;
 
 public class UnionResolver
-	implements GraphQLOutputResolver
+	implements GraphQLOutputResolver, IndexedResolver
 {
+	@Override
+	public Optional<Class<? extends Annotation>> getIndexedAnnotation()
+	{
+		return Optional.of(GraphQLUnion.class);
+	}
+
 	@Override
 	public boolean supportsOutput(TypeRef type)
 	{
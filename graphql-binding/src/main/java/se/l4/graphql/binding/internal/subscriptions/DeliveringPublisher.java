@@ -0,0 +1,44 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.resolver.DataFetchingConversion;
+
+/**
+ * {@link Publisher} that converts items from an upstream and delivers them
+ * to every subscriber according to a {@link DeliveryPolicy}. Every
+ * subscriber results in a separate subscription to the upstream.
+ *
+ * @param <I>
+ * @param <O>
+ */
+public class DeliveringPublisher<I, O>
+	implements Publisher<O>
+{
+	private final Publisher<I> upstream;
+	private final DataFetchingConversion<I, O> conversion;
+	private final DataFetchingEnvironment env;
+	private final DeliveryPolicy policy;
+
+	public DeliveringPublisher(
+		Publisher<I> upstream,
+		DataFetchingConversion<I, O> conversion,
+		DataFetchingEnvironment env,
+		DeliveryPolicy policy
+	)
+	{
+		this.upstream = upstream;
+		this.conversion = conversion;
+		this.env = env;
+		this.policy = policy;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super O> subscriber)
+	{
+		new MulticastPublisher<>(upstream, conversion, env, policy, p -> {})
+			.attach(subscriber);
+	}
+}
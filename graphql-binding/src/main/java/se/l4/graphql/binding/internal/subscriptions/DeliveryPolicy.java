@@ -0,0 +1,123 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import se.l4.graphql.binding.annotations.GraphQLBackpressure;
+import se.l4.graphql.binding.annotations.GraphQLBackpressure.Overflow;
+
+/**
+ * Policy for how events are delivered to subscribers, created from
+ * {@link GraphQLBackpressure}.
+ */
+public class DeliveryPolicy
+{
+	/**
+	 * The buffer size used when {@link GraphQLBackpressure} is not present
+	 * on a shared subscription, same as the default of the annotation.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	/**
+	 * Key used for events that the conflation function returns
+	 * {@code null} for.
+	 */
+	private static final Object NULL_KEY = new Object();
+
+	/**
+	 * Policy that buffers without bounds and converts on the emitting thread.
+	 */
+	public static final DeliveryPolicy UNBOUNDED = new DeliveryPolicy(
+		Integer.MAX_VALUE,
+		Overflow.DROP_LATEST,
+		null,
+		null,
+		null
+	);
+
+	/**
+	 * Create the policy used for shared subscriptions that do not specify
+	 * {@link GraphQLBackpressure}. A shared upstream can not be slowed down
+	 * by a single client, so events are buffered with the same size as the
+	 * default of the annotation. Events are never dropped, a client that
+	 * fills its buffer is cancelled with an error instead.
+	 *
+	 * @param stats
+	 * @return
+	 */
+	public static DeliveryPolicy bounded(SubscriptionStatsImpl stats)
+	{
+		return new DeliveryPolicy(
+			DEFAULT_BUFFER_SIZE,
+			Overflow.CANCEL,
+			null,
+			null,
+			stats
+		);
+	}
+
+	private final int bufferSize;
+	private final Overflow overflow;
+	private final Function<Object, Object> conflateBy;
+	private final Executor executor;
+	private final SubscriptionStatsImpl stats;
+
+	public DeliveryPolicy(
+		int bufferSize,
+		Overflow overflow,
+		Function<Object, Object> conflateBy,
+		Executor executor,
+		SubscriptionStatsImpl stats
+	)
+	{
+		this.bufferSize = bufferSize;
+		this.overflow = overflow;
+		this.conflateBy = conflateBy;
+		this.executor = executor;
+		this.stats = stats;
+	}
+
+	public int getBufferSize()
+	{
+		return bufferSize;
+	}
+
+	public Overflow getOverflow()
+	{
+		return overflow;
+	}
+
+	/**
+	 * Get the key used for conflating the given event. Events the function
+	 * returns {@code null} for share a single key.
+	 *
+	 * @param event
+	 * @return
+	 */
+	public Object getConflationKey(Object event)
+	{
+		if(conflateBy == null)
+		{
+			return DeliveryPolicy.class;
+		}
+
+		Object key = conflateBy.apply(event);
+		return key == null ? NULL_KEY : key;
+	}
+
+	/**
+	 * Get the executor to convert events on, or {@code null} if events are
+	 * converted on the emitting thread.
+	 *
+	 * @return
+	 */
+	public Executor getExecutor()
+	{
+		return executor;
+	}
+
+	public SubscriptionStatsImpl getStats()
+	{
+		return stats;
+	}
+}
@@ -0,0 +1,262 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.resolver.DataFetchingConversion;
+
+/**
+ * Publisher that can be shared between several subscribers. Subscribes to
+ * the upstream when the first subscriber is attached and delivers every item
+ * to all subscribers. Items are converted once using the environment given
+ * when the publisher is created and the result is delivered to every
+ * subscriber. When the last subscriber cancels the upstream is cancelled and
+ * the publisher is closed.
+ *
+ * @param <I>
+ * @param <O>
+ */
+class MulticastPublisher<I, O>
+	implements Subscriber<I>
+{
+	private final Publisher<I> upstream;
+	private final DataFetchingConversion<I, O> conversion;
+	private final DataFetchingEnvironment env;
+	private final DeliveryPolicy policy;
+	private final Consumer<MulticastPublisher<I, O>> onClose;
+
+	private final Executor signals;
+
+	private final List<SubscriberDelivery<O>> deliveries;
+
+	private boolean started;
+	private boolean closed;
+	private Subscription subscription;
+
+	public MulticastPublisher(
+		Publisher<I> upstream,
+		DataFetchingConversion<I, O> conversion,
+		DataFetchingEnvironment env,
+		DeliveryPolicy policy,
+		Consumer<MulticastPublisher<I, O>> onClose
+	)
+	{
+		this.upstream = upstream;
+		this.conversion = conversion;
+		this.env = env;
+		this.policy = policy;
+		this.onClose = onClose;
+
+		signals = policy.getExecutor() == null
+			? null
+			: new SerialExecutor(policy.getExecutor());
+
+		deliveries = new CopyOnWriteArrayList<>();
+	}
+
+	/**
+	 * Attach a subscriber to this publisher.
+	 *
+	 * @param subscriber
+	 * @return
+	 *   {@code false} if this publisher has been closed and a new one needs
+	 *   to be created
+	 */
+	public boolean attach(Subscriber<? super O> subscriber)
+	{
+		SubscriberDelivery<O> delivery = new SubscriberDelivery<>(subscriber, policy, this::detach);
+
+		boolean start;
+		synchronized(this)
+		{
+			if(closed) return false;
+
+			deliveries.add(delivery);
+			start = ! started;
+			started = true;
+		}
+
+		subscriber.onSubscribe(delivery);
+
+		if(start)
+		{
+			upstream.subscribe(this);
+		}
+
+		return true;
+	}
+
+	private void detach(SubscriberDelivery<O> delivery)
+	{
+		Subscription toCancel;
+		synchronized(this)
+		{
+			if(! deliveries.remove(delivery) || ! deliveries.isEmpty() || closed)
+			{
+				return;
+			}
+
+			// Last subscriber left, tear down the upstream
+			closed = true;
+			onClose.accept(this);
+			toCancel = subscription;
+		}
+
+		if(toCancel != null)
+		{
+			toCancel.cancel();
+		}
+	}
+
+	private void close()
+	{
+		synchronized(this)
+		{
+			closed = true;
+			onClose.accept(this);
+		}
+	}
+
+	@Override
+	public void onSubscribe(Subscription subscription)
+	{
+		boolean cancel;
+		synchronized(this)
+		{
+			this.subscription = subscription;
+			cancel = closed;
+		}
+
+		if(cancel)
+		{
+			subscription.cancel();
+		}
+		else
+		{
+			subscription.request(Long.MAX_VALUE);
+		}
+	}
+
+	@Override
+	public void onNext(I item)
+	{
+		if(signals == null)
+		{
+			deliver(item);
+		}
+		else
+		{
+			signal(() -> deliver(item));
+		}
+	}
+
+	@Override
+	public void onError(Throwable t)
+	{
+		if(signals == null)
+		{
+			deliverError(t);
+		}
+		else
+		{
+			signal(() -> deliverError(t));
+		}
+	}
+
+	@Override
+	public void onComplete()
+	{
+		if(signals == null)
+		{
+			deliverComplete();
+		}
+		else
+		{
+			signal(this::deliverComplete);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void deliver(I item)
+	{
+		O converted;
+		try
+		{
+			converted = conversion == null ? (O) item : conversion.convert(env, item);
+		}
+		catch(Throwable t)
+		{
+			// The event can not be delivered to anyone
+			fail(t);
+			return;
+		}
+
+		for(SubscriberDelivery<O> delivery : deliveries)
+		{
+			delivery.next(converted);
+		}
+	}
+
+	/**
+	 * Run a signal via the executor. If the executor rejects it nothing
+	 * more can be delivered, so all subscribers receive the rejection.
+	 */
+	private void signal(Runnable task)
+	{
+		try
+		{
+			signals.execute(task);
+		}
+		catch(RejectedExecutionException e)
+		{
+			fail(e);
+		}
+	}
+
+	/**
+	 * Stop the upstream and deliver an error to all subscribers.
+	 */
+	private void fail(Throwable t)
+	{
+		Subscription toCancel;
+		synchronized(this)
+		{
+			toCancel = closed ? null : subscription;
+		}
+
+		deliverError(t);
+
+		if(toCancel != null)
+		{
+			toCancel.cancel();
+		}
+	}
+
+	private void deliverError(Throwable t)
+	{
+		close();
+
+		for(SubscriberDelivery<O> delivery : deliveries)
+		{
+			delivery.error(t);
+		}
+	}
+
+	private void deliverComplete()
+	{
+		close();
+
+		for(SubscriberDelivery<O> delivery : deliveries)
+		{
+			delivery.complete();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Executor} that runs tasks one at a time in the order they were
+ * submitted, using another executor to run them. A task that throws is
+ * reported to the uncaught exception handler of the running thread and does
+ * not stop later tasks from running.
+ *
+ * <p>
+ * If the other executor rejects running the tasks the queued tasks are
+ * dropped and the {@link RejectedExecutionException} is rethrown, so that
+ * the next task submitted tries to run again.
+ */
+public class SerialExecutor
+	implements Executor
+{
+	private final Executor executor;
+	private final Queue<Runnable> tasks;
+	private final AtomicInteger pending;
+
+	public SerialExecutor(Executor executor)
+	{
+		this.executor = executor;
+
+		tasks = new ConcurrentLinkedQueue<>();
+		pending = new AtomicInteger();
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		tasks.offer(command);
+
+		if(pending.getAndIncrement() == 0)
+		{
+			try
+			{
+				executor.execute(this::runTasks);
+			}
+			catch(RejectedExecutionException e)
+			{
+				// Nothing will run the queued tasks, drop them
+				while(tasks.poll() != null)
+				{
+					pending.decrementAndGet();
+				}
+
+				throw e;
+			}
+		}
+	}
+
+	private void runTasks()
+	{
+		do
+		{
+			try
+			{
+				tasks.poll().run();
+			}
+			catch(Throwable t)
+			{
+				Thread thread = Thread.currentThread();
+				thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+			}
+		}
+		while(pending.decrementAndGet() != 0);
+	}
+}
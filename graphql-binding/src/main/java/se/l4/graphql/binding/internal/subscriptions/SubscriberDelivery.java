@@ -0,0 +1,341 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import se.l4.graphql.binding.annotations.GraphQLBackpressure.Overflow;
+
+/**
+ * Delivery of items to a single {@link Subscriber}. Items are buffered and
+ * delivered according to the demand signalled by the subscriber, with the
+ * {@link DeliveryPolicy} deciding what happens when the buffer is full.
+ *
+ * @param <T>
+ */
+public class SubscriberDelivery<T>
+	implements Subscription
+{
+	private static final Object NULL = new Object();
+
+	private final Subscriber<? super T> subscriber;
+	private final DeliveryPolicy policy;
+	private final Consumer<SubscriberDelivery<T>> onCancel;
+
+	private final Queue<Object> queue;
+	private final AtomicInteger size;
+	private final Map<Object, Slot> pending;
+
+	private final AtomicLong requested;
+	private final AtomicInteger wip;
+	private final AtomicBoolean lagging;
+
+	private volatile boolean done;
+	private volatile boolean cancelled;
+	private volatile Throwable error;
+
+	public SubscriberDelivery(
+		Subscriber<? super T> subscriber,
+		DeliveryPolicy policy,
+		Consumer<SubscriberDelivery<T>> onCancel
+	)
+	{
+		this.subscriber = subscriber;
+		this.policy = policy;
+		this.onCancel = onCancel;
+
+		queue = new ConcurrentLinkedQueue<>();
+		size = new AtomicInteger();
+		pending = policy.getOverflow() == Overflow.CONFLATE
+			? new ConcurrentHashMap<>()
+			: null;
+
+		requested = new AtomicLong();
+		wip = new AtomicInteger();
+		lagging = new AtomicBoolean();
+	}
+
+	@Override
+	public void request(long n)
+	{
+		if(n <= 0)
+		{
+			fail(new IllegalArgumentException("Requested items must be positive, got " + n));
+			return;
+		}
+
+		requested.getAndUpdate(current -> {
+			long next = current + n;
+			return next < 0 ? Long.MAX_VALUE : next;
+		});
+
+		drain();
+	}
+
+	@Override
+	public void cancel()
+	{
+		if(cancelled) return;
+
+		cancelled = true;
+		onCancel.accept(this);
+	}
+
+	/**
+	 * Queue an item for delivery.
+	 *
+	 * @param item
+	 */
+	public void next(T item)
+	{
+		if(done || cancelled) return;
+
+		Object value = item == null ? NULL : item;
+		if(pending != null)
+		{
+			Object key = policy.getConflationKey(item);
+			Slot slot = pending.get(key);
+			if(slot != null && slot.replace(value))
+			{
+				// An item with the same key was waiting, it has been replaced
+				policy.getStats().dropped();
+				drain();
+				return;
+			}
+
+			slot = new Slot(key, value);
+			pending.put(key, slot);
+			value = slot;
+		}
+
+		if(size.get() >= policy.getBufferSize() && ! overflow())
+		{
+			return;
+		}
+
+		queue.offer(value);
+		size.incrementAndGet();
+		drain();
+	}
+
+	/**
+	 * Handle that the buffer is full.
+	 *
+	 * @return
+	 *   if the new item should be queued
+	 */
+	private boolean overflow()
+	{
+		if(lagging.compareAndSet(false, true))
+		{
+			policy.getStats().startedLagging();
+		}
+
+		switch(policy.getOverflow())
+		{
+			case DROP_LATEST:
+				policy.getStats().dropped();
+				return false;
+			case CANCEL:
+				policy.getStats().cancelled();
+				fail(new IllegalStateException(
+					"Subscriber could not keep up, more than "
+					+ policy.getBufferSize() + " events buffered"
+				));
+				return false;
+			default:
+				Object dropped = queue.poll();
+				if(dropped != null)
+				{
+					size.decrementAndGet();
+					take(dropped);
+					policy.getStats().dropped();
+				}
+				return true;
+		}
+	}
+
+	/**
+	 * Signal that no more items will be delivered due to an error. Items
+	 * already queued are delivered before the error.
+	 *
+	 * @param t
+	 */
+	public void error(Throwable t)
+	{
+		if(done || cancelled) return;
+
+		error = t;
+		done = true;
+		drain();
+	}
+
+	/**
+	 * Signal that no more items will be delivered. Items already queued are
+	 * delivered before completion.
+	 */
+	public void complete()
+	{
+		if(done) return;
+
+		done = true;
+		drain();
+	}
+
+	private void fail(Throwable t)
+	{
+		error = t;
+		done = true;
+		cancel();
+		clear();
+		drain();
+	}
+
+	private void clear()
+	{
+		queue.clear();
+		size.set(0);
+
+		if(pending != null)
+		{
+			pending.clear();
+		}
+	}
+
+	private Object take(Object item)
+	{
+		if(item instanceof Slot)
+		{
+			Slot slot = (Slot) item;
+			Object value = slot.take();
+			pending.remove(slot.key, slot);
+			return value;
+		}
+
+		return item;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void drain()
+	{
+		if(wip.getAndIncrement() != 0) return;
+
+		int missed = 1;
+		while(true)
+		{
+			long r = requested.get();
+			long emitted = 0;
+
+			while(emitted != r)
+			{
+				if(cancelled && error == null)
+				{
+					clear();
+					stopLagging();
+					return;
+				}
+
+				boolean d = done;
+				Object item = queue.poll();
+				if(item == null)
+				{
+					stopLagging();
+
+					if(d)
+					{
+						terminate();
+						return;
+					}
+
+					break;
+				}
+
+				size.decrementAndGet();
+				item = take(item);
+
+				subscriber.onNext(item == NULL ? null : (T) item);
+				emitted++;
+			}
+
+			if(emitted == r && done && queue.isEmpty())
+			{
+				terminate();
+				return;
+			}
+
+			if(emitted != 0 && r != Long.MAX_VALUE)
+			{
+				requested.addAndGet(-emitted);
+			}
+
+			missed = wip.addAndGet(-missed);
+			if(missed == 0)
+			{
+				return;
+			}
+		}
+	}
+
+	private void stopLagging()
+	{
+		if(lagging.compareAndSet(true, false))
+		{
+			policy.getStats().stoppedLagging();
+		}
+	}
+
+	private void terminate()
+	{
+		clear();
+		stopLagging();
+
+		if(error != null)
+		{
+			subscriber.onError(error);
+		}
+		else if(! cancelled)
+		{
+			subscriber.onComplete();
+		}
+
+		cancelled = true;
+	}
+
+	/**
+	 * Buffered item that can be replaced by a later item with the same key.
+	 */
+	private static class Slot
+	{
+		private final Object key;
+		private Object value;
+		private boolean taken;
+
+		public Slot(Object key, Object value)
+		{
+			this.key = key;
+			this.value = value;
+		}
+
+		public synchronized boolean replace(Object value)
+		{
+			if(taken) return false;
+
+			this.value = value;
+			return true;
+		}
+
+		public synchronized Object take()
+		{
+			taken = true;
+			return value;
+		}
+	}
+}
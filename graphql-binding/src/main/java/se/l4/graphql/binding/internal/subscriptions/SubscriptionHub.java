@@ -0,0 +1,206 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
+import se.l4.graphql.binding.resolver.DataFetchingConversion;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
+
+/**
+ * Hub that keeps track of shared subscriptions. Every {@link SubscriptionKey}
+ * has at most one active {@link MulticastPublisher} that multicasts a single
+ * upstream {@link Publisher}.
+ */
+public class SubscriptionHub
+{
+	private final ConcurrentMap<SubscriptionKey, MulticastPublisher<?, ?>> publishers;
+
+	public SubscriptionHub()
+	{
+		publishers = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Get a data fetcher that shares the subscription of a field. The given
+	 * upstream supplier is only invoked if no other client is subscribed to
+	 * the same key.
+	 *
+	 * @param upstream
+	 *   supplier of the upstream publisher, such as the fetcher of the field
+	 * @param conversion
+	 *   conversion to apply to emitted items, or {@code null}
+	 * @param policy
+	 * @return
+	 */
+	public <I, O> DataFetchingSupplier<Publisher<O>> share(
+		DataFetchingSupplier<? extends Publisher<I>> upstream,
+		DataFetchingConversion<I, O> conversion,
+		DeliveryPolicy policy
+	)
+	{
+		return new SharedFetcher<>(upstream, conversion, policy);
+	}
+
+	/**
+	 * Get the number of keys that currently have an active upstream.
+	 *
+	 * @return
+	 */
+	public int getActiveCount()
+	{
+		return publishers.size();
+	}
+
+	/**
+	 * Create the environment that items of a shared subscription are
+	 * converted with. Items are converted once for all clients, so the
+	 * environment keeps the field and arguments that make up the key but not
+	 * the context of the client that happened to subscribe first.
+	 *
+	 * @param env
+	 * @return
+	 */
+	private static DataFetchingEnvironment scope(DataFetchingEnvironment env)
+	{
+		return DataFetchingEnvironmentImpl.newDataFetchingEnvironment(env)
+			.context(GraphQLContext.newContext().build())
+			.localContext(null)
+			.build();
+	}
+
+	private class SharedFetcher<I, O>
+		implements DataFetchingSupplier<Publisher<O>>, Linkable<DataFetchingSupplier<Publisher<O>>>
+	{
+		private final DataFetchingSupplier<? extends Publisher<I>> upstream;
+		private final DataFetchingConversion<I, O> conversion;
+		private final DeliveryPolicy policy;
+
+		public SharedFetcher(
+			DataFetchingSupplier<? extends Publisher<I>> upstream,
+			DataFetchingConversion<I, O> conversion,
+			DeliveryPolicy policy
+		)
+		{
+			this.upstream = upstream;
+			this.conversion = conversion;
+			this.policy = policy;
+		}
+
+		@Override
+		public Publisher<O> get(DataFetchingEnvironment env)
+		{
+			return new HubPublisher<>(SubscriptionKey.create(env), env, this);
+		}
+
+		@Override
+		public DataFetchingSupplier<Publisher<O>> link(ConversionLinker linker)
+		{
+			DataFetchingSupplier<? extends Publisher<I>> upstream = linker.link(this.upstream);
+			DataFetchingConversion<I, O> conversion = linker.link(this.conversion);
+			if(upstream == this.upstream && conversion == this.conversion)
+			{
+				return this;
+			}
+
+			return new SharedFetcher<>(upstream, conversion, policy);
+		}
+	}
+
+	private class HubPublisher<I, O>
+		implements Publisher<O>
+	{
+		private final SubscriptionKey key;
+		private final DataFetchingEnvironment env;
+		private final SharedFetcher<I, O> fetcher;
+
+		public HubPublisher(
+			SubscriptionKey key,
+			DataFetchingEnvironment env,
+			SharedFetcher<I, O> fetcher
+		)
+		{
+			this.key = key;
+			this.env = env;
+			this.fetcher = fetcher;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void subscribe(Subscriber<? super O> subscriber)
+		{
+			while(true)
+			{
+				MulticastPublisher<I, O> shared;
+				try
+				{
+					shared = (MulticastPublisher<I, O>) publishers.computeIfAbsent(key, this::open);
+				}
+				catch(RuntimeException e)
+				{
+					subscriber.onSubscribe(EmptySubscription.INSTANCE);
+					subscriber.onError(e);
+					return;
+				}
+
+				if(shared == null)
+				{
+					// The field returned no publisher
+					subscriber.onSubscribe(EmptySubscription.INSTANCE);
+					subscriber.onComplete();
+					return;
+				}
+
+				/*
+				 * A publisher that lost its last subscriber removes itself
+				 * from the hub, so retry until an active one is found.
+				 */
+				if(shared.attach(subscriber))
+				{
+					return;
+				}
+			}
+		}
+
+		private MulticastPublisher<I, O> open(SubscriptionKey key)
+		{
+			Publisher<I> upstream = fetcher.upstream.get(env);
+			if(upstream == null)
+			{
+				return null;
+			}
+
+			return new MulticastPublisher<>(
+				upstream,
+				fetcher.conversion,
+				scope(env),
+				fetcher.policy,
+				p -> publishers.remove(key, p)
+			);
+		}
+	}
+
+	private static class EmptySubscription
+		implements Subscription
+	{
+		private static final Subscription INSTANCE = new EmptySubscription();
+
+		@Override
+		public void request(long n)
+		{
+		}
+
+		@Override
+		public void cancel()
+		{
+		}
+	}
+}
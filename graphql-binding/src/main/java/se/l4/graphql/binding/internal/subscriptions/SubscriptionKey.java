@@ -0,0 +1,70 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Key used to share subscriptions, made up of the field being subscribed to
+ * and the coerced arguments.
+ */
+public class SubscriptionKey
+{
+	private final String field;
+	private final Map<String, Object> arguments;
+
+	private final int hashCode;
+
+	public SubscriptionKey(String field, Map<String, Object> arguments)
+	{
+		this.field = field;
+		this.arguments = arguments;
+
+		this.hashCode = Objects.hash(field, arguments);
+	}
+
+	/**
+	 * Create a key for the field that is currently being fetched.
+	 *
+	 * @param env
+	 * @return
+	 */
+	public static SubscriptionKey create(DataFetchingEnvironment env)
+	{
+		/*
+		 * Arguments have been coerced by graphql-java so they only contain
+		 * maps, lists and scalar values. Copying them into a HashMap makes
+		 * the key independent of the order they were given in.
+		 */
+		return new SubscriptionKey(
+			env.getFieldDefinition().getName(),
+			new HashMap<>(env.getArguments())
+		);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(this == obj) return true;
+		if(obj == null || getClass() != obj.getClass()) return false;
+
+		SubscriptionKey other = (SubscriptionKey) obj;
+		return hashCode == other.hashCode
+			&& field.equals(other.field)
+			&& arguments.equals(other.arguments);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + "{field=" + field + ", arguments=" + arguments + "}";
+	}
+}
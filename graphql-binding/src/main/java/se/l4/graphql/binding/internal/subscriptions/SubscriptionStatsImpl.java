@@ -0,0 +1,62 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import se.l4.graphql.binding.GraphQLSubscriptionStats;
+
+/**
+ * Counters updated by {@link SubscriberDelivery} when events overflow.
+ */
+public class SubscriptionStatsImpl
+	implements GraphQLSubscriptionStats
+{
+	private final LongAdder dropped;
+	private final LongAdder cancelled;
+	private final AtomicInteger lagging;
+
+	public SubscriptionStatsImpl()
+	{
+		dropped = new LongAdder();
+		cancelled = new LongAdder();
+		lagging = new AtomicInteger();
+	}
+
+	void dropped()
+	{
+		dropped.increment();
+	}
+
+	void cancelled()
+	{
+		cancelled.increment();
+	}
+
+	void startedLagging()
+	{
+		lagging.incrementAndGet();
+	}
+
+	void stoppedLagging()
+	{
+		lagging.decrementAndGet();
+	}
+
+	@Override
+	public long getDroppedEvents()
+	{
+		return dropped.sum();
+	}
+
+	@Override
+	public long getCancelledSubscribers()
+	{
+		return cancelled.sum();
+	}
+
+	@Override
+	public int getLaggingSubscribers()
+	{
+		return lagging.get();
+	}
+}
@@ -0,0 +1,71 @@
+package se.l4.graphql.binding.resolver;
+
+import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.internal.ConversionLinker;
+import se.l4.graphql.binding.internal.Linkable;
+
+/**
+ * Conversion that runs two conversions after each other. Instances are
+ * immutable. When the schema has been built, conversions with pending stages
+ * are replaced by linked copies that call the actual conversions.
+ *
+ * @param <I>
+ * @param <O>
+ */
+final class FusedConversion<I, O>
+	implements DataFetchingConversion<I, O>, Linkable<DataFetchingConversion<I, O>>
+{
+	private final DataFetchingConversion<I, Object> first;
+	private final DataFetchingConversion<Object, O> second;
+
+	private FusedConversion(
+		DataFetchingConversion<I, Object> first,
+		DataFetchingConversion<Object, O> second
+	)
+	{
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Combine two conversions, running the first one before the second one.
+	 *
+	 * @param first
+	 * @param second
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static DataFetchingConversion<?, ?> fuse(
+		DataFetchingConversion<?, ?> first,
+		DataFetchingConversion<?, ?> second
+	)
+	{
+		return new FusedConversion<>((DataFetchingConversion) first, (DataFetchingConversion) second);
+	}
+
+	@Override
+	public O convert(DataFetchingEnvironment environment, I object)
+	{
+		return second.convert(environment, first.convert(environment, object));
+	}
+
+	@Override
+	public DataFetchingConversion<I, O> link(ConversionLinker linker)
+	{
+		DataFetchingConversion<I, Object> first = linker.link(this.first);
+		DataFetchingConversion<Object, O> second = linker.link(this.second);
+
+		if(first == this.first && second == this.second)
+		{
+			return this;
+		}
+
+		return new FusedConversion<>(first, second);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + "{first=" + first + ", second=" + second + "}";
+	}
+}
@@ -132,22 +132,30 @@ public class ResolvedGraphQLType<T extends GraphQLType>
 	 *
 	 * @param conversion
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public ResolvedGraphQLType<T> withInputConversion(DataFetchingConversion<?, ?> conversion)
 	{
+		if(conversion == IDENTITY)
+		{
+			return this;
+		}
+
 		return new ResolvedGraphQLType<>(
 			type,
-			this.conversion == IDENTITY ? conversion : this.conversion.and((DataFetchingConversion) conversion),
+			this.conversion == IDENTITY ? conversion : FusedConversion.fuse(this.conversion, conversion),
 			defaultValue
 		);
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public ResolvedGraphQLType<T> withOutputConversion(DataFetchingConversion<?, ?> conversion)
 	{
+		if(conversion == IDENTITY)
+		{
+			return this;
+		}
+
 		return new ResolvedGraphQLType<>(
 			type,
-			this.conversion == IDENTITY ? conversion : conversion.and((DataFetchingConversion) this.conversion),
+			this.conversion == IDENTITY ? conversion : FusedConversion.fuse(conversion, this.conversion),
 			defaultValue
 		);
 	}
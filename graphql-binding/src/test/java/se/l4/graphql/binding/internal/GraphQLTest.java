@@ -7,7 +7,6 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 
 import graphql.ExceptionWhileDataFetching;
-import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLContext;
@@ -17,13 +16,14 @@ import se.l4.graphql.binding.GraphQLBinder;
 
 public abstract class GraphQLTest
 {
+	protected GraphQLBinder binder;
 	protected GraphQLSchema schema;
 	protected GraphQL ql;
 
 	@BeforeEach
 	public void beforeTest()
 	{
-		GraphQLBinder binder = GraphQLBinder.newBinder();
+		binder = GraphQLBinder.newBinder();
 		setup(binder);
 		this.schema = binder.build();
 
@@ -35,7 +35,7 @@ public abstract class GraphQLTest
 
 	protected Result execute(String query)
 	{
-		ExecutionResult result = ql.execute(ExecutionInput.newExecutionInput(query)
+		ExecutionResult result = ql.execute(GraphQLBinder.newExecutionInput(query)
 			.context(GraphQLContext.newContext()
 				.of("test", "TestEnv")
 			)
@@ -47,7 +47,7 @@ public abstract class GraphQLTest
 
 	protected Result execute(String query, Map<String, Object> variables)
 	{
-		ExecutionResult result = ql.execute(ExecutionInput.newExecutionInput(query)
+		ExecutionResult result = ql.execute(GraphQLBinder.newExecutionInput(query)
 			.variables(variables)
 			.context(GraphQLContext.newContext()
 				.of("test", "TestEnv")
@@ -92,6 +92,11 @@ public abstract class GraphQLTest
 			}
 		}
 
+		public List<GraphQLError> getErrors()
+		{
+			return result.getErrors();
+		}
+
 		public <T> T getData()
 		{
 			return result.getData();
@@ -0,0 +1,185 @@
+package se.l4.graphql.binding.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLOutputType;
+import se.l4.graphql.binding.resolver.ResolvedGraphQLType;
+import se.l4.graphql.binding.resolver.output.GraphQLOutputEncounter;
+import se.l4.graphql.binding.resolver.output.GraphQLOutputResolver;
+import se.l4.ylem.types.reflect.TypeRef;
+import se.l4.ylem.types.reflect.Types;
+
+public class TypeResolverRegistryTest
+{
+	@Test
+	public void testOrderAcrossIndexedAndUnindexed()
+	{
+		TestResolver first = new TestResolver(t -> true);
+		TestResolver number = new TestResolver(t -> true, Number.class);
+		TestResolver last = new TestResolver(t -> true);
+		TestResolver integer = new TestResolver(t -> true, Integer.class);
+
+		TypeResolverRegistry registry = new TypeResolverRegistry();
+		registry.add(first);
+		registry.add(number);
+		registry.add(last);
+		registry.add(integer);
+
+		assertThat(registry.getOutputResolver(Types.reference(Integer.class)), is(List.of(first, number, last, integer)));
+		assertThat(registry.getOutputResolver(Types.reference(String.class)), is(List.of(first, last)));
+	}
+
+	@Test
+	public void testSupportsIsChecked()
+	{
+		TestResolver none = new TestResolver(t -> false, Integer.class);
+		TestResolver all = new TestResolver(t -> true, Integer.class);
+
+		TypeResolverRegistry registry = new TypeResolverRegistry();
+		registry.add(none);
+		registry.add(all);
+
+		assertThat(registry.getOutputResolver(Types.reference(Integer.class)), is(List.of(all)));
+	}
+
+	@Test
+	public void testPrimitiveFindsBoxed()
+	{
+		TestResolver boxed = new TestResolver(t -> true, Integer.class);
+
+		TypeResolverRegistry registry = new TypeResolverRegistry();
+		registry.add(boxed);
+
+		assertThat(registry.getOutputResolver(Types.reference(int.class)), is(List.of(boxed)));
+		assertThat(registry.getOutputResolver(Types.reference(Integer.class)), is(List.of(boxed)));
+	}
+
+	@Test
+	public void testBoxedFindsPrimitive()
+	{
+		TestResolver primitive = new TestResolver(t -> true, int.class);
+
+		TypeResolverRegistry registry = new TypeResolverRegistry();
+		registry.add(primitive);
+
+		assertThat(registry.getOutputResolver(Types.reference(Integer.class)), is(List.of(primitive)));
+		assertThat(registry.getOutputResolver(Types.reference(int.class)), is(List.of(primitive)));
+	}
+
+	@Test
+	public void testAnnotationIndexed()
+	{
+		TestResolver unindexed = new TestResolver(t -> true);
+		TestResolver annotated = new TestResolver(t -> true, Marker.class);
+
+		TypeResolverRegistry registry = new TypeResolverRegistry();
+		registry.add(annotated);
+		registry.add(unindexed);
+
+		assertThat(registry.getOutputResolver(Types.reference(Marked.class)), is(List.of(annotated, unindexed)));
+		assertThat(registry.getOutputResolver(Types.reference(Unmarked.class)), is(List.of(unindexed)));
+	}
+
+	@Test
+	public void testAddClearsUnresolvable()
+	{
+		TypeRef type = Types.reference(Unmarked.class);
+
+		TypeResolverRegistry registry = new TypeResolverRegistry();
+		assertThat(registry.getOutputResolver(type), is(List.of()));
+
+		registry.markUnresolvableOutput(type);
+		registry.markUnresolvableInput(type);
+		assertThat(registry.isUnresolvableOutput(type), is(true));
+		assertThat(registry.isUnresolvableInput(type), is(true));
+
+		TestResolver resolver = new TestResolver(t -> true, Unmarked.class);
+		registry.add(resolver);
+
+		assertThat(registry.isUnresolvableOutput(type), is(false));
+		assertThat(registry.getOutputResolver(type), is(List.of(resolver)));
+
+		// Only the index of the kind of resolver added is cleared
+		assertThat(registry.isUnresolvableInput(type), is(true));
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Marker
+	{
+	}
+
+	@Marker
+	public static class Marked
+	{
+	}
+
+	public static class Unmarked
+	{
+	}
+
+	private static class TestResolver
+		implements GraphQLOutputResolver, IndexedResolver
+	{
+		private final Predicate<TypeRef> supports;
+		private final Set<Class<?>> types;
+		private final Optional<Class<? extends Annotation>> annotation;
+
+		public TestResolver(Predicate<TypeRef> supports)
+		{
+			this.supports = supports;
+			this.types = Set.of();
+			this.annotation = Optional.empty();
+		}
+
+		public TestResolver(Predicate<TypeRef> supports, Class<?> type)
+		{
+			this.supports = supports;
+
+			if(type.isAnnotation())
+			{
+				this.types = Set.of();
+				this.annotation = Optional.of(type.asSubclass(Annotation.class));
+			}
+			else
+			{
+				this.types = Set.of(type);
+				this.annotation = Optional.empty();
+			}
+		}
+
+		@Override
+		public Set<Class<?>> getIndexedTypes()
+		{
+			return types;
+		}
+
+		@Override
+		public Optional<Class<? extends Annotation>> getIndexedAnnotation()
+		{
+			return annotation;
+		}
+
+		@Override
+		public boolean supportsOutput(TypeRef type)
+		{
+			return supports.test(type);
+		}
+
+		@Override
+		public ResolvedGraphQLType<? extends GraphQLOutputType> resolveOutput(GraphQLOutputEncounter encounter)
+		{
+			throw new UnsupportedOperationException();
+		}
+	}
+}
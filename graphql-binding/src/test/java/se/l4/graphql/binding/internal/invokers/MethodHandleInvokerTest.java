@@ -0,0 +1,106 @@
+package se.l4.graphql.binding.internal.invokers;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import se.l4.graphql.binding.GraphQLMappingException;
+
+public class MethodHandleInvokerTest
+{
+	private static final IllegalStateException FAILURE = new IllegalStateException("failure");
+	private static final AssertionError ERROR = new AssertionError("error");
+
+	@Test
+	public void testInvoke()
+		throws Exception
+	{
+		MethodInvoker invoker = create("join");
+		assertThat(invoker.invoke(new Target(), "a", 1), is("a1"));
+		assertThat(invoker.invokeWithArguments(new Target(), new Object[] { "b", 2 }), is("b2"));
+	}
+
+	@Test
+	public void testTargetExceptionIsWrapped()
+		throws Exception
+	{
+		MethodInvoker invoker = create("fail");
+
+		InvocationTargetException e = assertThrows(
+			InvocationTargetException.class,
+			() -> invoker.invoke(new Target())
+		);
+		assertThat(e.getCause(), sameInstance(FAILURE));
+	}
+
+	@Test
+	public void testErrorIsNotWrapped()
+		throws Exception
+	{
+		MethodInvoker invoker = create("error");
+
+		AssertionError e = assertThrows(
+			AssertionError.class,
+			() -> invoker.invoke(new Target())
+		);
+		assertThat(e, sameInstance(ERROR));
+	}
+
+	@Test
+	public void testInvalidArgumentIsMappingFailure()
+		throws Exception
+	{
+		MethodInvoker invoker = create("join");
+
+		GraphQLMappingException e = assertThrows(
+			GraphQLMappingException.class,
+			() -> invoker.invoke(new Target(), "a", "not a number")
+		);
+		assertThat(e.getCause(), instanceOf(ClassCastException.class));
+
+		assertThrows(
+			GraphQLMappingException.class,
+			() -> invoker.invoke(new Target(), "a", null)
+		);
+	}
+
+	private static MethodInvoker create(String name)
+		throws ReflectiveOperationException
+	{
+		for(Method method : Target.class.getMethods())
+		{
+			if(method.getName().equals(name))
+			{
+				return new MethodHandleInvoker(MethodHandles.lookup().unreflect(method));
+			}
+		}
+
+		throw new NoSuchMethodException(name);
+	}
+
+	public static class Target
+	{
+		public String join(String value, int count)
+		{
+			return value + count;
+		}
+
+		public void fail()
+		{
+			throw FAILURE;
+		}
+
+		public void error()
+		{
+			throw ERROR;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.GraphQLContext;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLConstructor;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLInputObject;
+import se.l4.graphql.binding.annotations.GraphQLMutable;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class ArgumentCacheTest
+	extends GraphQLTest
+{
+	private static final AtomicInteger FILTERS = new AtomicInteger();
+	private static final AtomicInteger MUTABLE_FILTERS = new AtomicInteger();
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder.withRoot(new Root());
+	}
+
+	@BeforeEach
+	public void reset()
+	{
+		FILTERS.set(0);
+		MUTABLE_FILTERS.set(0);
+	}
+
+	@Test
+	public void testConvertedOncePerExecution()
+	{
+		Result result = execute("{ items { matches(filter: { prefix: \"item\" }) } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("items", "9", "matches"), is(true));
+		assertThat(FILTERS.get(), is(1));
+
+		result = execute("{ items { matches(filter: { prefix: \"other\" }) } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("items", "9", "matches"), is(false));
+		assertThat(FILTERS.get(), is(2));
+	}
+
+	@Test
+	public void testDifferentFieldsConvertedSeparately()
+	{
+		Result result = execute("{ items { a: matches(filter: { prefix: \"item\" }), b: matches(filter: { prefix: \"other\" }) } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("items", "0", "a"), is(true));
+		assertThat(result.pick("items", "0", "b"), is(false));
+	}
+
+	@Test
+	public void testVariables()
+	{
+		Result result = execute(
+			"query($f: Filter) { items { matches(filter: $f) } }",
+			Map.of("f", Map.of("prefix", "item"))
+		);
+		result.assertNoErrors();
+		assertThat(result.pick("items", "0", "matches"), is(true));
+
+		result = execute(
+			"query($f: Filter) { items { matches(filter: $f) } }",
+			Map.of("f", Map.of("prefix", "other"))
+		);
+		result.assertNoErrors();
+		assertThat(result.pick("items", "0", "matches"), is(false));
+	}
+
+	@Test
+	public void testMutableConvertedEveryTime()
+	{
+		Result result = execute("{ items { matchesMutable(filter: { prefix: \"item\" }) } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("items", "9", "matchesMutable"), is(true));
+		assertThat(MUTABLE_FILTERS.get(), is(10));
+	}
+
+	@Test
+	public void testFieldInjectedConvertedEveryTime()
+	{
+		Result result = execute("{ items { prefixed(filter: { prefix: \"a-\" }) } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("items", "0", "prefixed"), is("a-item0"));
+		assertThat(result.pick("items", "9", "prefixed"), is("a-item9"));
+	}
+
+	@Test
+	public void testListConvertedEveryTime()
+	{
+		Result result = execute("{ items { countAfterRemove(filters: [ { prefix: \"a\" }, { prefix: \"b\" } ]) } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("items", "0", "countAfterRemove"), is(1));
+		assertThat(result.pick("items", "9", "countAfterRemove"), is(1));
+	}
+
+	@Test
+	public void testCacheKeptInExecutionContext()
+	{
+		GraphQLContext context = GraphQLContext.newContext().build();
+		Result result = new Result(ql.execute(ExecutionInput.newExecutionInput("{ items { matches(filter: { prefix: \"item\" }) } }")
+			.context(context)
+			.build()
+		));
+		result.assertNoErrors();
+
+		assertThat(FILTERS.get(), is(1));
+		assertThat(context.stream().count(), is(1L));
+	}
+
+	@Test
+	public void testCustomContextConvertedEveryTime()
+	{
+		Result result = new Result(ql.execute(ExecutionInput.newExecutionInput("{ items { matches(filter: { prefix: \"item\" }) } }")
+			.context(new Object())
+			.build()
+		));
+		result.assertNoErrors();
+
+		assertThat(result.pick("items", "9", "matches"), is(true));
+		assertThat(FILTERS.get(), is(10));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public List<Item> items()
+		{
+			List<Item> result = new ArrayList<>();
+			for(int i=0; i<10; i++)
+			{
+				result.add(new Item("item" + i));
+			}
+			return result;
+		}
+	}
+
+	@GraphQLObject
+	public class Item
+	{
+		private final String id;
+
+		public Item(String id)
+		{
+			this.id = id;
+		}
+
+		@GraphQLField
+		public boolean matches(
+			@GraphQLName("filter") Filter filter
+		)
+		{
+			return id.startsWith(filter.prefix);
+		}
+
+		@GraphQLField
+		public boolean matchesMutable(
+			@GraphQLName("filter") MutableFilter filter
+		)
+		{
+			return id.startsWith(filter.prefix);
+		}
+
+		@GraphQLField
+		public String prefixed(
+			@GraphQLName("filter") InjectedFilter filter
+		)
+		{
+			String result = filter.prefix + id;
+			filter.prefix = "modified-";
+			return result;
+		}
+
+		@GraphQLField
+		public int countAfterRemove(
+			@GraphQLName("filters") List<Filter> filters
+		)
+		{
+			filters.remove(0);
+			return filters.size();
+		}
+	}
+
+	@GraphQLInputObject
+	public static class Filter
+	{
+		private final String prefix;
+
+		@GraphQLConstructor
+		public Filter(@GraphQLName("prefix") String prefix)
+		{
+			this.prefix = prefix;
+			FILTERS.incrementAndGet();
+		}
+	}
+
+	@GraphQLInputObject
+	@GraphQLMutable
+	public static class MutableFilter
+	{
+		private final String prefix;
+
+		@GraphQLConstructor
+		public MutableFilter(@GraphQLName("prefix") String prefix)
+		{
+			this.prefix = prefix;
+			MUTABLE_FILTERS.incrementAndGet();
+		}
+	}
+
+	@GraphQLInputObject
+	public static class InjectedFilter
+	{
+		@GraphQLField
+		public String prefix;
+	}
+}
@@ -0,0 +1,219 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.GraphQL;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.annotations.GraphQLAsync;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class AsyncTest
+	extends GraphQLTest
+{
+	private ExecutorService executorService;
+	private AtomicInteger executed;
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		executorService = Executors.newFixedThreadPool(4);
+		executed = new AtomicInteger();
+
+		Executor executor = command -> {
+			executed.incrementAndGet();
+			executorService.execute(command);
+		};
+
+		binder.withRoot(new Root())
+			.setExecutor(executor);
+	}
+
+	@AfterEach
+	public void shutdown()
+	{
+		executorService.shutdown();
+	}
+
+	@Test
+	public void testSiblingsRunConcurrently()
+	{
+		Result result = execute("{ item { a, b } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("item", "a"), is(true));
+		assertThat(result.pick("item", "b"), is(true));
+		assertThat(executed.get(), is(2));
+	}
+
+	@Test
+	public void testOptOutRunsInline()
+	{
+		Result result = execute("{ item { inline } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("item", "inline"), is("inline"));
+		assertThat(executed.get(), is(0));
+	}
+
+	@Test
+	public void testTrivialRunsInline()
+	{
+		Result result = execute("{ item { id, name } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("item", "id"), is("1"));
+		assertThat(result.pick("item", "name"), is("test"));
+		assertThat(executed.get(), is(0));
+	}
+
+	@Test
+	public void testAnnotatedMethod()
+	{
+		Result result = execute("{ rootAsync, rootInline }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("rootAsync"), is("async"));
+		assertThat(result.pick("rootInline"), is("inline"));
+		assertThat(executed.get(), is(1));
+	}
+
+	@Test
+	public void testInheritedMethodUsesSubclass()
+	{
+		Result result = execute("{ sub { inherited(value: \"a\") } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("sub", "inherited"), is("a"));
+		assertThat(executed.get(), is(1));
+	}
+
+	@Test
+	public void testAsyncByDefault()
+	{
+		GraphQLBinder binder = GraphQLBinder.newBinder()
+			.withRoot(new Root())
+			.setExecutor(command -> {
+				executed.incrementAndGet();
+				command.run();
+			})
+			.setAsyncByDefault(true);
+
+		this.schema = binder.build();
+		this.ql = GraphQL.newGraphQL(schema).build();
+
+		Result result = execute("{ rootAsync, rootInline }");
+		result.assertNoErrors();
+
+		assertThat(executed.get(), is(2));
+	}
+
+	@Test
+	public void testMissingExecutor()
+	{
+		GraphQLBinder binder = GraphQLBinder.newBinder()
+			.withRoot(new Root());
+
+		assertThrows(GraphQLMappingException.class, binder::build);
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public Item item()
+		{
+			return new Item();
+		}
+
+		@GraphQLField
+		public AsyncSub sub()
+		{
+			return new AsyncSub();
+		}
+
+		@GraphQLField
+		@GraphQLAsync
+		public String rootAsync()
+		{
+			return "async";
+		}
+
+		@GraphQLField
+		public String rootInline()
+		{
+			return "inline";
+		}
+	}
+
+	@GraphQLObject
+	@GraphQLName("AsyncItem")
+	@GraphQLAsync
+	public class Item
+	{
+		private final CountDownLatch latch = new CountDownLatch(2);
+
+		@GraphQLField
+		public final String id = "1";
+
+		@GraphQLField
+		@GraphQLName("name")
+		public String getName()
+		{
+			return "test";
+		}
+
+		@GraphQLField
+		public boolean a()
+			throws InterruptedException
+		{
+			latch.countDown();
+			return latch.await(5, TimeUnit.SECONDS);
+		}
+
+		@GraphQLField
+		public boolean b()
+			throws InterruptedException
+		{
+			latch.countDown();
+			return latch.await(5, TimeUnit.SECONDS);
+		}
+
+		@GraphQLField
+		@GraphQLAsync(false)
+		public String inline()
+		{
+			return "inline";
+		}
+	}
+
+	public class Base
+	{
+		@GraphQLField
+		public String inherited(@GraphQLName("value") String value)
+		{
+			return value;
+		}
+	}
+
+	@GraphQLObject
+	@GraphQLAsync
+	public class AsyncSub
+		extends Base
+	{
+	}
+}
@@ -0,0 +1,296 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import graphql.ExecutionResult;
+import io.reactivex.processors.PublishProcessor;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLBackpressure;
+import se.l4.graphql.binding.annotations.GraphQLBackpressure.Overflow;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLSubscription;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class BackpressureTest
+	extends GraphQLTest
+{
+	private Root root;
+	private ExecutorService executor;
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		root = new Root();
+		executor = Executors.newFixedThreadPool(4);
+
+		binder.withRoot(root)
+			.setExecutor(executor);
+	}
+
+	@AfterEach
+	public void shutdown()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testDropOldest()
+	{
+		Collector c = subscribe("subscription { dropOldest }", "dropOldest", 0);
+
+		emit(1, 2, 3, 4);
+		assertThat(binder.getSubscriptionStats().getLaggingSubscribers(), is(1));
+
+		c.subscription.request(10);
+
+		assertThat(c.values, is(List.of(3, 4)));
+		assertThat(binder.getSubscriptionStats().getDroppedEvents(), is(2l));
+		assertThat(binder.getSubscriptionStats().getLaggingSubscribers(), is(0));
+	}
+
+	@Test
+	public void testDropLatest()
+	{
+		Collector c = subscribe("subscription { dropLatest }", "dropLatest", 0);
+
+		emit(1, 2, 3, 4);
+		c.subscription.request(10);
+
+		assertThat(c.values, is(List.of(1, 2)));
+		assertThat(binder.getSubscriptionStats().getDroppedEvents(), is(2l));
+	}
+
+	@Test
+	public void testConflate()
+	{
+		Collector c = subscribe("subscription { conflate }", "conflate", 0);
+
+		emit(1, 2, 3, 4);
+		c.subscription.request(10);
+
+		assertThat(c.values, is(List.of(3, 4)));
+	}
+
+	@Test
+	public void testConflateNullKey()
+	{
+		Collector c = subscribe("subscription { conflateNullable }", "conflateNullable", 0);
+
+		emit(1, 3, 2);
+		c.subscription.request(10);
+
+		assertThat(c.values, is(List.of(3, 2)));
+	}
+
+	@Test
+	public void testRejectedConversionFailsSubscriber()
+	{
+		Collector c = subscribe("subscription { async }", "async", Long.MAX_VALUE);
+
+		executor.shutdown();
+		emit(1);
+
+		assertThat(c.error, instanceOf(RejectedExecutionException.class));
+		assertThat(root.processor.hasSubscribers(), is(false));
+	}
+
+	@Test
+	public void testCancel()
+	{
+		Collector c = subscribe("subscription { cancel }", "cancel", 0);
+
+		emit(1, 2);
+
+		assertThat(c.error, instanceOf(IllegalStateException.class));
+		assertThat(root.processor.hasSubscribers(), is(false));
+		assertThat(binder.getSubscriptionStats().getCancelledSubscribers(), is(1l));
+	}
+
+	@Test
+	public void testWithinDemand()
+	{
+		Collector c = subscribe("subscription { dropOldest }", "dropOldest", 10);
+
+		emit(1, 2, 3, 4);
+
+		assertThat(c.values, is(List.of(1, 2, 3, 4)));
+		assertThat(binder.getSubscriptionStats().getDroppedEvents(), is(0l));
+	}
+
+	@Test
+	public void testConvertAsyncKeepsOrder()
+		throws InterruptedException
+	{
+		Collector c = subscribe("subscription { async }", "async", Long.MAX_VALUE);
+
+		List<Integer> expected = new ArrayList<>();
+		for(int i=0; i<100; i++)
+		{
+			expected.add(i);
+			root.processor.onNext(i);
+		}
+		root.processor.onComplete();
+
+		assertThat(c.completed.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(c.values, is(expected));
+	}
+
+	private void emit(int... values)
+	{
+		for(int v : values)
+		{
+			root.processor.onNext(v);
+		}
+	}
+
+	private Collector subscribe(String query, String field, long initialRequest)
+	{
+		Result result = execute(query);
+		result.assertNoErrors();
+
+		Publisher<ExecutionResult> publisher = result.getData();
+		Collector collector = new Collector(field, initialRequest);
+		publisher.subscribe(collector);
+		return collector;
+	}
+
+	private static class Collector
+		implements Subscriber<ExecutionResult>
+	{
+		private final String field;
+		private final long initialRequest;
+
+		private final List<Object> values = new CopyOnWriteArrayList<>();
+		private final CountDownLatch completed = new CountDownLatch(1);
+
+		private Subscription subscription;
+		private volatile Throwable error;
+
+		public Collector(String field, long initialRequest)
+		{
+			this.field = field;
+			this.initialRequest = initialRequest;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s)
+		{
+			this.subscription = s;
+			if(initialRequest > 0)
+			{
+				s.request(initialRequest);
+			}
+		}
+
+		@Override
+		public void onNext(ExecutionResult result)
+		{
+			Map<String, Object> data = result.getData();
+			values.add(data.get(field));
+		}
+
+		@Override
+		public void onError(Throwable t)
+		{
+			error = t;
+		}
+
+		@Override
+		public void onComplete()
+		{
+			completed.countDown();
+		}
+	}
+
+	public static class Parity
+		implements Function<Object, Object>
+	{
+		@Override
+		public Object apply(Object t)
+		{
+			return ((Integer) t) % 2;
+		}
+	}
+
+	public static class NullForOdd
+		implements Function<Object, Object>
+	{
+		@Override
+		public Object apply(Object t)
+		{
+			return ((Integer) t) % 2 == 0 ? t : null;
+		}
+	}
+
+	public class Root
+	{
+		private final PublishProcessor<Integer> processor = PublishProcessor.create();
+
+		@GraphQLField
+		public String none()
+		{
+			return null;
+		}
+
+		@GraphQLSubscription
+		@GraphQLBackpressure(bufferSize = 2, overflow = Overflow.DROP_OLDEST)
+		public Publisher<Integer> dropOldest()
+		{
+			return processor;
+		}
+
+		@GraphQLSubscription
+		@GraphQLBackpressure(bufferSize = 2, overflow = Overflow.DROP_LATEST)
+		public Publisher<Integer> dropLatest()
+		{
+			return processor;
+		}
+
+		@GraphQLSubscription
+		@GraphQLBackpressure(overflow = Overflow.CONFLATE, conflateBy = Parity.class)
+		public Publisher<Integer> conflate()
+		{
+			return processor;
+		}
+
+		@GraphQLSubscription
+		@GraphQLBackpressure(overflow = Overflow.CONFLATE, conflateBy = NullForOdd.class)
+		public Publisher<Integer> conflateNullable()
+		{
+			return processor;
+		}
+
+		@GraphQLSubscription
+		@GraphQLBackpressure(bufferSize = 1, overflow = Overflow.CANCEL)
+		public Publisher<Integer> cancel()
+		{
+			return processor;
+		}
+
+		@GraphQLSubscription
+		@GraphQLBackpressure(bufferSize = 1000, convertAsync = true)
+		public Publisher<Integer> async()
+		{
+			return processor;
+		}
+	}
+}
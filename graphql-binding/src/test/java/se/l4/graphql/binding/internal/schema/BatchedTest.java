@@ -0,0 +1,172 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLBatched;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLMixinField;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class BatchedTest
+	extends GraphQLTest
+{
+	private static final AtomicInteger staticCalls = new AtomicInteger();
+
+	private Root root;
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		staticCalls.set(0);
+		root = new Root();
+
+		binder.withRoot(root);
+	}
+
+	@Test
+	public void testStaticList()
+	{
+		Result result = execute("{ books { title, upper } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("books", "0", "upper"), is("A"));
+		assertThat(result.pick("books", "1", "upper"), is("B"));
+		assertThat(result.pick("books", "2", "upper"), is("C"));
+
+		assertThat(staticCalls.get(), is(1));
+	}
+
+	@Test
+	public void testMixinMap()
+	{
+		Result result = execute("{ books { title, author { name } } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("books", "0", "author", "name"), is("Author of a"));
+		assertThat(result.pick("books", "1", "author", "name"), is("Author of b"));
+		assertThat(result.pick("books", "2", "author", "name"), is("Author of c"));
+
+		assertThat(root.authorCalls.get(), is(1));
+		assertThat(root.lastAuthorBatch, is(3));
+	}
+
+	@Test
+	public void testMixinAsync()
+	{
+		Result result = execute("{ books { length } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("books", "0", "length"), is(1));
+		assertThat(result.pick("books", "2", "length"), is(1));
+
+		assertThat(root.lengthCalls.get(), is(1));
+	}
+
+	@Test
+	public void testMissingRegistry()
+	{
+		ExecutionResult result = ql.execute(ExecutionInput.newExecutionInput("{ books { upper } }"));
+		assertThat(result.getErrors().isEmpty(), is(false));
+	}
+
+	public class Root
+	{
+		private final AtomicInteger authorCalls = new AtomicInteger();
+		private final AtomicInteger lengthCalls = new AtomicInteger();
+		private volatile int lastAuthorBatch;
+
+		@GraphQLField
+		public List<Book> books()
+		{
+			return List.of(new Book("a"), new Book("b"), new Book("c"));
+		}
+
+		@GraphQLMixinField
+		@GraphQLBatched
+		public Map<Book, Author> author(@GraphQLSource Set<Book> books)
+		{
+			authorCalls.incrementAndGet();
+			lastAuthorBatch = books.size();
+
+			Map<Book, Author> result = new HashMap<>();
+			for(Book book : books)
+			{
+				result.put(book, new Author("Author of " + book.title));
+			}
+			return result;
+		}
+
+		@GraphQLMixinField
+		@GraphQLBatched
+		@GraphQLName("length")
+		public CompletionStage<List<Integer>> titleLength(@GraphQLSource List<Book> books)
+		{
+			lengthCalls.incrementAndGet();
+
+			return CompletableFuture.supplyAsync(() -> {
+				List<Integer> result = new ArrayList<>();
+				for(Book book : books)
+				{
+					result.add(book.title.length());
+				}
+				return result;
+			});
+		}
+	}
+
+	@GraphQLObject
+	public static class Book
+	{
+		@GraphQLField
+		public final String title;
+
+		public Book(String title)
+		{
+			this.title = title;
+		}
+
+		@GraphQLField
+		@GraphQLBatched
+		public static List<String> upper(@GraphQLSource List<Book> books)
+		{
+			staticCalls.incrementAndGet();
+
+			List<String> result = new ArrayList<>();
+			for(Book book : books)
+			{
+				result.add(book.title.toUpperCase());
+			}
+			return result;
+		}
+	}
+
+	@GraphQLObject
+	public static class Author
+	{
+		@GraphQLField
+		public final String name;
+
+		public Author(String name)
+		{
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.GraphQLBinderSnapshot;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLInterface;
+import se.l4.graphql.binding.annotations.GraphQLMutation;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class BinderSnapshotTest
+	extends GraphQLTest
+{
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder
+			.withRoot(new RootA())
+			.withRoot(new RootB())
+			.withType(Named.class)
+			.withType(Item.class)
+			.withType(Extra.class);
+	}
+
+	@Test
+	public void testBuildIsRepeatable()
+	{
+		SchemaPrinter printer = new SchemaPrinter();
+		assertThat(printer.print(binder.build()), is(printer.print(schema)));
+		assertThat(printer.print(binder.buildSnapshot().build()), is(printer.print(schema)));
+	}
+
+	@Test
+	public void testVariantWithRoot()
+	{
+		GraphQLSchema variant = binder.buildSnapshot()
+			.newVariant()
+			.withRoot(RootA.class)
+			.build();
+
+		assertThat(variant.getQueryType().getFieldDefinition("a"), notNullValue());
+		assertThat(variant.getQueryType().getFieldDefinition("b"), nullValue());
+		assertThat(variant.getMutationType(), nullValue());
+		assertThat(variant.getType("Extra"), nullValue());
+
+		// Implementations of used interfaces are always included
+		assertThat(variant.getType("Item"), notNullValue());
+
+		ql = GraphQL.newGraphQL(variant).build();
+		Result result = execute("{ a { name } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("a", "name"), is("item"));
+	}
+
+	@Test
+	public void testVariantWithType()
+	{
+		GraphQLSchema variant = binder.buildSnapshot()
+			.newVariant()
+			.withRoot(RootB.class)
+			.withType(Extra.class)
+			.build();
+
+		assertThat(variant.getQueryType().getFieldDefinition("b"), notNullValue());
+		assertThat(variant.getMutationType().getFieldDefinition("setB"), notNullValue());
+		assertThat(variant.getType("Extra"), notNullValue());
+		assertThat(variant.getType("Named"), nullValue());
+
+		ql = GraphQL.newGraphQL(variant).build();
+		Result result = execute("mutation { setB }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("setB"), is(true));
+	}
+
+	@Test
+	public void testVariantsInParallel()
+	{
+		GraphQLBinderSnapshot snapshot = binder.buildSnapshot();
+		SchemaPrinter printer = new SchemaPrinter();
+
+		Set<String> printed = IntStream.range(0, 32)
+			.parallel()
+			.mapToObj(i -> snapshot.newVariant()
+				.withRoot(i % 2 == 0 ? RootA.class : RootB.class)
+				.build()
+			)
+			.map(printer::print)
+			.collect(Collectors.toSet());
+
+		assertThat(printed.size(), is(2));
+	}
+
+	@Test
+	public void testVariantWithoutQueryFails()
+	{
+		GraphQLBinderSnapshot snapshot = binder.buildSnapshot();
+
+		assertThrows(GraphQLMappingException.class, () -> snapshot.newVariant().build());
+		assertThrows(GraphQLMappingException.class, () -> snapshot.newVariant().withRoot(String.class));
+	}
+
+	public class RootA
+	{
+		@GraphQLField
+		public Named a()
+		{
+			return new Item();
+		}
+	}
+
+	public class RootB
+	{
+		@GraphQLField
+		public List<String> b()
+		{
+			return List.of("b");
+		}
+
+		@GraphQLMutation
+		public boolean setB()
+		{
+			return true;
+		}
+	}
+
+	@GraphQLInterface
+	public interface Named
+	{
+		@GraphQLField
+		String name();
+	}
+
+	@GraphQLObject
+	public static class Item
+		implements Named
+	{
+		@Override
+		@GraphQLField
+		public String name()
+		{
+			return "item";
+		}
+	}
+
+	@GraphQLObject
+	public static class Extra
+	{
+		@GraphQLField
+		public String value()
+		{
+			return "extra";
+		}
+	}
+}
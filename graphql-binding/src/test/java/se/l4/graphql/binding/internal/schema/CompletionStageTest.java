@@ -0,0 +1,181 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.Scalars;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLFactory;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLMutation;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.internal.GraphQLMatchers;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class CompletionStageTest
+	extends GraphQLTest
+{
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder.withRoot(new Root())
+			.withType(GraphQLOverData.class);
+	}
+
+	@Test
+	public void testSchema()
+	{
+		GraphQLObjectType type = schema.getQueryType();
+
+		GraphQLFieldDefinition stringDef = type.getFieldDefinition("string");
+		assertThat(stringDef.getType(), GraphQLMatchers.isSameType(Scalars.GraphQLString));
+	}
+
+	@Test
+	public void testString()
+	{
+		Result result = execute("{ string }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("string"), is("test"));
+	}
+
+	@Test
+	public void testConverted()
+	{
+		Result result = execute("{ converted { id } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("converted", "id"), is("data"));
+	}
+
+	@Test
+	public void testOptional()
+	{
+		Result result = execute("{ optional }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("optional"), is("value"));
+	}
+
+	@Test
+	public void testList()
+	{
+		Result result = execute("{ list { id } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("list", "0", "id"), is("v0"));
+		assertThat(result.pick("list", "1", "id"), is("v1"));
+	}
+
+	@Test
+	public void testNull()
+	{
+		Result result = execute("{ nullStage { id } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("nullStage"), is((Object) null));
+	}
+
+	@Test
+	public void testFailed()
+	{
+		Result result = execute("{ failed }");
+		assertThat(result.getErrors().size(), is(1));
+	}
+
+	@Test
+	public void testMutation()
+	{
+		Result result = execute("mutation { create(id: \"new\") { id } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("create", "id"), is("new"));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public CompletionStage<String> string()
+		{
+			return CompletableFuture.supplyAsync(() -> "test");
+		}
+
+		@GraphQLField
+		public CompletableFuture<Data> converted()
+		{
+			return CompletableFuture.supplyAsync(() -> new Data("data"));
+		}
+
+		@GraphQLField
+		public CompletableFuture<Optional<String>> optional()
+		{
+			return CompletableFuture.completedFuture(Optional.of("value"));
+		}
+
+		@GraphQLField
+		public CompletableFuture<List<Data>> list()
+		{
+			return CompletableFuture.supplyAsync(() -> List.of(new Data("v0"), new Data("v1")));
+		}
+
+		@GraphQLField
+		public CompletableFuture<Data> nullStage()
+		{
+			return null;
+		}
+
+		@GraphQLField
+		public CompletableFuture<String> failed()
+		{
+			return CompletableFuture.failedFuture(new RuntimeException("failed"));
+		}
+
+		@GraphQLMutation
+		public CompletableFuture<Data> create(
+			@GraphQLName("id") String id
+		)
+		{
+			return CompletableFuture.supplyAsync(() -> new Data(id));
+		}
+	}
+
+	public static class Data
+	{
+		private final String id;
+
+		public Data(String id)
+		{
+			this.id = id;
+		}
+	}
+
+	@GraphQLObject
+	public static class GraphQLOverData
+	{
+		private final Data data;
+
+		@GraphQLFactory
+		public GraphQLOverData(@GraphQLSource Data data)
+		{
+			this.data = data;
+		}
+
+		@GraphQLField
+		public String id()
+		{
+			return data.id;
+		}
+	}
+}
@@ -0,0 +1,239 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.SetIterable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLFactory;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.annotations.GraphQLRoot;
+import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.internal.GraphQLTest;
+import se.l4.ylem.types.discovery.TypeDiscovery;
+
+public class DiscoveryCacheTest
+	extends GraphQLTest
+{
+	private Path dir;
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder
+			.withRoot(new Root())
+			.withType(Converted.class);
+	}
+
+	@BeforeEach
+	public void createDir()
+		throws IOException
+	{
+		dir = Files.createTempDirectory("discovery");
+	}
+
+	@AfterEach
+	public void deleteDir()
+		throws IOException
+	{
+		try(Stream<Path> files = Files.list(dir))
+		{
+			for(Path file : (Iterable<Path>) files::iterator)
+			{
+				Files.delete(file);
+			}
+		}
+
+		Files.delete(dir);
+	}
+
+	@Test
+	public void testCacheReplacesDiscovery()
+	{
+		Path file = dir.resolve("discovery.cache");
+
+		CountingDiscovery first = new CountingDiscovery();
+		GraphQLSchema schema1 = GraphQLBinder.newBinder()
+			.setTypeDiscovery(first)
+			.setDiscoveryCacheFile(file)
+			.build();
+
+		assertThat(first.calls.get() > 0, is(true));
+		assertThat(Files.exists(file), is(true));
+
+		CountingDiscovery second = new CountingDiscovery();
+		GraphQLSchema schema2 = GraphQLBinder.newBinder()
+			.setTypeDiscovery(second)
+			.setDiscoveryCacheFile(file)
+			.build();
+
+		assertThat(second.calls.get(), is(0));
+
+		SchemaPrinter printer = new SchemaPrinter();
+		assertThat(printer.print(schema2), is(printer.print(schema1)));
+	}
+
+	@Test
+	public void testInvalidCacheIsReplaced()
+		throws IOException
+	{
+		Path file = dir.resolve("discovery.cache");
+		Files.write(file, new byte[] { 1, 2, 3 });
+
+		CountingDiscovery discovery = new CountingDiscovery();
+		GraphQLBinder.newBinder()
+			.setTypeDiscovery(discovery)
+			.setDiscoveryCacheFile(file)
+			.build();
+
+		assertThat(discovery.calls.get() > 0, is(true));
+		assertThat(Files.size(file) > 3, is(true));
+	}
+
+	@Test
+	public void testNewFileInClassPathDirectoryInvalidates()
+		throws IOException
+	{
+		Path file = dir.resolve("discovery.cache");
+
+		GraphQLBinder.newBinder()
+			.setTypeDiscovery(new CountingDiscovery())
+			.setDiscoveryCacheFile(file)
+			.build();
+
+		Path added = Files.createTempFile(findClassPathDirectory(), "discovery", ".class");
+		try
+		{
+			CountingDiscovery discovery = new CountingDiscovery();
+			GraphQLBinder.newBinder()
+				.setTypeDiscovery(discovery)
+				.setDiscoveryCacheFile(file)
+				.build();
+
+			assertThat(discovery.calls.get() > 0, is(true));
+		}
+		finally
+		{
+			Files.delete(added);
+		}
+	}
+
+	private static Path findClassPathDirectory()
+	{
+		String path = System.getProperty("jdk.module.path", "")
+			+ File.pathSeparator
+			+ System.getProperty("java.class.path", "");
+
+		for(String entry : path.split(File.pathSeparator))
+		{
+			if(! entry.isEmpty() && Files.isDirectory(Paths.get(entry)))
+			{
+				return Paths.get(entry);
+			}
+		}
+
+		throw new AssertionError("No directory on the class path");
+	}
+
+	@GraphQLRoot
+	public static class Root
+	{
+		@GraphQLField
+		public Source source()
+		{
+			return new Source();
+		}
+	}
+
+	public static class Source
+	{
+	}
+
+	@GraphQLObject
+	public static class Converted
+	{
+		@GraphQLFactory
+		public Converted(@GraphQLSource Source source)
+		{
+		}
+
+		@GraphQLField
+		public String name()
+		{
+			return "converted";
+		}
+	}
+
+	@GraphQLObject
+	public static class Plain
+	{
+		@GraphQLField
+		public String name()
+		{
+			return "plain";
+		}
+	}
+
+	private static class CountingDiscovery
+		implements TypeDiscovery
+	{
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public SetIterable<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation)
+		{
+			calls.incrementAndGet();
+
+			if(annotation == GraphQLObject.class)
+			{
+				return Sets.immutable.of(Converted.class, Plain.class);
+			}
+
+			return Sets.immutable.empty();
+		}
+
+		@Override
+		public SetIterable<? extends Object> getTypesAnnotatedWithAsInstances(Class<? extends Annotation> annotation)
+		{
+			calls.incrementAndGet();
+
+			if(annotation == GraphQLRoot.class)
+			{
+				return Sets.immutable.of(new Root());
+			}
+
+			return Sets.immutable.empty();
+		}
+
+		@Override
+		public <T> SetIterable<Class<? extends T>> getSubTypesOf(Class<T> type)
+		{
+			calls.incrementAndGet();
+			return Sets.immutable.empty();
+		}
+
+		@Override
+		public <T> SetIterable<? extends T> getSubTypesAsInstances(Class<T> type)
+		{
+			calls.incrementAndGet();
+			return Sets.immutable.empty();
+		}
+	}
+}
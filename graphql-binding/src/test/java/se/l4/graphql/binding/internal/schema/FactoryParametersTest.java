@@ -0,0 +1,164 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.DataFetchingEnvironment;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLEnvironment;
+import se.l4.graphql.binding.annotations.GraphQLFactory;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class FactoryParametersTest
+	extends GraphQLTest
+{
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder.withRoot(new Root())
+			.withType(GraphQLOverTypeA.class)
+			.withType(GraphQLOverTypeB.class);
+	}
+
+	@Test
+	public void testConstructorWithSourceLast()
+	{
+		Result result = execute("{ a { id, field } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("a", "id"), is("a"));
+		assertThat(result.pick("a", "field"), is("a"));
+	}
+
+	@Test
+	public void testMethodWithSourceLast()
+	{
+		Result result = execute("{ b { id, field } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("b", "id"), is("b"));
+		assertThat(result.pick("b", "field"), is("b"));
+	}
+
+	@Test
+	public void testList()
+	{
+		Result result = execute("{ list { id } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("list", "0", "id"), is("1"));
+		assertThat(result.pick("list", "1", "id"), is("2"));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public TypeA a()
+		{
+			return new TypeA("a");
+		}
+
+		@GraphQLField
+		public TypeB b()
+		{
+			return new TypeB("b");
+		}
+
+		@GraphQLField
+		public List<TypeA> list()
+		{
+			return List.of(new TypeA("1"), new TypeA("2"));
+		}
+	}
+
+	public static class TypeA
+	{
+		private final String id;
+
+		public TypeA(String id)
+		{
+			this.id = id;
+		}
+	}
+
+	public static class TypeB
+	{
+		private final String id;
+
+		public TypeB(String id)
+		{
+			this.id = id;
+		}
+	}
+
+	@GraphQLObject
+	public static class GraphQLOverTypeA
+	{
+		private final String id;
+		private final String field;
+
+		@GraphQLFactory
+		public GraphQLOverTypeA(
+			@GraphQLEnvironment DataFetchingEnvironment env,
+			@GraphQLSource TypeA data
+		)
+		{
+			this.id = data.id;
+			this.field = env.getField().getName();
+		}
+
+		@GraphQLField
+		public String id()
+		{
+			return id;
+		}
+
+		@GraphQLField
+		public String field()
+		{
+			return field;
+		}
+	}
+
+	@GraphQLObject
+	public static class GraphQLOverTypeB
+	{
+		private final String id;
+		private final String field;
+
+		private GraphQLOverTypeB(String id, String field)
+		{
+			this.id = id;
+			this.field = field;
+		}
+
+		@GraphQLField
+		public String id()
+		{
+			return id;
+		}
+
+		@GraphQLField
+		public String field()
+		{
+			return field;
+		}
+
+		@GraphQLFactory
+		public static GraphQLOverTypeB create(
+			@GraphQLEnvironment DataFetchingEnvironment env,
+			@GraphQLSource TypeB data
+		)
+		{
+			return new GraphQLOverTypeB(data.id, env.getField().getName());
+		}
+	}
+}
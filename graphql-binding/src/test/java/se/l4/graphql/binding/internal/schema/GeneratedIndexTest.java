@@ -0,0 +1,146 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.annotations.GraphQLRoot;
+import se.l4.graphql.binding.internal.DiscoveredTypes;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class GeneratedIndexTest
+	extends GraphQLTest
+{
+	private Path dir;
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder.withRoot(new Root());
+	}
+
+	@BeforeEach
+	public void createDir()
+		throws IOException
+	{
+		dir = Files.createTempDirectory("index");
+	}
+
+	@AfterEach
+	public void deleteDir()
+		throws IOException
+	{
+		try(Stream<Path> files = Files.walk(dir))
+		{
+			for(Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator)
+			{
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void testTypesFromIndex()
+		throws IOException
+	{
+		writeIndex(
+			"# Written by graphql-binding-processor",
+			GraphQLRoot.class.getName() + " " + Root.class.getName(),
+			GraphQLObject.class.getName() + " " + Plain.class.getName()
+		);
+
+		GraphQLSchema schema = withIndex(() -> GraphQLBinder.newBinder()
+			.setUseGeneratedIndex(true)
+			.build()
+		);
+
+		assertThat(schema.getQueryType().getFieldDefinition("name"), notNullValue());
+		assertThat(schema.getObjectType("Plain"), notNullValue());
+	}
+
+	@Test
+	public void testMissingTypeInIndex()
+		throws IOException
+	{
+		writeIndex(GraphQLObject.class.getName() + " sample.DoesNotExist");
+
+		assertThrows(GraphQLMappingException.class, () -> withIndex(() -> GraphQLBinder.newBinder()
+			.withRoot(new Root())
+			.setUseGeneratedIndex(true)
+			.build()
+		));
+	}
+
+	@Test
+	public void testQuery()
+	{
+		Result result = execute("{ name }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("name"), is("root"));
+	}
+
+	private void writeIndex(String... lines)
+		throws IOException
+	{
+		Path file = dir.resolve(DiscoveredTypes.INDEX);
+		Files.createDirectories(file.getParent());
+		Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private <T> T withIndex(Supplier<T> supplier)
+		throws IOException
+	{
+		Thread thread = Thread.currentThread();
+		ClassLoader current = thread.getContextClassLoader();
+		try(URLClassLoader loader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, getClass().getClassLoader()))
+		{
+			thread.setContextClassLoader(loader);
+			return supplier.get();
+		}
+		finally
+		{
+			thread.setContextClassLoader(current);
+		}
+	}
+
+	@GraphQLRoot
+	public static class Root
+	{
+		@GraphQLField
+		public String name()
+		{
+			return "root";
+		}
+	}
+
+	@GraphQLObject
+	public static class Plain
+	{
+		@GraphQLField
+		public String name()
+		{
+			return "plain";
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLConstructor;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLInputObject;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class ImmutableInputObjectTest
+	extends GraphQLTest
+{
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder.withRoot(new Root());
+	}
+
+	@Test
+	public void testLiteral()
+	{
+		Result result = execute(" { doStuff(in: { name: \"test\", count: 2 }) }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("doStuff"), is("test:2"));
+	}
+
+	@Test
+	public void testVariable()
+	{
+		Result result = execute("query($in: ImmutableInput) { doStuff(in: $in) }", Map.of("in",
+			Map.of("name", "test", "count", 3)
+		));
+		result.assertNoErrors();
+
+		assertThat(result.pick("doStuff"), is("test:3"));
+	}
+
+	@Test
+	public void testMissingPrimitive()
+	{
+		Result result = execute(" { doStuff(in: { name: \"test\" }) }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("doStuff"), is("test:0"));
+	}
+
+	@Test
+	public void testSubLiteral()
+	{
+		Result result = execute(" { doStuff(in: { name: \"test\", count: 1, sub: { active: true } }) }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("doStuff"), is("TEST:1"));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public String doStuff(
+			@GraphQLName("in") ImmutableInput in
+		)
+		{
+			String name = in.sub != null && in.sub.active ? in.name.toUpperCase() : in.name;
+			return name + ":" + in.count;
+		}
+	}
+
+	@GraphQLInputObject
+	public static class ImmutableInput
+	{
+		private final String name;
+		private final int count;
+		private final SubInput sub;
+
+		@GraphQLConstructor
+		public ImmutableInput(
+			@GraphQLName("name") String name,
+			@GraphQLName("count") int count,
+			@GraphQLName("sub") SubInput sub
+		)
+		{
+			this.name = name;
+			this.count = count;
+			this.sub = sub;
+		}
+	}
+
+	@GraphQLInputObject
+	public static class SubInput
+	{
+		private final boolean active;
+
+		@GraphQLConstructor
+		public SubInput(@GraphQLName("active") boolean active)
+		{
+			this.active = active;
+		}
+	}
+}
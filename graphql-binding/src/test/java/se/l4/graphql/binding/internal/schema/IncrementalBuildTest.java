@@ -0,0 +1,253 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.GraphQL;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.GraphQLBinderSnapshot;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLInterface;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class IncrementalBuildTest
+	extends GraphQLTest
+{
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder
+			.withRoot(new Root())
+			.withType(Named.class)
+			.withType(Item.class)
+			.withType(Unrelated.class);
+	}
+
+	@Test
+	public void testAddTypeReusesUnaffectedTypes()
+	{
+		GraphQLBinderSnapshot snapshot = binder.buildSnapshot();
+		GraphQLSchema updated = snapshot.update()
+			.withType(OtherItem.class)
+			.build()
+			.build();
+
+		assertThat(updated.getObjectType("OtherItem"), notNullValue());
+		assertThat(updated.getImplementations((GraphQLInterfaceType) updated.getType("Named")).size(), is(2));
+
+		// Types not affected by the new type are reused
+		assertThat(updated.getObjectType("Unrelated"), sameInstance(snapshot.build().getObjectType("Unrelated")));
+
+		// The interface and its implementations are resolved again
+		assertThat(updated.getType("Named"), not(sameInstance(snapshot.build().getType("Named"))));
+
+		SchemaPrinter printer = new SchemaPrinter();
+		assertThat(printer.print(updated), is(printer.print(GraphQLBinder.newBinder()
+			.withRoot(new Root())
+			.withType(Named.class)
+			.withType(Item.class)
+			.withType(Unrelated.class)
+			.withType(OtherItem.class)
+			.build()
+		)));
+	}
+
+	@Test
+	public void testRemoveType()
+	{
+		GraphQLSchema updated = binder.buildSnapshot()
+			.update()
+			.withoutType(Unrelated.class)
+			.build()
+			.build();
+
+		assertThat(updated.getType("Unrelated"), nullValue());
+		assertThat(updated.getType("Item"), notNullValue());
+	}
+
+	@Test
+	public void testAddAndRemoveRoot()
+	{
+		GraphQLBinderSnapshot snapshot = binder.buildSnapshot()
+			.update()
+			.withRoot(new OtherRoot())
+			.build();
+
+		GraphQLSchema updated = snapshot.build();
+		assertThat(updated.getQueryType().getFieldDefinition("unrelated"), notNullValue());
+		assertThat(updated.getQueryType().getFieldDefinition("named"), notNullValue());
+
+		ql = GraphQL.newGraphQL(updated).build();
+		Result result = execute("{ named { name } unrelated { value } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("named", "name"), is("item"));
+		assertThat(result.pick("unrelated", "value"), is("unrelated"));
+
+		GraphQLSchema removed = snapshot.update()
+			.withoutRoot(OtherRoot.class)
+			.build()
+			.build();
+
+		assertThat(removed.getQueryType().getFieldDefinition("unrelated"), nullValue());
+		assertThat(removed.getObjectType("Item"), sameInstance(updated.getObjectType("Item")));
+	}
+
+	@Test
+	public void testReloadPlugin()
+	{
+		GraphQLBinderSnapshot snapshot = binder.buildSnapshot()
+			.update()
+			.withRoot(new PluginV1())
+			.build();
+
+		assertThat(snapshot.build().getObjectType("Thing"), notNullValue());
+
+		GraphQLBinderSnapshot unloaded = snapshot.update()
+			.withoutRoot(PluginV1.class)
+			.build();
+
+		GraphQLSchema schema = unloaded.build();
+		assertThat(schema.getType("Thing"), nullValue());
+		assertThat(schema.getQueryType().getFieldDefinition("thing"), nullValue());
+
+		// The data fetchers of the removed root are not kept
+		GraphQLCodeRegistry.Builder registry = GraphQLCodeRegistry.newCodeRegistry(schema.getCodeRegistry());
+		assertThat(registry.hasDataFetcher(FieldCoordinates.coordinates("Query", "thing")), is(false));
+		assertThat(registry.hasDataFetcher(FieldCoordinates.coordinates("Thing", "version")), is(false));
+
+		GraphQLSchema reloaded = unloaded.update()
+			.withRoot(new PluginV2())
+			.build()
+			.build();
+
+		ql = GraphQL.newGraphQL(reloaded).build();
+		Result result = execute("{ thing { version } named { name } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("thing", "version"), is(2));
+		assertThat(result.pick("named", "name"), is("item"));
+	}
+
+	@Test
+	public void testRemoveUnknownRootFails()
+	{
+		GraphQLBinderSnapshot snapshot = binder.buildSnapshot();
+
+		assertThrows(GraphQLMappingException.class, () -> snapshot.update().withoutRoot(OtherRoot.class));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public Named named()
+		{
+			return new Item();
+		}
+	}
+
+	public class OtherRoot
+	{
+		@GraphQLField
+		public Unrelated unrelated()
+		{
+			return new Unrelated();
+		}
+	}
+
+	public class PluginV1
+	{
+		@GraphQLField
+		public ThingV1 thing()
+		{
+			return new ThingV1();
+		}
+	}
+
+	public class PluginV2
+	{
+		@GraphQLField
+		public ThingV2 thing()
+		{
+			return new ThingV2();
+		}
+	}
+
+	@GraphQLObject
+	@GraphQLName("Thing")
+	public static class ThingV1
+	{
+		@GraphQLField
+		public int version()
+		{
+			return 1;
+		}
+	}
+
+	@GraphQLObject
+	@GraphQLName("Thing")
+	public static class ThingV2
+	{
+		@GraphQLField
+		public int version()
+		{
+			return 2;
+		}
+	}
+
+	@GraphQLInterface
+	public interface Named
+	{
+		@GraphQLField
+		String name();
+	}
+
+	@GraphQLObject
+	public static class Item
+		implements Named
+	{
+		@Override
+		@GraphQLField
+		public String name()
+		{
+			return "item";
+		}
+	}
+
+	@GraphQLObject
+	public static class OtherItem
+		implements Named
+	{
+		@Override
+		@GraphQLField
+		public String name()
+		{
+			return "other";
+		}
+	}
+
+	@GraphQLObject
+	public static class Unrelated
+	{
+		@GraphQLField
+		public String value()
+		{
+			return "unrelated";
+		}
+	}
+}
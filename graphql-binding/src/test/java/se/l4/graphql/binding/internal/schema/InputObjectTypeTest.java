@@ -63,6 +63,15 @@ public class InputObjectTypeTest
 		assertThat(result.pick("doStuff"), is("TEST"));
 	}
 
+	@Test
+	public void testNullSubLiteral()
+	{
+		Result result = execute(" { doStuff(in: { name: \"test\", sub: null }) }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("doStuff"), is("test"));
+	}
+
 	public class Root
 	{
 		@GraphQLField
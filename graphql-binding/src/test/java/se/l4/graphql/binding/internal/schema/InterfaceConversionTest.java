@@ -60,6 +60,29 @@ public class InterfaceConversionTest
 		assertThat(result.pick("list", "1", "extra"), is(10));
 	}
 
+	@Test
+	public void testListRepeatedTypes()
+	{
+		Result result = execute("{ repeated { id ... on GraphQLOverTypeB { extra } } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("repeated", "0", "id"), is("v0"));
+		assertThat(result.pick("repeated", "1", "id"), is("v1"));
+		assertThat(result.pick("repeated", "2", "id"), is("v2"));
+		assertThat(result.pick("repeated", "3", "id"), is("v3"));
+		assertThat(result.pick("repeated", "3", "extra"), is(10));
+	}
+
+	@Test
+	public void testUnknownType()
+	{
+		for(int i=0; i<2; i++)
+		{
+			Result result = execute("{ unknown { id } }");
+			assertThat(result.getErrors().size(), is(1));
+		}
+	}
+
 	public class Root
 	{
 		@GraphQLField
@@ -73,6 +96,18 @@ public class InterfaceConversionTest
 		{
 			return List.of(new TypeA("v0"), new TypeB("v1"));
 		}
+
+		@GraphQLField
+		public List<TestInterface> repeated()
+		{
+			return List.of(new TypeA("v0"), new TypeA("v1"), new TypeB("v2"), new TypeB("v3"));
+		}
+
+		@GraphQLField
+		public TestInterface unknown()
+		{
+			return new TypeC();
+		}
 	}
 
 	private interface TestInterface
@@ -118,6 +153,15 @@ public class InterfaceConversionTest
 		}
 	}
 
+	private class TypeC
+		implements TestInterface
+	{
+		@Override
+		public String id()
+		{
+			return "unknown";
+		}
+	}
 
 	@GraphQLInterface
 	@GraphQLConvertFrom(TestInterface.class)
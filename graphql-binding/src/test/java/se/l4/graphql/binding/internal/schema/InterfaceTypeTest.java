@@ -1,7 +1,9 @@
 package se.l4.graphql.binding.internal.schema;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -9,6 +11,7 @@ import graphql.Scalars;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLInterfaceType;
 import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.GraphQLMappingException;
 import se.l4.graphql.binding.annotations.GraphQLDeprecated;
 import se.l4.graphql.binding.annotations.GraphQLField;
 import se.l4.graphql.binding.annotations.GraphQLInterface;
@@ -56,6 +59,31 @@ public class InterfaceTypeTest
 		assertThat(result.pick("outputNonNull", "name"), is("test"));
 	}
 
+	@Test
+	public void testSubclass()
+	{
+		for(int i=0; i<2; i++)
+		{
+			Result result = execute("{ outputSubclass { name } }");
+			result.assertNoErrors();
+
+			assertThat(result.pick("outputSubclass", "name"), is("sub"));
+		}
+	}
+
+	@Test
+	public void testUnknownType()
+	{
+		for(int i=0; i<2; i++)
+		{
+			GraphQLMappingException e = assertThrows(
+				GraphQLMappingException.class,
+				() -> execute("{ outputUnknown { name } }")
+			);
+			assertThat(e.getMessage(), containsString("does not have a GraphQL type"));
+		}
+	}
+
 	public class Root
 	{
 		@GraphQLField
@@ -69,6 +97,18 @@ public class InterfaceTypeTest
 		{
 			return new Impl();
 		}
+
+		@GraphQLField
+		public Interface outputSubclass()
+		{
+			return new SubImpl();
+		}
+
+		@GraphQLField
+		public Interface outputUnknown()
+		{
+			return new Unknown();
+		}
 	}
 
 	@GraphQLInterface
@@ -97,4 +137,28 @@ public class InterfaceTypeTest
 			return "test";
 		}
 	}
+
+	public class SubImpl extends Impl
+	{
+		@Override
+		public String name()
+		{
+			return "sub";
+		}
+	}
+
+	public class Unknown implements Interface
+	{
+		@Override
+		public String name()
+		{
+			return "unknown";
+		}
+
+		@Override
+		public String lastName()
+		{
+			return "unknown";
+		}
+	}
 }
@@ -1,13 +1,20 @@
 package se.l4.graphql.binding.internal.schema;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import graphql.Scalars;
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLList;
 import se.l4.graphql.binding.GraphQLBinder;
 import se.l4.graphql.binding.annotations.GraphQLField;
@@ -76,8 +83,93 @@ public class ListTest
 		assertThat(result.pick("input"), is(2));
 	}
 
+	@Test
+	public void testInputIsCopied()
+	{
+		List<String> strings = new ArrayList<>(List.of("1", "2"));
+		Result result = execute(
+			"query($s: [String]!) { inputModified(strings: $s) }",
+			Map.of("s", strings)
+		);
+		result.assertNoErrors();
+
+		assertThat(result.pick("inputModified"), is(3));
+		assertThat(strings, is(List.of("1", "2")));
+
+		result = execute("{ inputModified(strings: [ \"1\" ]) }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("inputModified"), is(2));
+	}
+
+	@Test
+	public void testOutputArray()
+	{
+		Result result = execute("{ outputArray, outputSubArray { id } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("outputArray", "1"), is("two"));
+		assertThat(result.pick("outputSubArray", "1", "id"), is("two"));
+	}
+
+	@Test
+	public void testOutputConverted()
+	{
+		Result result = execute("{ outputOptional, outputOptionalIterable }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("outputOptional", "0"), is("one"));
+		assertThat(result.pick("outputOptional", "1"), is((Object) null));
+		assertThat(result.pick("outputOptionalIterable", "0"), is("one"));
+		assertThat(result.pick("outputOptionalIterable", "1"), is((Object) null));
+	}
+
+	@Test
+	public void testFieldWithoutConversionIsTrivial()
+	{
+		DataFetcher<?> fetcher = schema.getCodeRegistry().getDataFetcher(
+			FieldCoordinates.coordinates("Query", "strings"),
+			schema.getQueryType().getFieldDefinition("strings")
+		);
+
+		assertThat(fetcher, instanceOf(TrivialDataFetcher.class));
+
+		Result result = execute("{ strings }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("strings", "0"), is("one"));
+	}
+
 	public class Root
 	{
+		@GraphQLField
+		public final List<String> strings = List.of("one", "two");
+
+		@GraphQLField
+		public String[] outputArray()
+		{
+			return new String[] { "one", "two" };
+		}
+
+		@GraphQLField
+		public Sub[] outputSubArray()
+		{
+			return new Sub[] { new Sub("one"), new Sub("two") };
+		}
+
+		@GraphQLField
+		public List<Optional<String>> outputOptional()
+		{
+			return List.of(Optional.of("one"), Optional.empty());
+		}
+
+		@GraphQLField
+		public Iterable<Optional<String>> outputOptionalIterable()
+		{
+			List<Optional<String>> list = List.of(Optional.of("one"), Optional.empty());
+			return () -> list.iterator();
+		}
+
 		@GraphQLField
 		public List<String> outputString()
 		{
@@ -113,6 +205,15 @@ public class ListTest
 		{
 			return strings.size();
 		}
+
+		@GraphQLField
+		public int inputModified(
+			@GraphQLNonNull @GraphQLName("strings") List<String> strings
+		)
+		{
+			strings.add("added");
+			return strings.size();
+		}
 	}
 
 	@GraphQLObject
@@ -0,0 +1,81 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class MethodArgumentsTest
+	extends GraphQLTest
+{
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder.withRoot(new Root());
+	}
+
+	@Test
+	public void testNoArguments()
+	{
+		Result result = execute("{ zero }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("zero"), is(0));
+	}
+
+	@Test
+	public void testFourArguments()
+	{
+		Result result = execute("{ four(a: 1, b: 2, c: 3, d: 4) }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("four"), is(10));
+	}
+
+	@Test
+	public void testFiveArguments()
+	{
+		Result result = execute("{ five(a: 1, b: 2, c: 3, d: 4, e: 5) }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("five"), is(15));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public int zero()
+		{
+			return 0;
+		}
+
+		@GraphQLField
+		public int four(
+			@GraphQLName("a") int a,
+			@GraphQLName("b") int b,
+			@GraphQLName("c") int c,
+			@GraphQLName("d") int d
+		)
+		{
+			return a + b + c + d;
+		}
+
+		@GraphQLField
+		public int five(
+			@GraphQLName("a") int a,
+			@GraphQLName("b") int b,
+			@GraphQLName("c") int c,
+			@GraphQLName("d") int d,
+			@GraphQLName("e") int e
+		)
+		{
+			return a + b + c + d + e;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import se.l4.graphql.binding.GraphQLMappingException;
+import se.l4.graphql.binding.annotations.GraphQLConvertFrom;
+import se.l4.graphql.binding.annotations.GraphQLFactory;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLInterface;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.internal.InternalGraphQLSchemaBuilder;
+
+public class ParallelBuildTest
+{
+	private InternalGraphQLSchemaBuilder createBuilder(boolean parallel, Class<?>... types)
+	{
+		InternalGraphQLSchemaBuilder builder = new InternalGraphQLSchemaBuilder();
+
+		// A threshold of one makes even small schemas scan in parallel
+		builder.setParallelBuild(parallel, 1);
+
+		Root root = new Root();
+		builder.addRootType(Root.class, env -> root);
+		for(Class<?> type : types)
+		{
+			builder.addType(type);
+		}
+
+		return builder;
+	}
+
+	private GraphQLSchema build(boolean parallel)
+	{
+		return createBuilder(
+			parallel,
+			GraphQLOverTestInterface.class,
+			GraphQLOverTypeA.class,
+			GraphQLOverTypeB.class,
+			Other.class
+		).build().build();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testQuery()
+	{
+		GraphQL ql = GraphQL.newGraphQL(build(true)).build();
+		Map<String, Object> data = ql.execute("{ list { id ... on GraphQLOverTypeB { extra } } }").getData();
+
+		List<Map<String, Object>> list = (List<Map<String, Object>>) data.get("list");
+		assertThat(list.get(0).get("id"), is("v0"));
+		assertThat(list.get(1).get("id"), is("v1"));
+		assertThat(list.get(1).get("extra"), is(10));
+	}
+
+	@Test
+	public void testSameSchemaAsSequential()
+	{
+		SchemaPrinter printer = new SchemaPrinter();
+		assertThat(printer.print(build(true)), is(printer.print(build(false))));
+	}
+
+	@Test
+	public void testSameErrorAsSequential()
+	{
+		InternalGraphQLSchemaBuilder sequential = createBuilder(false, BrokenA.class, BrokenB.class);
+		InternalGraphQLSchemaBuilder parallel = createBuilder(true, BrokenA.class, BrokenB.class);
+
+		GraphQLMappingException e1 = assertThrows(GraphQLMappingException.class, sequential::build);
+		GraphQLMappingException e2 = assertThrows(GraphQLMappingException.class, parallel::build);
+
+		assertThat(e2.getMessage(), is(e1.getMessage()));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public List<TestInterface> list()
+		{
+			return List.of(new TypeA("v0"), new TypeB("v1"));
+		}
+
+		@GraphQLField
+		public Other other()
+		{
+			return new Other();
+		}
+	}
+
+	private interface TestInterface
+	{
+		String id();
+	}
+
+	private class TypeA
+		implements TestInterface
+	{
+		private final String id;
+
+		public TypeA(String id)
+		{
+			this.id = id;
+		}
+
+		@Override
+		public String id()
+		{
+			return this.id;
+		}
+	}
+
+	private class TypeB
+		implements TestInterface
+	{
+		private final String id;
+
+		public TypeB(String id)
+		{
+			this.id = id;
+		}
+
+		@Override
+		public String id()
+		{
+			return this.id;
+		}
+	}
+
+	@GraphQLInterface
+	@GraphQLConvertFrom(TestInterface.class)
+	public interface GraphQLOverTestInterface
+	{
+		@GraphQLField
+		String id();
+	}
+
+	@GraphQLObject
+	public class GraphQLOverTypeA
+		implements GraphQLOverTestInterface
+	{
+		private final TypeA data;
+
+		@GraphQLFactory
+		public GraphQLOverTypeA(@GraphQLSource TypeA data)
+		{
+			this.data = data;
+		}
+
+		@GraphQLField
+		public String id()
+		{
+			return data.id;
+		}
+	}
+
+	@GraphQLObject
+	public class GraphQLOverTypeB
+		implements GraphQLOverTestInterface
+	{
+		private final TypeB data;
+
+		@GraphQLFactory
+		public GraphQLOverTypeB(@GraphQLSource TypeB data)
+		{
+			this.data = data;
+		}
+
+		@GraphQLField
+		public String id()
+		{
+			return data.id;
+		}
+
+		@GraphQLField
+		public int extra()
+		{
+			return 10;
+		}
+	}
+
+	@GraphQLObject
+	public class Other
+	{
+		@GraphQLField
+		public String name()
+		{
+			return "other";
+		}
+	}
+
+	@GraphQLObject
+	public static class BrokenA
+	{
+		@GraphQLFactory
+		public BrokenA create(@GraphQLSource String source)
+		{
+			return new BrokenA();
+		}
+	}
+
+	@GraphQLObject
+	public static class BrokenB
+	{
+		@GraphQLFactory
+		public BrokenB create(@GraphQLSource Integer source)
+		{
+			return new BrokenB();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.impl.factory.primitive.DoubleLists;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.junit.jupiter.api.Test;
+
+import graphql.Scalars;
+import graphql.schema.GraphQLList;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.internal.GraphQLMatchers;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class PrimitiveListTest
+	extends GraphQLTest
+{
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder.withRoot(new Root());
+	}
+
+	@Test
+	public void testSchema()
+	{
+		assertThat(
+			schema.getQueryType().getFieldDefinition("intArray").getType(),
+			GraphQLMatchers.isSameType(GraphQLList.list(Scalars.GraphQLInt))
+		);
+
+		assertThat(
+			schema.getQueryType().getFieldDefinition("longList").getType(),
+			GraphQLMatchers.isSameType(GraphQLList.list(Scalars.GraphQLLong))
+		);
+
+		assertThat(
+			schema.getQueryType().getFieldDefinition("doubleArray").getType(),
+			GraphQLMatchers.isSameType(GraphQLList.list(Scalars.GraphQLFloat))
+		);
+	}
+
+	@Test
+	public void testArrays()
+	{
+		Result result = execute("{ intArray, longArray, doubleArray, nullArray }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("intArray", "1"), is(2));
+		assertThat(result.pick("longArray", "1"), is(20l));
+		assertThat(result.pick("doubleArray", "1"), is(2.5));
+		assertThat(result.pick("nullArray"), is((Object) null));
+	}
+
+	@Test
+	public void testLists()
+	{
+		Result result = execute("{ intList, longList, doubleList }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("intList", "2"), is(3));
+		assertThat(result.pick("longList", "0"), is(10l));
+		assertThat(result.pick("doubleList", "0"), is(1.5));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public int[] intArray()
+		{
+			return new int[] { 1, 2, 3 };
+		}
+
+		@GraphQLField
+		public long[] longArray()
+		{
+			return new long[] { 10l, 20l };
+		}
+
+		@GraphQLField
+		public double[] doubleArray()
+		{
+			return new double[] { 1.5, 2.5 };
+		}
+
+		@GraphQLField
+		public int[] nullArray()
+		{
+			return null;
+		}
+
+		@GraphQLField
+		public IntList intList()
+		{
+			return IntLists.immutable.of(1, 2, 3);
+		}
+
+		@GraphQLField
+		public LongList longList()
+		{
+			return LongLists.immutable.of(10l, 20l);
+		}
+
+		@GraphQLField
+		public DoubleList doubleList()
+		{
+			return DoubleLists.immutable.of(1.5, 2.5);
+		}
+	}
+}
@@ -4,10 +4,14 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLObjectType;
@@ -21,6 +25,9 @@ import se.l4.graphql.binding.annotations.GraphQLNonNull;
 import se.l4.graphql.binding.annotations.GraphQLObject;
 import se.l4.graphql.binding.annotations.GraphQLSource;
 import se.l4.graphql.binding.internal.GraphQLTest;
+import se.l4.graphql.binding.internal.PendingDataFetchingConversion;
+import se.l4.graphql.binding.resolver.DataFetchingConversion;
+import se.l4.graphql.binding.resolver.DataFetchingSupplier;
 
 public class SelfReferencingTypeTest
 	extends GraphQLTest
@@ -118,6 +125,34 @@ public class SelfReferencingTypeTest
 		assertThat(result.pick("convertingDirect", "and", "name"), is("Hello World"));
 	}
 
+	@Test
+	public void testConvertingDirectOptionalReference()
+	{
+		Result result = execute("{ convertingDirect(name: \"Hello\") { maybeAnd(other: \"World\") { name, maybeAnd(other: \"Again\") { name } } } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("convertingDirect", "maybeAnd", "name"), is("Hello World"));
+		assertThat(result.pick("convertingDirect", "maybeAnd", "maybeAnd", "name"), is("Hello World Again"));
+	}
+
+	@Test
+	public void testConvertingDirectListReference()
+	{
+		Result result = execute("{ convertingDirect(name: \"Hello\") { andAll(other: \"World\") { name } } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("convertingDirect", "andAll", "0", "name"), is("Hello World"));
+	}
+
+	@Test
+	public void testNoPendingConversionAfterBuild()
+		throws IllegalAccessException
+	{
+		assertThat(hasPendingConversion(fetcher("ConvertingDirectRef", "and")), is(false));
+		assertThat(hasPendingConversion(fetcher("ConvertingDirectRef", "maybeAnd")), is(false));
+		assertThat(hasPendingConversion(fetcher("ConvertingDirectRef", "andAll")), is(false));
+	}
+
 	@Test
 	public void testDirectInput()
 	{
@@ -127,6 +162,53 @@ public class SelfReferencingTypeTest
 		assertThat(result.pick("directInput"), is("Hello World"));
 	}
 
+	private DataFetcher<?> fetcher(String type, String field)
+	{
+		GraphQLObjectType objectType = schema.getObjectType(type);
+		return schema.getCodeRegistry().getDataFetcher(objectType, objectType.getFieldDefinition(field));
+	}
+
+	/**
+	 * Check if a fetcher or conversion, or anything it delegates to, is a
+	 * pending conversion.
+	 */
+	private static boolean hasPendingConversion(Object object)
+		throws IllegalAccessException
+	{
+		if(object instanceof PendingDataFetchingConversion)
+		{
+			return true;
+		}
+
+		if(object instanceof Object[])
+		{
+			for(Object item : (Object[]) object)
+			{
+				if(hasPendingConversion(item)) return true;
+			}
+
+			return false;
+		}
+
+		if(! (object instanceof DataFetchingConversion || object instanceof DataFetchingSupplier))
+		{
+			return false;
+		}
+
+		for(Class<?> type = object.getClass(); type != Object.class; type = type.getSuperclass())
+		{
+			for(Field field : type.getDeclaredFields())
+			{
+				if(Modifier.isStatic(field.getModifiers())) continue;
+
+				field.setAccessible(true);
+				if(hasPendingConversion(field.get(object))) return true;
+			}
+		}
+
+		return false;
+	}
+
 	public class Root
 	{
 		@GraphQLField
@@ -273,6 +355,22 @@ public class SelfReferencingTypeTest
 		{
 			return new NameHolder(holder.name + " " + name);
 		}
+
+		@GraphQLField
+		public Optional<NameHolder> maybeAnd(
+			@GraphQLNonNull @GraphQLName("other") String name
+		)
+		{
+			return Optional.of(new NameHolder(holder.name + " " + name));
+		}
+
+		@GraphQLField
+		public List<NameHolder> andAll(
+			@GraphQLNonNull @GraphQLName("other") String name
+		)
+		{
+			return List.of(new NameHolder(holder.name + " " + name));
+		}
 	}
 
 	@GraphQLInputObject
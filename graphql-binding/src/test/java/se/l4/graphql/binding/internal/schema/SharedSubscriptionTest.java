@@ -0,0 +1,296 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import io.reactivex.processors.PublishProcessor;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLContext;
+import se.l4.graphql.binding.annotations.GraphQLFactory;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.annotations.GraphQLShared;
+import se.l4.graphql.binding.annotations.GraphQLSource;
+import se.l4.graphql.binding.annotations.GraphQLSubscription;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class SharedSubscriptionTest
+	extends GraphQLTest
+{
+	private Root root;
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		root = new Root();
+		Event.created.set(0);
+
+		binder
+			.withRoot(root)
+			.withType(Event.class);
+	}
+
+	@Test
+	public void testSharedBetweenSubscribers()
+	{
+		Collector c1 = subscribe("subscription { prices(symbol: \"A\") }");
+		Collector c2 = subscribe("subscription { prices(symbol: \"A\") }");
+
+		assertThat(root.invocations.get(), is(1));
+		assertThat(root.subscriptions.get(), is(1));
+
+		root.processor.onNext(10);
+
+		assertThat(c1.values, is(List.of(10)));
+		assertThat(c2.values, is(List.of(10)));
+	}
+
+	@Test
+	public void testDifferentArgumentsNotShared()
+	{
+		subscribe("subscription { prices(symbol: \"A\") }");
+		subscribe("subscription { prices(symbol: \"B\") }");
+
+		assertThat(root.subscriptions.get(), is(2));
+	}
+
+	@Test
+	public void testUpstreamCancelledWhenLastLeaves()
+	{
+		Collector c1 = subscribe("subscription { prices(symbol: \"A\") }");
+		Collector c2 = subscribe("subscription { prices(symbol: \"A\") }");
+
+		c1.subscription.cancel();
+		assertThat(root.cancellations.get(), is(0));
+
+		root.processor.onNext(10);
+		assertThat(c1.values, is(List.of()));
+		assertThat(c2.values, is(List.of(10)));
+
+		c2.subscription.cancel();
+		assertThat(root.cancellations.get(), is(1));
+
+		// A new subscriber subscribes to the upstream again
+		subscribe("subscription { prices(symbol: \"A\") }");
+		assertThat(root.subscriptions.get(), is(2));
+	}
+
+	@Test
+	public void testCompletion()
+	{
+		Collector c1 = subscribe("subscription { prices(symbol: \"A\") }");
+		Collector c2 = subscribe("subscription { prices(symbol: \"A\") }");
+
+		root.processor.onNext(1);
+		root.processor.onComplete();
+
+		assertThat(c1.completed, is(true));
+		assertThat(c2.completed, is(true));
+		assertThat(c2.values, is(List.of(1)));
+	}
+
+	@Test
+	public void testCancelledWhenBufferFull()
+	{
+		Collector c1 = subscribe("subscription { prices(symbol: \"A\") }");
+
+		for(int i=0; i<300; i++)
+		{
+			root.processor.onNext(i);
+		}
+
+		// 10 requested and 256 buffered, the next event cancels the client
+		assertThat(c1.values.size(), is(10));
+		assertThat(c1.error != null, is(true));
+		assertThat(binder.getSubscriptionStats().getCancelledSubscribers(), is(1L));
+		assertThat(binder.getSubscriptionStats().getDroppedEvents(), is(0L));
+	}
+
+	@Test
+	public void testConvertedOnceWithoutContext()
+	{
+		Collector c1 = subscribe("subscription { events { user } }", "user1");
+		Collector c2 = subscribe("subscription { events { user } }", "user2");
+
+		assertThat(root.subscriptions.get(), is(1));
+
+		root.events.onNext(new Source());
+
+		assertThat(Event.created.get(), is(1));
+
+		Map<String, Object> expected = new HashMap<>();
+		expected.put("user", null);
+		assertThat(c1.values, is(List.of(expected)));
+		assertThat(c2.values, is(List.of(expected)));
+	}
+
+	@Test
+	public void testFailingConversionStopsAllClients()
+	{
+		Collector c1 = subscribe("subscription { events { user } }", "user1");
+		Collector c2 = subscribe("subscription { events { user } }", "user2");
+
+		root.events.onNext(new Source(true));
+
+		assertThat(c1.error != null, is(true));
+		assertThat(c2.error != null, is(true));
+		assertThat(root.cancellations.get(), is(1));
+	}
+
+	private Collector subscribe(String query)
+	{
+		Result result = execute(query);
+		result.assertNoErrors();
+
+		Publisher<ExecutionResult> publisher = result.getData();
+		Collector collector = new Collector();
+		publisher.subscribe(collector);
+		return collector;
+	}
+
+	private Collector subscribe(String query, String user)
+	{
+		Result result = new Result(ql.execute(ExecutionInput.newExecutionInput(query)
+			.context(graphql.GraphQLContext.newContext()
+				.of("user", user)
+			)
+			.build()
+		));
+		result.assertNoErrors();
+
+		Publisher<ExecutionResult> publisher = result.getData();
+		Collector collector = new Collector();
+		publisher.subscribe(collector);
+		return collector;
+	}
+
+	private static class Collector
+		implements Subscriber<ExecutionResult>
+	{
+		private final List<Object> values = new CopyOnWriteArrayList<>();
+		private Subscription subscription;
+		private volatile boolean completed;
+		private volatile Throwable error;
+
+		@Override
+		public void onSubscribe(Subscription s)
+		{
+			this.subscription = s;
+			s.request(10);
+		}
+
+		@Override
+		public void onNext(ExecutionResult result)
+		{
+			Map<String, Object> data = result.getData();
+			values.add(data.values().iterator().next());
+		}
+
+		@Override
+		public void onError(Throwable t)
+		{
+			error = t;
+		}
+
+		@Override
+		public void onComplete()
+		{
+			completed = true;
+		}
+	}
+
+	public class Root
+	{
+		private final PublishProcessor<Integer> processor = PublishProcessor.create();
+		private final PublishProcessor<Source> events = PublishProcessor.create();
+
+		private final AtomicInteger invocations = new AtomicInteger();
+		private final AtomicInteger subscriptions = new AtomicInteger();
+		private final AtomicInteger cancellations = new AtomicInteger();
+
+		@GraphQLField
+		public String none()
+		{
+			return null;
+		}
+
+		@GraphQLSubscription
+		@GraphQLShared
+		public Publisher<Integer> prices(
+			@GraphQLName("symbol") String symbol
+		)
+		{
+			invocations.incrementAndGet();
+			return processor
+				.doOnSubscribe(s -> subscriptions.incrementAndGet())
+				.doOnCancel(() -> cancellations.incrementAndGet());
+		}
+
+		@GraphQLSubscription
+		@GraphQLShared
+		public Publisher<Source> events()
+		{
+			return events
+				.doOnSubscribe(s -> subscriptions.incrementAndGet())
+				.doOnCancel(() -> cancellations.incrementAndGet());
+		}
+	}
+
+	public static class Source
+	{
+		private final boolean fail;
+
+		public Source()
+		{
+			this(false);
+		}
+
+		public Source(boolean fail)
+		{
+			this.fail = fail;
+		}
+	}
+
+	@GraphQLObject
+	public static class Event
+	{
+		private static final AtomicInteger created = new AtomicInteger();
+
+		private final String user;
+
+		@GraphQLFactory
+		public Event(
+			@GraphQLSource Source source,
+			@GraphQLContext("user") String user
+		)
+		{
+			if(source.fail)
+			{
+				throw new IllegalArgumentException("Conversion failed");
+			}
+
+			created.incrementAndGet();
+			this.user = user;
+		}
+
+		@GraphQLField
+		public String user()
+		{
+			return user;
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.Scalars;
+import graphql.schema.GraphQLList;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.internal.GraphQLMatchers;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class StreamTest
+	extends GraphQLTest
+{
+	private AtomicBoolean closed;
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		closed = new AtomicBoolean();
+
+		binder.withRoot(new Root());
+	}
+
+	@Test
+	public void testSchema()
+	{
+		graphql.schema.GraphQLType type = schema.getQueryType().getFieldDefinition("stream")
+			.getType();
+
+		assertThat(type, GraphQLMatchers.isSameType(GraphQLList.list(Scalars.GraphQLString)));
+	}
+
+	@Test
+	public void testStream()
+	{
+		Result result = execute("{ stream }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("stream", "0"), is("one"));
+		assertThat(result.pick("stream", "1"), is("two"));
+		assertThat(closed.get(), is(true));
+	}
+
+	@Test
+	public void testStreamWithConversion()
+	{
+		Result result = execute("{ optionalStream }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("optionalStream", "0"), is("one"));
+		assertThat(result.pick("optionalStream", "1"), is((Object) null));
+		assertThat(closed.get(), is(true));
+	}
+
+	@Test
+	public void testStreamOfObjects()
+	{
+		Result result = execute("{ subStream { id } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("subStream", "0", "id"), is("one"));
+		assertThat(result.pick("subStream", "1", "id"), is("two"));
+	}
+
+	@Test
+	public void testIterator()
+	{
+		Result result = execute("{ iterator }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("iterator", "0"), is("one"));
+		assertThat(result.pick("iterator", "1"), is("two"));
+	}
+
+	@Test
+	public void testSpliterator()
+	{
+		Result result = execute("{ spliterator }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("spliterator", "0"), is("one"));
+		assertThat(result.pick("spliterator", "1"), is("two"));
+	}
+
+	@Test
+	public void testStreamClosedOnFailure()
+	{
+		Result result = execute("{ failingStream }");
+
+		assertThat(result.getErrors().isEmpty(), is(false));
+		assertThat(closed.get(), is(true));
+	}
+
+	@Test
+	public void testNull()
+	{
+		Result result = execute("{ nullStream }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("nullStream"), is((Object) null));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public Stream<String> stream()
+		{
+			return Stream.of("one", "two")
+				.onClose(() -> closed.set(true));
+		}
+
+		@GraphQLField
+		public Stream<Optional<String>> optionalStream()
+		{
+			return Stream.of(Optional.of("one"), Optional.<String>empty())
+				.onClose(() -> closed.set(true));
+		}
+
+		@GraphQLField
+		public Stream<String> failingStream()
+		{
+			return Stream.of("one", "two")
+				.<String>map(item -> {
+					throw new IllegalStateException("Failed to read " + item);
+				})
+				.onClose(() -> closed.set(true));
+		}
+
+		@GraphQLField
+		public Stream<Sub> subStream()
+		{
+			return Stream.of(new Sub("one"), new Sub("two"));
+		}
+
+		@GraphQLField
+		public Iterator<String> iterator()
+		{
+			return List.of("one", "two").iterator();
+		}
+
+		@GraphQLField
+		public Spliterator<String> spliterator()
+		{
+			return List.of("one", "two").spliterator();
+		}
+
+		@GraphQLField
+		public Stream<String> nullStream()
+		{
+			return null;
+		}
+	}
+
+	@GraphQLObject
+	public class Sub
+	{
+		@GraphQLField
+		public final String id;
+
+		public Sub(String id)
+		{
+			this.id = id;
+		}
+	}
+}
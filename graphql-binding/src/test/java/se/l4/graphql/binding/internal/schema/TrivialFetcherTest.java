@@ -0,0 +1,112 @@
+package se.l4.graphql.binding.internal.schema;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLObjectType;
+import se.l4.graphql.binding.GraphQLBinder;
+import se.l4.graphql.binding.annotations.GraphQLField;
+import se.l4.graphql.binding.annotations.GraphQLName;
+import se.l4.graphql.binding.annotations.GraphQLObject;
+import se.l4.graphql.binding.internal.GraphQLTest;
+
+public class TrivialFetcherTest
+	extends GraphQLTest
+{
+
+	@Override
+	protected void setup(GraphQLBinder binder)
+	{
+		binder.withRoot(new Root());
+	}
+
+	private DataFetcher<?> fetcher(String field)
+	{
+		GraphQLObjectType type = (GraphQLObjectType) schema.getType("Item");
+		return schema.getCodeRegistry().getDataFetcher(
+			FieldCoordinates.coordinates("Item", field),
+			type.getFieldDefinition(field)
+		);
+	}
+
+	@Test
+	public void testFieldIsTrivial()
+	{
+		assertThat(fetcher("id"), instanceOf(TrivialDataFetcher.class));
+	}
+
+	@Test
+	public void testGetterIsTrivial()
+	{
+		assertThat(fetcher("name"), instanceOf(TrivialDataFetcher.class));
+	}
+
+	@Test
+	public void testConversionIsNotTrivial()
+	{
+		assertThat(fetcher("optional"), not(instanceOf(TrivialDataFetcher.class)));
+	}
+
+	@Test
+	public void testMethodIsNotTrivial()
+	{
+		assertThat(fetcher("compute"), not(instanceOf(TrivialDataFetcher.class)));
+	}
+
+	@Test
+	public void testExecute()
+	{
+		Result result = execute("{ item { id, name, optional, compute } }");
+		result.assertNoErrors();
+
+		assertThat(result.pick("item", "id"), is("1"));
+		assertThat(result.pick("item", "name"), is("Test"));
+		assertThat(result.pick("item", "optional"), is("value"));
+		assertThat(result.pick("item", "compute"), is("computed"));
+	}
+
+	public class Root
+	{
+		@GraphQLField
+		public Item item()
+		{
+			return new Item();
+		}
+	}
+
+	@GraphQLObject
+	@GraphQLName("Item")
+	public class Item
+	{
+		@GraphQLField
+		public final String id = "1";
+
+		@GraphQLField
+		@GraphQLName("name")
+		public String getName()
+		{
+			return "Test";
+		}
+
+		@GraphQLField
+		public Optional<String> optional()
+		{
+			return Optional.of("value");
+		}
+
+		@GraphQLField
+		public String compute()
+		{
+			return "computed";
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package se.l4.graphql.binding.internal.subscriptions;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+public class SerialExecutorTest
+{
+	@Test
+	public void testRunsInOrder()
+	{
+		List<Integer> ran = new ArrayList<>();
+		SerialExecutor executor = new SerialExecutor(Runnable::run);
+
+		executor.execute(() -> ran.add(1));
+		executor.execute(() -> ran.add(2));
+
+		assertThat(ran, is(List.of(1, 2)));
+	}
+
+	@Test
+	public void testRejectedExecutionIsRethrown()
+	{
+		RejectingExecutor rejecting = new RejectingExecutor();
+		rejecting.reject = true;
+
+		List<Integer> ran = new ArrayList<>();
+		SerialExecutor executor = new SerialExecutor(rejecting);
+
+		assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> ran.add(1)));
+
+		// The rejected task is dropped and the next task schedules a new run
+		rejecting.reject = false;
+		executor.execute(() -> ran.add(2));
+
+		assertThat(ran, is(List.of(2)));
+		assertThat(rejecting.accepted, is(1));
+	}
+
+	private static class RejectingExecutor
+		implements Executor
+	{
+		private boolean reject;
+		private int accepted;
+
+		@Override
+		public void execute(Runnable command)
+		{
+			if(reject)
+			{
+				throw new RejectedExecutionException();
+			}
+
+			accepted++;
+			command.run();
+		}
+	}
+}